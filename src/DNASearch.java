@@ -4,6 +4,7 @@ import autocomplete.TreeSetAutocomplete;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.util.AbstractCollection;
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Scanner;
@@ -33,10 +34,19 @@ public class DNASearch {
             if (prefix.isEmpty()) {
                 System.exit(0);
             }
-            List<CharSequence> matches = autocomplete.allMatches(prefix);
-            System.out.println(matches.size() + " matches");
-            for (int i = 0; i < Math.min(matches.size(), MAX_MATCHES); i += 1) {
-                CharSequence match = matches.get(i);
+            // Count every match in one lazy search, keeping only the first few to print
+            List<CharSequence> matches = new ArrayList<>(MAX_MATCHES);
+            long numMatches = 0;
+            Iterator<CharSequence> stream = autocomplete.streamMatches(prefix).iterator();
+            while (stream.hasNext()) {
+                CharSequence match = stream.next();
+                if (numMatches < MAX_MATCHES) {
+                    matches.add(match);
+                }
+                numMatches += 1;
+            }
+            System.out.println(numMatches + " matches");
+            for (CharSequence match : matches) {
                 if (match.length() >= 97) {
                     match = match.subSequence(0, 97) + "...";
                 }
@@ -4,6 +4,9 @@ import graphs.AStarGraph;
 import graphs.Edge;
 import graphs.shortestpaths.AStarSolver;
 import minpq.DoubleMapMinPQ;
+import minpq.InstrumentedMinPQ;
+import minpq.MinPQ;
+import minpq.TopKSelector;
 import org.locationtech.spatial4j.context.SpatialContext;
 import org.locationtech.spatial4j.shape.Point;
 import org.xml.sax.Attributes;
@@ -117,12 +120,33 @@ public class MapGraph implements AStarGraph<Point> {
      * @return a list of full names of locations matching the prefix.
      */
     public List<CharSequence> getLocationsByPrefix(String prefix, Point center, int maxMatches) {
-        List<CharSequence> matches = autocomplete.allMatches(prefix);
-        Map<CharSequence, Double> elementsAndPriorities = new HashMap<>(matches.size());
-        for (CharSequence match : matches) {
-            elementsAndPriorities.put(match, estimatedDistance(center, byName.get(match).get(0)));
+        return getLocationsByPrefix(prefix, center, maxMatches, 0);
+    }
+
+    /**
+     * Return one page of the names of all locations that prefix-match the query string, ordered by distance from the
+     * center.
+     *
+     * @param prefix     prefix string that could be any case with or without punctuation.
+     * @param center     the location to measure distances from.
+     * @param maxMatches the maximum number of names to return.
+     * @param offset     the number of closer names to skip, such as the offset returned with the previous page.
+     * @return a list of full names of locations matching the prefix.
+     * @throws IllegalArgumentException if offset or maxMatches is negative.
+     */
+    public List<CharSequence> getLocationsByPrefix(String prefix, Point center, int maxMatches, int offset) {
+        if (offset < 0 || maxMatches < 0) {
+            throw new IllegalArgumentException("offset and maxMatches must be non-negative but were " + offset
+                    + " and " + maxMatches);
         }
-        return new DoubleMapMinPQ<>(elementsAndPriorities).removeMin(maxMatches);
+        // Keep only the requested page and the matches before it rather than collecting every match
+        int k = (int) Math.min(Integer.MAX_VALUE, (long) offset + maxMatches);
+        TopKSelector<CharSequence> closest = new TopKSelector<>(k);
+        autocomplete.streamMatches(prefix).forEach(match ->
+                closest.offer(match, estimatedDistance(center, byName.get(match).get(0)))
+        );
+        List<CharSequence> result = closest.toSortedList();
+        return result.subList(Math.min(offset, result.size()), result.size());
     }
 
     /**
@@ -143,7 +167,37 @@ public class MapGraph implements AStarGraph<Point> {
      * @return a list of points representing the shortest path from the points closest to the start and goal.
      */
     public List<Point> shortestPath(Point start, Point goal) {
-        return new AStarSolver<>(this, closest(start), closest(goal)).solution();
+        return shortestPath(start, goal, new DoubleMapMinPQ<>());
+    }
+
+    /**
+     * Returns a list of points representing the shortest path from the points closest to the start and goal using the
+     * given empty priority queue for the perimeter. For example, pass an {@link InstrumentedMinPQ} to record the
+     * operations that each route costs.
+     *
+     * @param start     the {@link Point} to start the shortest path.
+     * @param goal      the {@link Point} to end the shortest path.
+     * @param perimeter the empty priority queue used to order the perimeter points.
+     * @return a list of points representing the shortest path from the points closest to the start and goal.
+     */
+    public List<Point> shortestPath(Point start, Point goal, MinPQ<Point> perimeter) {
+        return new AStarSolver<>(this, closest(start), closest(goal), perimeter).solution();
+    }
+
+    /**
+     * Returns a list of points representing a route from the points closest to the start and goal using weighted A*
+     * search, which expands fewer points than {@link #shortestPath(Point, Point)} but may return a route up to
+     * weight * (1 + epsilon) times longer than the shortest path.
+     *
+     * @param start   the {@link Point} to start the route.
+     * @param goal    the {@link Point} to end the route.
+     * @param weight  the factor of at least 1 for inflating the estimated distance to the goal.
+     * @param epsilon the relative error of the priority queue for the perimeter, or 0 for an exact priority queue.
+     * @return a list of points representing a route from the points closest to the start and goal.
+     * @see AStarSolver#AStarSolver(AStarGraph, Object, Object, double, double)
+     */
+    public List<Point> shortestPath(Point start, Point goal, double weight, double epsilon) {
+        return new AStarSolver<>(this, closest(start), closest(goal), weight, epsilon).solution();
     }
 
     @Override
@@ -1,5 +1,9 @@
 import io.javalin.Javalin;
 import io.javalin.validation.ValidationException;
+import minpq.DoubleMapMinPQ;
+import minpq.InstrumentedMinPQ;
+import minpq.MinPQ;
+import minpq.MinPQStats;
 import org.apache.commons.codec.binary.Base64InputStream;
 import org.locationtech.spatial4j.context.SpatialContext;
 import org.locationtech.spatial4j.shape.Point;
@@ -35,11 +39,16 @@ public class MapServer {
      * Maximum number of autocomplete search results.
      */
     private static final int MAX_MATCHES = 10;
+    /**
+     * Maximum number of autocomplete search results that can be skipped when paging.
+     */
+    private static final int MAX_OFFSET = 1000;
 
     public static void main(String[] args) throws Exception {
         SpatialContext context = SpatialContext.GEO;
         ShapeFactory factory = context.getShapeFactory();
         MapGraph map = new MapGraph(OSM_DB_PATH, ACCESS_PATH, context);
+        MinPQStats stats = stats();
         Javalin app = Javalin.create(config -> {
             config.spaRoot.addFile("/", "index.html");
         }).start(port());
@@ -60,7 +69,11 @@ public class MapServer {
                 double goalLat = ctx.queryParamAsClass("goalLat", Double.class).get();
                 Point start = factory.pointLatLon(startLat, startLon);
                 Point goal = factory.pointLatLon(goalLat, goalLon);
-                route = map.shortestPath(start, goal);
+                MinPQ<Point> perimeter = new DoubleMapMinPQ<>();
+                if (stats != null) {
+                    perimeter = new InstrumentedMinPQ<>(perimeter, stats);
+                }
+                route = map.shortestPath(start, goal, perimeter);
             } catch (ValidationException e) {
                 route = List.of();
             }
@@ -73,8 +86,14 @@ public class MapServer {
             double lat = ctx.pathParamAsClass("lat", Double.class).get();
             Point center = factory.pointLatLon(lat, lon);
             String term = ctx.pathParam("term");
-            ctx.json(map.getLocationsByPrefix(term, center, MAX_MATCHES));
+            int offset = ctx.queryParamAsClass("offset", Integer.class)
+                    .check(o -> o >= 0 && o <= MAX_OFFSET, "offset must be between 0 and " + MAX_OFFSET)
+                    .getOrDefault(0);
+            ctx.json(map.getLocationsByPrefix(term, center, MAX_MATCHES, offset));
         });
+        if (stats != null) {
+            app.get("/metrics", ctx -> ctx.contentType("text/plain; version=0.0.4").result(stats.metrics()));
+        }
     }
 
     /**
@@ -90,6 +109,19 @@ public class MapServer {
         return PORT;
     }
 
+    /**
+     * Returns the statistics for recording routing perimeter operations if the METRICS environment variable is true,
+     * or null so that routes use an uninstrumented perimeter.
+     *
+     * @return the statistics for recording routing perimeter operations, or null if metrics are disabled.
+     */
+    private static MinPQStats stats() {
+        if (Boolean.parseBoolean(System.getenv("METRICS"))) {
+            return new MinPQStats();
+        }
+        return null;
+    }
+
     /**
      * Return the API URL for retrieving the map image.
      *
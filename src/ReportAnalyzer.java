@@ -1,10 +1,10 @@
-import minpq.HeapMinPQ;
-import minpq.MinPQ;
+import minpq.TopKSelector;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,19 +40,14 @@ public class ReportAnalyzer {
                 .map(MatchResult::group)
                 .toList();
 
-        // TODO: Display the most commonly-reported WCAG recommendations using MinPQ
-        MinPQ<String> wcag = new HeapMinPQ<>();
-
-        for (int i = 0; i < wcagTags.size(); i++) {
-            if (wcag.contains(wcagTags.get(i))) {
-                wcag.addOrChangePriority(wcagTags.get(i), wcag.getPriority(wcagTags.get(i)) - 1);
-            } else {
-                wcag.add(wcagTags.get(i), -1);
-            }
+        // Count each tag, then select the 3 most common tags by using the negated count as the priority value
+        Map<String, Double> wcag = new HashMap<>();
+        for (String tag : wcagTags) {
+            wcag.merge(tag, -1.0, Double::sum);
         }
 
-        System.out.println(wcagDefinitions.get(wcag.removeMin()));
-        System.out.println(wcagDefinitions.get(wcag.removeMin()));
-        System.out.println(wcagDefinitions.get(wcag.removeMin()));
+        for (String tag : TopKSelector.select(wcag, 3)) {
+            System.out.println(wcagDefinitions.get(tag));
+        }
     }
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package autocomplete;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Suggest exact-character prefix matches for any query {@link CharSequence}.
@@ -10,6 +11,7 @@ import java.util.List;
  * @see SequentialSearchAutocomplete
  * @see BinarySearchAutocomplete
  * @see TernarySearchTreeAutocomplete
+ * @see PooledBinarySearchAutocomplete
  */
 public interface Autocomplete {
     /**
@@ -26,6 +28,18 @@ public interface Autocomplete {
      */
     List<CharSequence> allMatches(CharSequence prefix);
 
+    /**
+     * Returns a lazy stream of all autocompletion terms that match the given prefix. Matches are only searched for as
+     * the stream is consumed, so short-circuiting operations such as {@link Stream#limit(long)} stop the search early
+     * instead of collecting every match like {@link #allMatches(CharSequence)}.
+     *
+     * @param prefix search query.
+     * @return a stream of all autocompletion terms that match the given prefix.
+     */
+    default Stream<CharSequence> streamMatches(CharSequence prefix) {
+        return allMatches(prefix).stream();
+    }
+
     /**
      * Returns true if and only if the given term matches the given prefix.
      *
@@ -1,8 +1,11 @@
 package autocomplete;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Binary search implementation of the {@link Autocomplete} interface.
@@ -24,29 +27,67 @@ public class BinarySearchAutocomplete implements Autocomplete {
 
     @Override
     public void addAll(Collection<? extends CharSequence> terms) {
-        elements.addAll(terms);
-        elements.sort(CharSequence::compare);
+        CharSequence[] added = terms.toArray(new CharSequence[0]);
+        StringSort.parallelSort(added);
+        merge(added);
+    }
+
+    /**
+     * Merges the given sorted terms into the sorted list of elements. Rather than re-sorting every element, the new
+     * terms are appended and then the two sorted runs are merged in place starting from the back of the list.
+     *
+     * @param added the sorted terms to merge.
+     */
+    private void merge(CharSequence[] added) {
+        if (added.length == 0) {
+            return;
+        }
+        int i = elements.size() - 1;
+        elements.addAll(Arrays.asList(added));
+        if (i < 0 || CharSequence.compare(elements.get(i), added[0]) <= 0) {
+            return; // Already sorted: every added term belongs after the existing elements
+        }
+        int j = added.length - 1;
+        for (int k = elements.size() - 1; j >= 0; k -= 1) {
+            if (i >= 0 && CharSequence.compare(elements.get(i), added[j]) > 0) {
+                elements.set(k, elements.get(i));
+                i -= 1;
+            } else {
+                elements.set(k, added[j]);
+                j -= 1;
+            }
+        }
     }
 
     @Override
     public List<CharSequence> allMatches(CharSequence prefix) {
-        List<CharSequence> matches = new ArrayList<>();
-        int counter = 0;
-        boolean keepRunning = true;
+        return streamMatches(prefix).collect(Collectors.toCollection(ArrayList::new));
+    }
 
-        while (counter < elements.size() && !Autocomplete.isPrefixOf(prefix, elements.get(counter))) {
-            counter++;
-        }
+    @Override
+    public Stream<CharSequence> streamMatches(CharSequence prefix) {
+        // All matches are contiguous in the sorted list starting from the first element not less than the prefix
+        return elements.subList(lowerBound(prefix), elements.size()).stream()
+                .takeWhile(element -> Autocomplete.isPrefixOf(prefix, element));
+    }
 
-        while (counter < elements.size() && keepRunning) {
-            if (Autocomplete.isPrefixOf(prefix, elements.get(counter))) {
-                matches.add(elements.get(counter));
-            } else if (!Autocomplete.isPrefixOf(prefix, elements.get(counter))) {
-                keepRunning = false;
+    /**
+     * Returns the index of the first element that is greater than or equal to the given prefix.
+     *
+     * @param prefix search query.
+     * @return the index of the first element that is greater than or equal to the given prefix.
+     */
+    private int lowerBound(CharSequence prefix) {
+        int low = 0;
+        int high = elements.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (CharSequence.compare(elements.get(mid), prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
             }
-            counter++;
         }
-
-        return matches;
+        return low;
     }
 }
@@ -0,0 +1,90 @@
+package autocomplete;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Binary search implementation of the {@link Autocomplete} interface that stores its sorted terms in a
+ * {@link TermPool} rather than as individual objects, so that the index adds almost nothing to garbage collection.
+ *
+ * @see Autocomplete
+ * @see BinarySearchAutocomplete
+ * @see TermPool
+ */
+public class PooledBinarySearchAutocomplete implements Autocomplete {
+    /**
+     * {@link TermPool} of added autocompletion terms in sorted order.
+     */
+    private TermPool elements;
+
+    /**
+     * Constructs an empty instance.
+     */
+    public PooledBinarySearchAutocomplete() {
+        elements = new TermPool(new CharSequence[0]);
+    }
+
+    @Override
+    public void addAll(Collection<? extends CharSequence> terms) {
+        CharSequence[] added = terms.toArray(new CharSequence[0]);
+        StringSort.parallelSort(added);
+        // Merge the existing views with the added terms, then repack everything into a new pool
+        CharSequence[] merged = new CharSequence[elements.size() + added.length];
+        int i = 0;
+        int j = 0;
+        for (int k = 0; k < merged.length; k += 1) {
+            if (j == added.length || (i < elements.size() && elements.compare(i, added[j]) <= 0)) {
+                merged[k] = elements.get(i);
+                i += 1;
+            } else {
+                merged[k] = added[j];
+                j += 1;
+            }
+        }
+        elements = new TermPool(merged);
+    }
+
+    /**
+     * {@inheritDoc} Each match is copied out of the pool into a new {@link String}.
+     */
+    @Override
+    public List<CharSequence> allMatches(CharSequence prefix) {
+        return streamMatches(prefix).map(CharSequence::toString).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    /**
+     * {@inheritDoc} Each match is a view into the pool rather than a copy.
+     */
+    @Override
+    public Stream<CharSequence> streamMatches(CharSequence prefix) {
+        TermPool pool = elements;
+        return IntStream.range(lowerBound(pool, prefix), pool.size())
+                .takeWhile(index -> pool.startsWith(index, prefix))
+                .mapToObj(pool::get);
+    }
+
+    /**
+     * Returns the index of the first term in the pool that is greater than or equal to the given prefix.
+     *
+     * @param pool   the sorted pool of terms.
+     * @param prefix search query.
+     * @return the index of the first term in the pool that is greater than or equal to the given prefix.
+     */
+    private static int lowerBound(TermPool pool, CharSequence prefix) {
+        int low = 0;
+        int high = pool.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (pool.compare(mid, prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -3,6 +3,8 @@ package autocomplete;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Sequential search implementation of the {@link Autocomplete} interface.
@@ -29,16 +31,14 @@ public class SequentialSearchAutocomplete implements Autocomplete {
 
     @Override
     public List<CharSequence> allMatches(CharSequence prefix) {
-        List<CharSequence> result = new ArrayList<>();
-        if (prefix == null || prefix == "") {
-            return result;
-        }
-        for (CharSequence element : elements) {
-            if (element.length() >= prefix.length() &&
-                    element.toString().substring(0, prefix.length()).equals(prefix.toString())) {
-                result.add(element);
-            }
+        return streamMatches(prefix).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Override
+    public Stream<CharSequence> streamMatches(CharSequence prefix) {
+        if (prefix == null || prefix.length() == 0) {
+            return Stream.empty();
         }
-        return result;
+        return elements.stream().filter(element -> Autocomplete.isPrefixOf(prefix, element));
     }
 }
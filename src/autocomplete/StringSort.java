@@ -0,0 +1,249 @@
+package autocomplete;
+
+import java.io.Serial;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Multikey quicksort (3-way radix quicksort) for arrays of {@link CharSequence} terms. Produces the same order as
+ * {@link CharSequence#compare(CharSequence, CharSequence)}, but partitions on one character at a time so that a long
+ * prefix shared by many terms (such as DNA suffixes) is examined once per partition rather than once per comparison.
+ *
+ * @see Autocomplete
+ */
+public class StringSort {
+    /**
+     * Subarrays smaller than this size are sorted by insertion sort starting from the known common prefix length.
+     */
+    private static final int INSERTION_SORT_CUTOFF = 12;
+    /**
+     * Subarrays smaller than this size are sorted sequentially by {@link #parallelSort(CharSequence[])}.
+     */
+    private static final int PARALLEL_CUTOFF = 1 << 13;
+
+    private StringSort() {
+    }
+
+    /**
+     * Sorts the given array of terms into ascending order.
+     *
+     * @param terms the array to sort.
+     */
+    public static void sort(CharSequence[] terms) {
+        sort(terms, 0, terms.length - 1, 0);
+    }
+
+    /**
+     * Sorts the given array of terms into ascending order, sorting independent partitions in parallel using the
+     * {@link ForkJoinPool#commonPool()}.
+     *
+     * @param terms the array to sort.
+     */
+    public static void parallelSort(CharSequence[] terms) {
+        if (terms.length < PARALLEL_CUTOFF || ForkJoinPool.getCommonPoolParallelism() <= 1) {
+            sort(terms);
+        } else {
+            ForkJoinPool.commonPool().invoke(new ParallelSort(terms, 0, terms.length - 1, 0));
+        }
+    }
+
+    /**
+     * Sorts the terms between the given indices, all of which share the same first {@code d} characters.
+     *
+     * @param terms the array to sort.
+     * @param lo    the index of the first term (inclusive).
+     * @param hi    the index of the last term (inclusive).
+     * @param d     the length of the prefix shared by all the terms.
+     */
+    private static void sort(CharSequence[] terms, int lo, int hi, int d) {
+        while (hi - lo >= INSERTION_SORT_CUTOFF) {
+            int[] bounds = partition(terms, lo, hi, d);
+            int lt = bounds[0];
+            int gt = bounds[1];
+            sort(terms, lo, lt - 1, d);
+            sort(terms, gt + 1, hi, d);
+            if (charAt(terms[lt], d) < 0) {
+                return; // Every term in the middle partition ended at d, so they are all equal
+            }
+            // Iterate rather than recurse on the middle partition so that long shared prefixes don't overflow the stack
+            lo = lt;
+            hi = gt;
+            d += 1;
+        }
+        insertionSort(terms, lo, hi, d);
+    }
+
+    /**
+     * Partitions the terms between the given indices into those whose character at {@code d} is less than, equal to,
+     * and greater than a pivot character.
+     *
+     * @param terms the array to partition.
+     * @param lo    the index of the first term (inclusive).
+     * @param hi    the index of the last term (inclusive).
+     * @param d     the index of the character to partition on.
+     * @return the first and last index of the terms equal to the pivot character.
+     */
+    private static int[] partition(CharSequence[] terms, int lo, int hi, int d) {
+        swap(terms, lo, medianOfThree(terms, lo, lo + (hi - lo) / 2, hi, d));
+        int v = charAt(terms[lo], d);
+        int lt = lo;
+        int gt = hi;
+        int i = lo + 1;
+        while (i <= gt) {
+            int t = charAt(terms[i], d);
+            if (t < v) {
+                swap(terms, lt, i);
+                lt += 1;
+                i += 1;
+            } else if (t > v) {
+                swap(terms, i, gt);
+                gt -= 1;
+            } else {
+                i += 1;
+            }
+        }
+        return new int[]{lt, gt};
+    }
+
+    /**
+     * Sorts the terms between the given indices by insertion sort, comparing characters starting from {@code d}.
+     *
+     * @param terms the array to sort.
+     * @param lo    the index of the first term (inclusive).
+     * @param hi    the index of the last term (inclusive).
+     * @param d     the length of the prefix shared by all the terms.
+     */
+    private static void insertionSort(CharSequence[] terms, int lo, int hi, int d) {
+        for (int i = lo + 1; i <= hi; i += 1) {
+            CharSequence term = terms[i];
+            int j = i;
+            while (j > lo && compare(terms[j - 1], term, d) > 0) {
+                terms[j] = terms[j - 1];
+                j -= 1;
+            }
+            terms[j] = term;
+        }
+    }
+
+    /**
+     * Compares the two terms lexicographically starting from the character at index {@code d}.
+     *
+     * @param a the first term.
+     * @param b the second term.
+     * @param d the index of the first character to compare.
+     * @return a negative integer, zero, or a positive integer as {@code a} is less than, equal to, or greater than
+     * {@code b}.
+     */
+    private static int compare(CharSequence a, CharSequence b, int d) {
+        int length = Math.min(a.length(), b.length());
+        for (int i = d; i < length; i += 1) {
+            char x = a.charAt(i);
+            char y = b.charAt(i);
+            if (x != y) {
+                return x - y;
+            }
+        }
+        return a.length() - b.length();
+    }
+
+    /**
+     * Returns the index of the term whose character at {@code d} is the median of the three given terms.
+     *
+     * @param terms the array of terms.
+     * @param i     the index of the first candidate.
+     * @param j     the index of the second candidate.
+     * @param k     the index of the third candidate.
+     * @param d     the index of the character to compare.
+     * @return the index of the median candidate.
+     */
+    private static int medianOfThree(CharSequence[] terms, int i, int j, int k, int d) {
+        int a = charAt(terms[i], d);
+        int b = charAt(terms[j], d);
+        int c = charAt(terms[k], d);
+        if (a < b) {
+            return b < c ? j : (a < c ? k : i);
+        }
+        return b > c ? j : (a > c ? k : i);
+    }
+
+    /**
+     * Returns the character at index {@code d} of the term, or -1 if the term has no such character.
+     *
+     * @param term the term.
+     * @param d    the index of the character.
+     * @return the character at index {@code d} of the term, or -1 if the term has no such character.
+     */
+    private static int charAt(CharSequence term, int d) {
+        return d < term.length() ? term.charAt(d) : -1;
+    }
+
+    private static void swap(CharSequence[] terms, int i, int j) {
+        CharSequence temp = terms[i];
+        terms[i] = terms[j];
+        terms[j] = temp;
+    }
+
+    /**
+     * Sorts the less and greater partitions of a large subarray as forked tasks while continuing to partition the
+     * equal partition on the next character.
+     */
+    private static class ParallelSort extends RecursiveAction {
+        @Serial
+        private static final long serialVersionUID = 1L;
+        // Tasks share the array being sorted and are never serialized
+        private final transient CharSequence[] terms;
+        private final int lo;
+        private final int hi;
+        private final int d;
+
+        /**
+         * Constructs a task to sort the terms between the given indices, all of which share the first {@code d}
+         * characters.
+         *
+         * @param terms the array to sort.
+         * @param lo    the index of the first term (inclusive).
+         * @param hi    the index of the last term (inclusive).
+         * @param d     the length of the prefix shared by all the terms.
+         */
+        ParallelSort(CharSequence[] terms, int lo, int hi, int d) {
+            this.terms = terms;
+            this.lo = lo;
+            this.hi = hi;
+            this.d = d;
+        }
+
+        @Override
+        protected void compute() {
+            List<ParallelSort> tasks = new ArrayList<>();
+            int lo = this.lo;
+            int hi = this.hi;
+            int d = this.d;
+            while (hi - lo >= PARALLEL_CUTOFF) {
+                int[] bounds = partition(terms, lo, hi, d);
+                int lt = bounds[0];
+                int gt = bounds[1];
+                ParallelSort less = new ParallelSort(terms, lo, lt - 1, d);
+                ParallelSort greater = new ParallelSort(terms, gt + 1, hi, d);
+                less.fork();
+                greater.fork();
+                tasks.add(less);
+                tasks.add(greater);
+                if (charAt(terms[lt], d) < 0) {
+                    hi = lo - 1; // Every term in the middle partition ended at d, so they are all equal
+                } else {
+                    lo = lt;
+                    hi = gt;
+                    d += 1;
+                }
+            }
+            if (lo < hi) {
+                sort(terms, lo, hi, d);
+            }
+            for (ParallelSort task : tasks) {
+                task.join();
+            }
+        }
+    }
+}
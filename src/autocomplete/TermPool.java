@@ -0,0 +1,275 @@
+package autocomplete;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Immutable pool of terms packed as UTF-8 into a single {@code byte[]} arena with an {@code int[]} offset table.
+ * Whereas a {@link String} per term costs an object header, an array header, and its characters, the pool stores only
+ * the encoded bytes and one offset per term, and contains no references for the garbage collector to scan.
+ * <p>
+ * Terms are exposed as lightweight {@link CharSequence} views into the arena. Views of ASCII terms index directly into
+ * the arena; views of other terms decode the UTF-8 bytes once, the first time they are needed. Like
+ * {@link StringBuilder}, views do not override {@link Object#equals(Object)}, so compare them with
+ * {@link CharSequence#compare(CharSequence, CharSequence)}.
+ * <p>
+ * Since an unpaired surrogate character has no UTF-8 encoding, terms containing one are rejected rather than silently
+ * replaced, so that every term in the pool is exactly the term that was added.
+ *
+ * @see PooledBinarySearchAutocomplete
+ */
+public class TermPool {
+    /**
+     * The UTF-8 bytes of every term, one after another.
+     */
+    private final byte[] arena;
+    /**
+     * The index in the {@code arena} where each term starts, followed by the total number of bytes in the arena.
+     */
+    private final int[] offsets;
+    /**
+     * The indices of terms that contain non-ASCII characters.
+     */
+    private final BitSet nonAscii;
+
+    /**
+     * Constructs a pool containing the given terms in the same order.
+     *
+     * @param terms the terms to pack into the pool.
+     * @throws IllegalArgumentException if any term contains an unpaired surrogate character.
+     */
+    public TermPool(CharSequence[] terms) {
+        offsets = new int[terms.length + 1];
+        nonAscii = new BitSet();
+        // Unlike String.getBytes, a new encoder reports malformed input instead of replacing it
+        CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+        byte[] bytes = new byte[16];
+        int size = 0;
+        for (int i = 0; i < terms.length; i += 1) {
+            CharSequence term = terms[i];
+            offsets[i] = size;
+            ByteBuffer encoded = isAscii(term) ? null : encode(encoder, term);
+            int length = encoded == null ? term.length() : encoded.remaining();
+            if (size + length > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, size + length));
+            }
+            if (encoded == null) {
+                for (int j = 0; j < length; j += 1) {
+                    bytes[size + j] = (byte) term.charAt(j);
+                }
+            } else {
+                encoded.get(bytes, size, length);
+                nonAscii.set(i);
+            }
+            size += length;
+        }
+        offsets[terms.length] = size;
+        arena = Arrays.copyOf(bytes, size);
+    }
+
+    /**
+     * Returns the number of terms in this pool.
+     *
+     * @return the number of terms in this pool.
+     */
+    public int size() {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Returns a view of the term at the given index.
+     *
+     * @param index the index of the term.
+     * @return a view of the term at the given index.
+     */
+    public CharSequence get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("index " + index + ", size " + size());
+        }
+        if (nonAscii.get(index)) {
+            return new Utf8Term(offsets[index], offsets[index + 1]);
+        }
+        return new AsciiTerm(offsets[index], offsets[index + 1]);
+    }
+
+    /**
+     * Compares the term at the given index with the other sequence in the same order as
+     * {@link CharSequence#compare(CharSequence, CharSequence)} without creating a view.
+     *
+     * @param index the index of the term.
+     * @param other the sequence to compare against.
+     * @return a negative integer, zero, or a positive integer as the term is less than, equal to, or greater than the
+     * other sequence.
+     */
+    public int compare(int index, CharSequence other) {
+        if (nonAscii.get(index)) {
+            return CharSequence.compare(get(index).toString(), other);
+        }
+        int start = offsets[index];
+        int length = offsets[index + 1] - start;
+        int min = Math.min(length, other.length());
+        for (int i = 0; i < min; i += 1) {
+            int difference = (char) arena[start + i] - other.charAt(i);
+            if (difference != 0) {
+                return difference;
+            }
+        }
+        return length - other.length();
+    }
+
+    /**
+     * Returns true if and only if the term at the given index starts with the given prefix.
+     *
+     * @param index  the index of the term.
+     * @param prefix the prefix.
+     * @return true if and only if the term at the given index starts with the given prefix.
+     */
+    public boolean startsWith(int index, CharSequence prefix) {
+        if (nonAscii.get(index)) {
+            return Autocomplete.isPrefixOf(prefix, get(index).toString());
+        }
+        int start = offsets[index];
+        if (prefix.length() > offsets[index + 1] - start) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length(); i += 1) {
+            if ((char) arena[start + i] != prefix.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the UTF-8 encoding of the given term.
+     *
+     * @param encoder the UTF-8 encoder that reports malformed input.
+     * @param term    the term to encode.
+     * @return the UTF-8 encoding of the given term.
+     * @throws IllegalArgumentException if the term contains an unpaired surrogate character.
+     */
+    private static ByteBuffer encode(CharsetEncoder encoder, CharSequence term) {
+        try {
+            return encoder.encode(CharBuffer.wrap(term));
+        } catch (CharacterCodingException e) {
+            throw new IllegalArgumentException("Term contains an unpaired surrogate: " + term, e);
+        }
+    }
+
+    /**
+     * Returns true if and only if every character in the given sequence is ASCII.
+     *
+     * @param term the sequence to check.
+     * @return true if and only if every character in the given sequence is ASCII.
+     */
+    private static boolean isAscii(CharSequence term) {
+        for (int i = 0; i < term.length(); i += 1) {
+            if (term.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * A view of the bytes between the given indices in the arena.
+     */
+    private abstract class Term implements CharSequence {
+        /**
+         * The index of the first byte in the arena (inclusive).
+         */
+        final int start;
+        /**
+         * The index of the last byte in the arena (exclusive).
+         */
+        final int end;
+
+        Term(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String toString() {
+            return new String(arena, start, end - start, StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * A view of an ASCII term where each byte is one character.
+     */
+    private class AsciiTerm extends Term {
+        AsciiTerm(int start, int end) {
+            super(start, end);
+        }
+
+        @Override
+        public int length() {
+            return end - start;
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (index < 0 || index >= length()) {
+                throw new IndexOutOfBoundsException("index " + index + ", length " + length());
+            }
+            return (char) arena[start + index];
+        }
+
+        @Override
+        public CharSequence subSequence(int begin, int end) {
+            if (begin < 0 || begin > end || end > length()) {
+                throw new IndexOutOfBoundsException("begin " + begin + ", end " + end + ", length " + length());
+            }
+            return new AsciiTerm(start + begin, start + end);
+        }
+
+        @Override
+        public String toString() {
+            return new String(arena, start, end - start, StandardCharsets.ISO_8859_1);
+        }
+    }
+
+    /**
+     * A view of a term containing multi-byte UTF-8 characters. The term is decoded the first time it is accessed and
+     * cached, since UTF-8 cannot be indexed by character without decoding from the first byte.
+     */
+    private class Utf8Term extends Term {
+        /**
+         * The decoded term, or null if it has not been decoded yet.
+         */
+        private String decoded;
+
+        Utf8Term(int start, int end) {
+            super(start, end);
+        }
+
+        @Override
+        public int length() {
+            return toString().length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            return toString().charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int begin, int end) {
+            return toString().subSequence(begin, end);
+        }
+
+        @Override
+        public String toString() {
+            if (decoded == null) {
+                decoded = super.toString();
+            }
+            return decoded;
+        }
+    }
+}
@@ -1,8 +1,9 @@
 package autocomplete;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.List;
+import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Ternary search tree (TST) implementation of the {@link Autocomplete} interface.
@@ -27,9 +28,27 @@ public class TernarySearchTreeAutocomplete implements Autocomplete {
         if (terms == null) {
             throw new IllegalArgumentException("Empty collection terms for addAll method");
         }
-        for (CharSequence term: terms) {
-            overallRoot = addNode(overallRoot, term, 0);
+        CharSequence[] sorted = terms.toArray(new CharSequence[0]);
+        StringSort.parallelSort(sorted);
+        addBalanced(sorted, 0, sorted.length);
+    }
+
+    /**
+     * Adds the sorted terms between the given indices by adding the median term before recursively adding the lower
+     * and upper halves, so that the left and right links of the tree stay balanced even for sorted input.
+     *
+     * @param sorted the sorted terms.
+     * @param from   the index of the first term to add (inclusive).
+     * @param to     the index of the last term to add (exclusive).
+     */
+    private void addBalanced(CharSequence[] sorted, int from, int to) {
+        if (from >= to) {
+            return;
         }
+        int mid = (from + to) >>> 1;
+        overallRoot = addNode(overallRoot, sorted[mid], 0);
+        addBalanced(sorted, from, mid);
+        addBalanced(sorted, mid + 1, to);
     }
 
     private Node addNode(Node curr, CharSequence term, int i) {
@@ -52,16 +71,19 @@ public class TernarySearchTreeAutocomplete implements Autocomplete {
 
     @Override
     public List<CharSequence> allMatches(CharSequence prefix) {
-        List<CharSequence> terms = new ArrayList<CharSequence>();
-        if (prefix == null || prefix.isEmpty()) return terms;
+        return streamMatches(prefix).collect(Collectors.toCollection(ArrayList::new));
+    }
 
-        Node subTree = get(overallRoot, prefix, 0);
+    @Override
+    public Stream<CharSequence> streamMatches(CharSequence prefix) {
+        if (prefix == null || prefix.isEmpty()) return Stream.empty();
 
-        if (subTree == null) return terms;
-        if (subTree.isTerm) terms.add(prefix);
-        collect(subTree.mid, prefix + "", terms);
+        Node subTree = get(overallRoot, prefix, 0);
 
-        return terms;
+        if (subTree == null) return Stream.empty();
+        Iterator<CharSequence> matches = new MatchIterator(subTree, prefix.toString());
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(matches,
+                Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
     }
 
     private Node get(Node curr, CharSequence prefix, int i) {
@@ -80,15 +102,85 @@ public class TernarySearchTreeAutocomplete implements Autocomplete {
 
     }
 
-    private void collect(Node curr, String currString, List<CharSequence> terms) {
-        if (curr == null) return;
-        if (curr.isTerm) {
-            terms.add(currString + curr.data);
+    /**
+     * Lazily traverses the terms below a prefix node in sorted order using an explicit stack instead of recursion, so
+     * that only as much of the tree is visited as the client consumes.
+     */
+    private static class MatchIterator implements Iterator<CharSequence> {
+        /**
+         * Pending {@link Frame frames} in the traversal, with the next frame to visit on top.
+         */
+        private final Deque<Frame> stack;
+        /**
+         * The next term to return, or null if it has not been found yet.
+         */
+        private CharSequence next;
+
+        /**
+         * Constructs an iterator over the prefix itself (if it is a term) and all terms below the prefix node.
+         *
+         * @param prefixNode the node representing the last character of the prefix.
+         * @param prefix     the prefix.
+         */
+        MatchIterator(Node prefixNode, String prefix) {
+            stack = new ArrayDeque<>();
+            if (prefixNode.mid != null) {
+                stack.push(new Frame(prefixNode.mid, prefix, false));
+            }
+            if (prefixNode.isTerm) {
+                next = prefix;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null && !stack.isEmpty()) {
+                Frame frame = stack.pop();
+                Node curr = frame.node;
+                if (frame.emit) {
+                    next = frame.path + curr.data;
+                } else {
+                    // Terms in the left subtree come first, then this term, then the middle and right subtrees
+                    if (curr.right != null) stack.push(new Frame(curr.right, frame.path, false));
+                    if (curr.mid != null) stack.push(new Frame(curr.mid, frame.path + curr.data, false));
+                    if (curr.isTerm) stack.push(new Frame(curr, frame.path, true));
+                    if (curr.left != null) stack.push(new Frame(curr.left, frame.path, false));
+                }
+            }
+            return next != null;
         }
 
-        collect(curr.left, currString, terms);
-        collect(curr.mid, currString + curr.data, terms);
-        collect(curr.right, currString, terms);
+        @Override
+        public CharSequence next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            CharSequence result = next;
+            next = null;
+            return result;
+        }
+
+        /**
+         * A node to visit along with the characters on the path from the overall root to the node.
+         */
+        private static class Frame {
+            private final Node node;
+            private final String path;
+            private final boolean emit;
+
+            /**
+             * Constructs a frame for visiting the given node.
+             *
+             * @param node the node to visit.
+             * @param path the characters on the path to the node, excluding the node itself.
+             * @param emit true to return the term ending at the node, false to expand the node's subtrees.
+             */
+            Frame(Node node, String path, boolean emit) {
+                this.node = node;
+                this.path = path;
+                this.emit = emit;
+            }
+        }
     }
 
     /**
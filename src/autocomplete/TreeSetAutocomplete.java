@@ -1,6 +1,8 @@
 package autocomplete;
 
 import java.util.*;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * {@link TreeSet} implementation of the {@link Autocomplete} interface.
@@ -8,6 +10,11 @@ import java.util.*;
  * @see Autocomplete
  */
 public class TreeSetAutocomplete implements Autocomplete {
+    /**
+     * {@link Comparator} shared by the {@link TreeSet} and bulk-loaded {@link SortedTerms} so that {@link TreeSet}
+     * recognizes sorted input and builds a balanced tree directly from it.
+     */
+    private static final Comparator<CharSequence> COMPARATOR = CharSequence::compare;
     /**
      * {@link NavigableSet} of added autocompletion terms.
      */
@@ -17,31 +24,145 @@ public class TreeSetAutocomplete implements Autocomplete {
      * Constructs an empty instance.
      */
     public TreeSetAutocomplete() {
-        elements = new TreeSet<>(CharSequence::compare);
+        elements = new TreeSet<>(COMPARATOR);
     }
 
     @Override
     public void addAll(Collection<? extends CharSequence> terms) {
-        elements.addAll(terms);
+        CharSequence[] added = terms.toArray(new CharSequence[0]);
+        StringSort.parallelSort(added);
+        if (added.length >= elements.size()) {
+            // Rebuilding the whole tree from sorted input is linear, so it beats inserting a large batch one by one
+            CharSequence[] merged = new CharSequence[elements.size() + added.length];
+            int size = 0;
+            Iterator<CharSequence> existing = elements.iterator();
+            CharSequence next = existing.hasNext() ? existing.next() : null;
+            for (CharSequence term : added) {
+                while (next != null && COMPARATOR.compare(next, term) < 0) {
+                    size = append(merged, size, next);
+                    next = existing.hasNext() ? existing.next() : null;
+                }
+                size = append(merged, size, term);
+            }
+            while (next != null) {
+                size = append(merged, size, next);
+                next = existing.hasNext() ? existing.next() : null;
+            }
+            elements.clear();
+            elements.addAll(new SortedTerms(merged, 0, size));
+        } else {
+            // Inserting in sorted order keeps the insertion path in cache
+            elements.addAll(Arrays.asList(added));
+        }
+    }
+
+    /**
+     * Appends the term to the sorted array unless it is a duplicate of the last term in the array.
+     *
+     * @param sorted the sorted array of distinct terms.
+     * @param size   the number of terms in the sorted array.
+     * @param term   the term to append.
+     * @return the new number of terms in the sorted array.
+     */
+    private static int append(CharSequence[] sorted, int size, CharSequence term) {
+        if (size > 0 && COMPARATOR.compare(sorted[size - 1], term) == 0) {
+            return size;
+        }
+        sorted[size] = term;
+        return size + 1;
     }
 
     @Override
     public List<CharSequence> allMatches(CharSequence prefix) {
-        List<CharSequence> result = new ArrayList<>();
+        return streamMatches(prefix).collect(Collectors.toCollection(ArrayList::new));
+    }
+
+    @Override
+    public Stream<CharSequence> streamMatches(CharSequence prefix) {
         if (prefix == null || prefix.length() == 0) {
-            return result;
+            return Stream.empty();
+        }
+        // All matches are contiguous in the tail set starting from the prefix itself
+        return elements.tailSet(prefix, true).stream().takeWhile(term -> Autocomplete.isPrefixOf(prefix, term));
+    }
+
+    /**
+     * Unmodifiable {@link SortedSet} view of a range of a sorted array of distinct terms. Passing an instance to
+     * {@link TreeSet#addAll(Collection)} on an empty set builds the tree in linear time without any comparisons.
+     */
+    private static class SortedTerms extends AbstractSet<CharSequence> implements SortedSet<CharSequence> {
+        private final CharSequence[] terms;
+        private final int from;
+        private final int to;
+
+        /**
+         * Constructs a view of the terms between the given indices.
+         *
+         * @param terms the sorted array of distinct terms.
+         * @param from  the index of the first term (inclusive).
+         * @param to    the index of the last term (exclusive).
+         */
+        SortedTerms(CharSequence[] terms, int from, int to) {
+            this.terms = terms;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Comparator<? super CharSequence> comparator() {
+            return COMPARATOR;
+        }
+
+        @Override
+        public Iterator<CharSequence> iterator() {
+            return Arrays.asList(terms).subList(from, to).iterator();
+        }
+
+        @Override
+        public int size() {
+            return to - from;
+        }
+
+        @Override
+        public SortedSet<CharSequence> subSet(CharSequence fromElement, CharSequence toElement) {
+            return new SortedTerms(terms, lowerBound(fromElement), Math.max(from, lowerBound(toElement)));
         }
-        CharSequence start = elements.ceiling(prefix);
-        if (start == null) {
-            return result;
+
+        @Override
+        public SortedSet<CharSequence> headSet(CharSequence toElement) {
+            return new SortedTerms(terms, from, lowerBound(toElement));
+        }
+
+        @Override
+        public SortedSet<CharSequence> tailSet(CharSequence fromElement) {
+            return new SortedTerms(terms, lowerBound(fromElement), to);
         }
-        for (CharSequence term : elements.tailSet(start)) {
-            if (Autocomplete.isPrefixOf(prefix, term)) {
-                result.add(term);
-            } else {
-                return result;
+
+        @Override
+        public CharSequence first() {
+            if (isEmpty()) {
+                throw new NoSuchElementException();
             }
+            return terms[from];
+        }
+
+        @Override
+        public CharSequence last() {
+            if (isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            return terms[to - 1];
+        }
+
+        /**
+         * Returns the index of the first term in this view that is greater than or equal to the given term.
+         *
+         * @param term the term to search for.
+         * @return the index of the first term in this view that is greater than or equal to the given term.
+         */
+        private int lowerBound(CharSequence term) {
+            int index = Arrays.binarySearch(terms, from, to, term, COMPARATOR);
+            return index >= 0 ? index : -(index + 1);
         }
-        return result;
     }
 }
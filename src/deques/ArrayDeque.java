@@ -1,17 +1,23 @@
 package deques;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
 /**
- * An array implementation of the {@link Deque} interface.
+ * An array implementation of the {@link Deque} interface. The capacity is always a power of two, so indices wrap
+ * around the underlying array with a bitmask rather than a comparison, and resizing or moving a batch of elements takes
+ * at most two calls to {@link System#arraycopy}, one for each side of the wraparound.
  *
  * @see Deque
  */
 public class ArrayDeque<E> implements Deque<E> {
     /**
-     * The initial capacity for the underlying array of elements.
+     * The initial capacity for the underlying array of elements, which must be a power of two.
      */
     private static final int INITIAL_CAPACITY = 8;
     /**
-     * The underlying array of elements stored in this deque.
+     * The underlying array of elements stored in this deque, whose length is a power of two.
      */
     private E[] data;
     /**
@@ -44,7 +50,7 @@ public class ArrayDeque<E> implements Deque<E> {
             resize(data.length * 2);
         }
         data[front] = element;
-        front = decrement(front, data.length);
+        front = (front - 1) & (data.length - 1);
         size += 1;
     }
 
@@ -54,7 +60,7 @@ public class ArrayDeque<E> implements Deque<E> {
             resize(data.length * 2);
         }
         data[back] = element;
-        back = increment(back, data.length);
+        back = (back + 1) & (data.length - 1);
         size += 1;
     }
 
@@ -63,7 +69,7 @@ public class ArrayDeque<E> implements Deque<E> {
         if (size == 0) {
             return null;
         }
-        front = increment(front, data.length);
+        front = (front + 1) & (data.length - 1);
         E result = data[front];
         data[front] = null;
         size -= 1;
@@ -78,7 +84,7 @@ public class ArrayDeque<E> implements Deque<E> {
         if (size == 0) {
             return null;
         }
-        back = decrement(back, data.length);
+        back = (back - 1) & (data.length - 1);
         E result = data[back];
         data[back] = null;
         size -= 1;
@@ -88,13 +94,49 @@ public class ArrayDeque<E> implements Deque<E> {
         return result;
     }
 
+    @Override
+    public void addAllLast(Collection<? extends E> elements) {
+        Object[] array = elements.toArray();
+        if (size + array.length > data.length) {
+            // Grow once to the smallest power of two that fits every element
+            resize(Integer.highestOneBit(size + array.length - 1) << 1);
+        }
+        int firstLength = Math.min(array.length, data.length - back);
+        System.arraycopy(array, 0, data, back, firstLength);
+        System.arraycopy(array, firstLength, data, 0, array.length - firstLength);
+        back = (back + array.length) & (data.length - 1);
+        size += array.length;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> collection, int maxElements) {
+        int numElements = Math.max(0, Math.min(maxElements, size));
+        int first = (front + 1) & (data.length - 1);
+        int firstLength = Math.min(numElements, data.length - first);
+        List<E> view = Arrays.asList(data);
+        collection.addAll(view.subList(first, first + firstLength));
+        collection.addAll(view.subList(0, numElements - firstLength));
+        Arrays.fill(data, first, first + firstLength, null);
+        Arrays.fill(data, 0, numElements - firstLength, null);
+        front = (front + numElements) & (data.length - 1);
+        size -= numElements;
+        // Shrink once to the capacity that repeated single removals would have reached
+        int capacity = data.length;
+        while (((double) size) / capacity < 0.25 && capacity > INITIAL_CAPACITY) {
+            capacity /= 2;
+        }
+        if (capacity < data.length) {
+            resize(capacity);
+        }
+        return numElements;
+    }
+
     @Override
     public E get(int index) {
         if ((index >= size) || (index < 0)) {
             return null;
         }
-        int place = front + 1 + index;
-        return data[place % data.length];
+        return data[(front + 1 + index) & (data.length - 1)];
     }
 
     @Override
@@ -109,10 +151,10 @@ public class ArrayDeque<E> implements Deque<E> {
         }
         StringBuilder result = new StringBuilder();
         result.append('[');
-        int i = increment(front, data.length);
+        int i = (front + 1) & (data.length - 1);
         while (i != back) {
             result.append(data[i]);
-            i = increment(i, data.length);
+            i = (i + 1) & (data.length - 1);
             if (i != back) {
                 result.append(", ");
             }
@@ -122,35 +164,7 @@ public class ArrayDeque<E> implements Deque<E> {
     }
 
     /**
-     * Increments the given index i, wrapping back to 0 if it is equal to length - 1.
-     *
-     * @param i the given index
-     * @param length the wrap limit
-     * @return the incremented index
-     */
-    private static int increment(int i, int length) {
-        if (i == length - 1) {
-            return 0;
-        }
-        return i + 1;
-    }
-
-    /**
-     * Decrements the given index i, wrapping back to length - 1 if it is equal to 0.
-     *
-     * @param i the given index
-     * @param length the wrap limit
-     * @return the decremented index
-     */
-    private static int decrement(int i, int length) {
-        if (i == 0) {
-            return length - 1;
-        }
-        return i - 1;
-    }
-
-    /**
-     * Updates the length of the underlying element data array to the given capacity, copying over
+     * Updates the length of the underlying element data array to the given power of two capacity, copying over
      * elements as necessary.
      *
      * @param capacity the length of the new element data array
@@ -158,11 +172,10 @@ public class ArrayDeque<E> implements Deque<E> {
     @SuppressWarnings("unchecked")
     private void resize(int capacity) {
         E[] newData = (E[]) new Object[capacity];
-        int i = increment(front, data.length);
-        for (int newIndex = 0; newIndex < size; newIndex += 1) {
-            newData[newIndex] = data[i];
-            i = increment(i, data.length);
-        }
+        int first = (front + 1) & (data.length - 1);
+        int firstLength = Math.min(size, data.length - first);
+        System.arraycopy(data, first, newData, 0, firstLength);
+        System.arraycopy(data, 0, newData, firstLength, size - firstLength);
         front = newData.length - 1;
         back = size;
         data = newData;
@@ -0,0 +1,282 @@
+package deques;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A chunked (unrolled) implementation of the {@link Deque} interface that stores elements in fixed-size array blocks
+ * referenced from a circular block index. Unlike {@link LinkedDeque}, neighboring elements share a block, so there is
+ * one allocation per block rather than per element and {@link #get(int)} computes the block and the slot directly in
+ * constant time. Unlike {@link ArrayDeque}, growing never copies elements: only the block index, which holds one
+ * reference per block, is copied when it runs out of room.
+ * <p>
+ * Element i is stored at position {@code offset + i}, where offset is the slot of the front element in the first
+ * block, so its block is {@code (offset + i) / BLOCK_SIZE} blocks after the first block. Since the block size and the
+ * index length are powers of two, both divisions are shifts and masks. Blocks are allocated when an end reaches them
+ * and released when an end leaves them, keeping one spare block so that alternating adds and removes across a block
+ * boundary do not allocate every time.
+ *
+ * @see Deque
+ * @see ArrayDeque
+ * @see LinkedDeque
+ */
+public class ChunkedDeque<E> implements Deque<E> {
+    /**
+     * The base-2 logarithm of the number of elements in each block.
+     */
+    private static final int BLOCK_SHIFT = 6;
+    /**
+     * The number of elements in each block, which must be a power of two.
+     */
+    private static final int BLOCK_SIZE = 1 << BLOCK_SHIFT;
+    /**
+     * The initial length for the block index, which must be a power of two.
+     */
+    private static final int INITIAL_CAPACITY = 8;
+    /**
+     * The circular block index, whose length is a power of two and whose unused entries are null.
+     */
+    private E[][] blocks;
+    /**
+     * The index in the block index of the block containing the front element.
+     */
+    private int first;
+    /**
+     * The slot of the front element in the first block.
+     */
+    private int offset;
+    /**
+     * The number of elements in this deque.
+     */
+    private int size;
+    /**
+     * A released block kept for reuse, or null.
+     */
+    private E[] spare;
+
+    /**
+     * Constructs an empty deque.
+     */
+    @SuppressWarnings("unchecked")
+    public ChunkedDeque() {
+        blocks = (E[][]) new Object[INITIAL_CAPACITY][];
+        // Start in the middle of a block so that either end can grow without allocating at first
+        first = 0;
+        offset = BLOCK_SIZE / 2;
+        size = 0;
+    }
+
+    @Override
+    public void addFirst(E element) {
+        if (offset == 0) {
+            if (numBlocks() == blocks.length) {
+                resize(blocks.length * 2);
+            }
+            first = (first - 1) & (blocks.length - 1);
+            offset = BLOCK_SIZE;
+        }
+        offset -= 1;
+        block(first)[offset] = element;
+        size += 1;
+    }
+
+    @Override
+    public void addLast(E element) {
+        int position = offset + size;
+        if ((position >> BLOCK_SHIFT) == blocks.length) {
+            resize(blocks.length * 2);
+        }
+        block((first + (position >> BLOCK_SHIFT)) & (blocks.length - 1))[position & (BLOCK_SIZE - 1)] = element;
+        size += 1;
+    }
+
+    @Override
+    public void addAllLast(Collection<? extends E> elements) {
+        Object[] array = elements.toArray();
+        int needed = (offset + size + array.length + BLOCK_SIZE - 1) >> BLOCK_SHIFT;
+        if (needed > blocks.length) {
+            // Grow once to the smallest power of two that fits every block
+            resize(Integer.highestOneBit(needed - 1) << 1);
+        }
+        // Copy a block at a time
+        int i = 0;
+        while (i < array.length) {
+            int position = offset + size;
+            int slot = position & (BLOCK_SIZE - 1);
+            int length = Math.min(array.length - i, BLOCK_SIZE - slot);
+            E[] block = block((first + (position >> BLOCK_SHIFT)) & (blocks.length - 1));
+            System.arraycopy(array, i, block, slot, length);
+            i += length;
+            size += length;
+        }
+    }
+
+    @Override
+    public E removeFirst() {
+        if (size == 0) {
+            return null;
+        }
+        E[] block = blocks[first];
+        E result = block[offset];
+        block[offset] = null;
+        offset += 1;
+        size -= 1;
+        if (offset == BLOCK_SIZE) {
+            release(first);
+            first = (first + 1) & (blocks.length - 1);
+            offset = 0;
+            if (needsDownsize()) {
+                resize(blocks.length / 2);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public E removeLast() {
+        if (size == 0) {
+            return null;
+        }
+        size -= 1;
+        int position = offset + size;
+        int index = (first + (position >> BLOCK_SHIFT)) & (blocks.length - 1);
+        E[] block = blocks[index];
+        E result = block[position & (BLOCK_SIZE - 1)];
+        block[position & (BLOCK_SIZE - 1)] = null;
+        if ((position & (BLOCK_SIZE - 1)) == 0) {
+            release(index);
+            if (needsDownsize()) {
+                resize(blocks.length / 2);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> collection, int maxElements) {
+        int numElements = Math.max(0, Math.min(maxElements, size));
+        // Move a block at a time
+        int remaining = numElements;
+        while (remaining > 0) {
+            int length = Math.min(remaining, BLOCK_SIZE - offset);
+            E[] block = blocks[first];
+            collection.addAll(Arrays.asList(block).subList(offset, offset + length));
+            Arrays.fill(block, offset, offset + length, null);
+            offset += length;
+            size -= length;
+            remaining -= length;
+            if (offset == BLOCK_SIZE) {
+                release(first);
+                first = (first + 1) & (blocks.length - 1);
+                offset = 0;
+            }
+        }
+        // Shrink once to the capacity that repeated single removals would have reached
+        int capacity = blocks.length;
+        while (numBlocks() < capacity / 4 && capacity > INITIAL_CAPACITY) {
+            capacity /= 2;
+        }
+        if (capacity < blocks.length) {
+            resize(capacity);
+        }
+        return numElements;
+    }
+
+    @Override
+    public E get(int index) {
+        if ((index >= size) || (index < 0)) {
+            return null;
+        }
+        int position = offset + index;
+        return blocks[(first + (position >> BLOCK_SHIFT)) & (blocks.length - 1)][position & (BLOCK_SIZE - 1)];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        if (size == 0) {
+            return "[]";
+        }
+        StringBuilder result = new StringBuilder();
+        result.append('[');
+        for (int i = 0; i < size; i += 1) {
+            result.append(get(i));
+            if (i < size - 1) {
+                result.append(", ");
+            }
+        }
+        result.append(']');
+        return result.toString();
+    }
+
+    /**
+     * Returns the block at the given index in the block index, allocating it or reusing the spare block if absent.
+     *
+     * @param index the index in the block index
+     * @return the block at the given index
+     */
+    @SuppressWarnings("unchecked")
+    private E[] block(int index) {
+        E[] result = blocks[index];
+        if (result == null) {
+            if (spare != null) {
+                result = spare;
+                spare = null;
+            } else {
+                result = (E[]) new Object[BLOCK_SIZE];
+            }
+            blocks[index] = result;
+        }
+        return result;
+    }
+
+    /**
+     * Removes the empty block at the given index from the block index, keeping it as the spare block.
+     *
+     * @param index the index in the block index
+     */
+    private void release(int index) {
+        spare = blocks[index];
+        blocks[index] = null;
+    }
+
+    /**
+     * Returns the number of blocks spanned by the positions from the front slot to the back of this deque.
+     *
+     * @return the number of blocks in use
+     */
+    private int numBlocks() {
+        return (offset + size + BLOCK_SIZE - 1) >> BLOCK_SHIFT;
+    }
+
+    /**
+     * Updates the length of the block index to the given power of two capacity, copying over the block references so
+     * that the first block is at index 0. The elements themselves are never copied.
+     *
+     * @param capacity the length of the new block index
+     */
+    @SuppressWarnings("unchecked")
+    private void resize(int capacity) {
+        E[][] newBlocks = (E[][]) new Object[capacity][];
+        int numBlocks = numBlocks();
+        int firstLength = Math.min(numBlocks, blocks.length - first);
+        System.arraycopy(blocks, first, newBlocks, 0, firstLength);
+        System.arraycopy(blocks, 0, newBlocks, firstLength, numBlocks - firstLength);
+        first = 0;
+        blocks = newBlocks;
+    }
+
+    /**
+     * Returns true if and only if the block index needs to be downsized. This helps minimize unused memory when many
+     * elements are removed from the deque.
+     *
+     * @return true if a block index downsize is necessary
+     */
+    private boolean needsDownsize() {
+        return numBlocks() < blocks.length / 4 && blocks.length > INITIAL_CAPACITY;
+    }
+}
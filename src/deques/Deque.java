@@ -1,5 +1,9 @@
 package deques;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 /**
  * A double-ended queue that allows addition, removal, and access to elements at either the front or
  * the back of the collection. The front of the deque contains the first element (aka "head") while
@@ -24,6 +28,18 @@ public interface Deque<E> {
      */
     void addLast(E element);
 
+    /**
+     * Adds all the given elements to the back of this deque in the order returned by the collection's iterator.
+     * Implementations may override this method to add a large batch faster than adding each element.
+     *
+     * @param elements the elements to add
+     */
+    default void addAllLast(Collection<? extends E> elements) {
+        for (E element : elements) {
+            addLast(element);
+        }
+    }
+
     /**
      * Gets the element at the given index, where 0 is the front, 1 is the next element, and so forth.
      * If no such element exists, returns null. Must not alter the deque!
@@ -56,6 +72,35 @@ public interface Deque<E> {
      */
     E removeFirst();
 
+    /**
+     * Removes and returns up to the given number of elements from the front of this deque, in order from front to
+     * back.
+     *
+     * @param numElements the maximum number of elements to remove
+     * @return a list containing up to the given number of elements from the front of this deque
+     */
+    default List<E> removeFirst(int numElements) {
+        List<E> result = new ArrayList<>(Math.max(0, Math.min(numElements, size())));
+        drainTo(result, numElements);
+        return result;
+    }
+
+    /**
+     * Removes up to the given number of elements from the front of this deque and adds them to the given collection,
+     * in order from front to back. Unlike {@link #removeFirst(int)}, this method does not allocate a new list.
+     *
+     * @param collection  the collection to add the removed elements to
+     * @param maxElements the maximum number of elements to remove
+     * @return the number of elements removed
+     */
+    default int drainTo(Collection<? super E> collection, int maxElements) {
+        int numElements = Math.max(0, Math.min(maxElements, size()));
+        for (int i = 0; i < numElements; i += 1) {
+            collection.add(removeFirst());
+        }
+        return numElements;
+    }
+
     /**
      * Removes and returns the element at the back of this deque. Returns null if the deque is empty.
      *
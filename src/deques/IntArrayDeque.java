@@ -0,0 +1,190 @@
+package deques;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * An array implementation of a double-ended queue of {@code int} values that mirrors the {@link Deque} interface
+ * without boxing each value, such as for breadth-first search over dense vertex ids. The capacity is always a power of
+ * two, so indices wrap around the underlying array with a bitmask rather than a comparison or modulus. Since
+ * {@code int} values cannot be null, removing from an empty deque throws an exception instead of returning null.
+ *
+ * @see Deque
+ * @see ArrayDeque
+ * @see LongArrayDeque
+ */
+public class IntArrayDeque {
+    /**
+     * The initial capacity for the underlying array of values, which must be a power of two.
+     */
+    private static final int INITIAL_CAPACITY = 8;
+    /**
+     * The underlying array of values stored in this deque, whose length is a power of two.
+     */
+    private int[] data;
+    /**
+     * The index of the first value.
+     */
+    private int head;
+    /**
+     * The number of values in this deque.
+     */
+    private int size;
+
+    /**
+     * Constructs an empty deque.
+     */
+    public IntArrayDeque() {
+        data = new int[INITIAL_CAPACITY];
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * Adds the given value to the front of this deque.
+     *
+     * @param value the value to add
+     */
+    public void addFirst(int value) {
+        if (size == data.length) {
+            resize(data.length * 2);
+        }
+        head = (head - 1) & (data.length - 1);
+        data[head] = value;
+        size += 1;
+    }
+
+    /**
+     * Adds the given value to the back of this deque.
+     *
+     * @param value the value to add
+     */
+    public void addLast(int value) {
+        if (size == data.length) {
+            resize(data.length * 2);
+        }
+        data[(head + size) & (data.length - 1)] = value;
+        size += 1;
+    }
+
+    /**
+     * Gets the value at the given index, where 0 is the front, 1 is the next value, and so forth. Does not alter the
+     * deque.
+     *
+     * @param index the index to get
+     * @return the value at the given index
+     * @throws IndexOutOfBoundsException if index is negative or not less than the size of this deque
+     */
+    public int get(int index) {
+        if ((index >= size) || (index < 0)) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return data[(head + index) & (data.length - 1)];
+    }
+
+    /**
+     * Returns true if and only if this deque is empty.
+     *
+     * @return true if and only if this deque is empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of values in this deque.
+     *
+     * @return the number of values in this deque
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes and returns the value at the front of this deque.
+     *
+     * @return the value at the front of this deque
+     * @throws NoSuchElementException if this deque is empty
+     */
+    public int removeFirst() {
+        if (size == 0) {
+            throw new NoSuchElementException("Deque is empty");
+        }
+        int result = data[head];
+        head = (head + 1) & (data.length - 1);
+        size -= 1;
+        if (needsDownsize()) {
+            resize(data.length / 2);
+        }
+        return result;
+    }
+
+    /**
+     * Removes and returns the value at the back of this deque.
+     *
+     * @return the value at the back of this deque
+     * @throws NoSuchElementException if this deque is empty
+     */
+    public int removeLast() {
+        if (size == 0) {
+            throw new NoSuchElementException("Deque is empty");
+        }
+        size -= 1;
+        int result = data[(head + size) & (data.length - 1)];
+        if (needsDownsize()) {
+            resize(data.length / 2);
+        }
+        return result;
+    }
+
+    /**
+     * Returns an array containing the values in this deque from front to back.
+     *
+     * @return an array containing the values in this deque from front to back
+     */
+    public int[] toArray() {
+        int[] result = new int[size];
+        copyTo(result);
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    /**
+     * Copies the values in this deque from front to back to the start of the given array with at most two calls to
+     * {@link System#arraycopy}, one for each side of the wraparound.
+     *
+     * @param destination the array with length at least the size of this deque
+     */
+    private void copyTo(int[] destination) {
+        int firstLength = Math.min(size, data.length - head);
+        System.arraycopy(data, head, destination, 0, firstLength);
+        System.arraycopy(data, 0, destination, firstLength, size - firstLength);
+    }
+
+    /**
+     * Updates the length of the underlying value data array to the given power of two capacity, copying over values
+     * as necessary.
+     *
+     * @param capacity the length of the new value data array
+     */
+    private void resize(int capacity) {
+        int[] newData = new int[capacity];
+        copyTo(newData);
+        head = 0;
+        data = newData;
+    }
+
+    /**
+     * Returns true if and only if the underlying value data array needs to be downsized. This helps minimize unused
+     * memory when many values are removed from the deque.
+     *
+     * @return true if a value data downsize is necessary
+     */
+    private boolean needsDownsize() {
+        return size < data.length / 4 && data.length > INITIAL_CAPACITY;
+    }
+}
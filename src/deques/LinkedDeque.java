@@ -1,9 +1,11 @@
 package deques;
 
 /**
- * A doubly-linked implementation of the {@link Deque} interface.
+ * A doubly-linked implementation of the {@link Deque} interface. Each element has its own node and
+ * {@link #get(int)} walks from the front, so prefer {@link ChunkedDeque} when locality or indexing matters.
  *
  * @see Deque
+ * @see ChunkedDeque
  */
 public class LinkedDeque<E> implements Deque<E> {
     /**
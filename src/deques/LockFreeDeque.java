@@ -0,0 +1,125 @@
+package deques;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Thread-safe implementation of the {@link Deque} interface backed by a lock-free {@link ConcurrentLinkedDeque}, for
+ * use as a work queue shared by any number of producer and consumer threads at both ends. Every add and remove is
+ * linearizable, so each element added is removed at most once and elements added at the back by one thread are
+ * removed from the front in the order that thread added them. The deque is relaxed in the following ways while other
+ * threads are modifying it:
+ * <ul>
+ *     <li>{@link #size()} is a separately maintained count that may briefly lag behind adds and removes that are
+ *     still in progress.</li>
+ *     <li>{@link #get(int)} walks the linked nodes from the front in O(index) time and may reflect some concurrent
+ *     changes but not others.</li>
+ * </ul>
+ * Like {@link ConcurrentLinkedDeque}, this class does not permit null elements.
+ *
+ * @see Deque
+ * @see WorkStealingDeque
+ */
+public class LockFreeDeque<E> implements Deque<E> {
+    /**
+     * The underlying lock-free deque of elements.
+     */
+    private final ConcurrentLinkedDeque<E> deque;
+    /**
+     * The number of elements, since {@link ConcurrentLinkedDeque#size()} traverses every node.
+     */
+    private final AtomicInteger size;
+
+    /**
+     * Constructs an empty deque.
+     */
+    public LockFreeDeque() {
+        deque = new ConcurrentLinkedDeque<>();
+        size = new AtomicInteger();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public void addFirst(E element) {
+        deque.addFirst(element);
+        size.incrementAndGet();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws NullPointerException if element is null
+     */
+    @Override
+    public void addLast(E element) {
+        deque.addLast(element);
+        size.incrementAndGet();
+    }
+
+    @Override
+    public E get(int index) {
+        if (index < 0) {
+            return null;
+        }
+        Iterator<E> iterator = deque.iterator();
+        for (int i = 0; i < index && iterator.hasNext(); i += 1) {
+            iterator.next();
+        }
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    /**
+     * {@inheritDoc} While other threads are modifying this deque, the result is an estimate.
+     */
+    @Override
+    public int size() {
+        // A remove can decrement the count before the matching add increments it
+        return Math.max(0, size.get());
+    }
+
+    @Override
+    public E removeFirst() {
+        E result = deque.pollFirst();
+        if (result != null) {
+            size.decrementAndGet();
+        }
+        return result;
+    }
+
+    @Override
+    public E removeLast() {
+        E result = deque.pollLast();
+        if (result != null) {
+            size.decrementAndGet();
+        }
+        return result;
+    }
+
+    /**
+     * {@inheritDoc} Stops early if other threads empty this deque first.
+     */
+    @Override
+    public int drainTo(Collection<? super E> collection, int maxElements) {
+        int numElements = 0;
+        while (numElements < maxElements) {
+            E element = removeFirst();
+            if (element == null) {
+                break;
+            }
+            collection.add(element);
+            numElements += 1;
+        }
+        return numElements;
+    }
+
+    @Override
+    public String toString() {
+        return deque.toString();
+    }
+}
@@ -0,0 +1,91 @@
+package deques;
+
+import java.util.Collection;
+
+/**
+ * A work queue shared between a single owner thread and any number of thief threads. The owner adds and removes
+ * elements at the back, so it works on its most recently added elements first, while thieves remove elements from the
+ * front, so they take the oldest elements. Unlike {@link Deque}, there is no way to add an element to the front, since
+ * the front belongs to the thieves. Does not allow null elements, but doesn't check for null elements.
+ * <p>
+ * Implementations do not check which thread calls each method, so callers must respect the roles:
+ * {@link #addLast(Object)} and {@link #removeLast()} must only be called by the owner thread, while
+ * {@link #removeFirst()} and {@link #drainTo(Collection, int)} may be called by any thread.
+ *
+ * @param <E> the type of elements in this work queue
+ * @see WorkStealingDeque
+ */
+public interface WorkQueue<E> {
+
+    /**
+     * Adds the given element to the back of this work queue. Must only be called by the owner thread.
+     *
+     * @param element the element to add
+     */
+    void addLast(E element);
+
+    /**
+     * Removes and returns the element at the back of this work queue. Returns null if the work queue is empty. Must
+     * only be called by the owner thread.
+     *
+     * @return the element at the back of this work queue, or null if the work queue is empty
+     */
+    E removeLast();
+
+    /**
+     * Removes and returns the element at the front of this work queue. Returns null if the work queue is empty. May be
+     * called by any thread.
+     *
+     * @return the element at the front of this work queue, or null if the work queue is empty
+     */
+    E removeFirst();
+
+    /**
+     * Removes up to the given number of elements from the front of this work queue and adds them to the given
+     * collection, in order from front to back. Stops early if other threads empty this work queue first. May be called
+     * by any thread.
+     *
+     * @param collection  the collection to add the removed elements to
+     * @param maxElements the maximum number of elements to remove
+     * @return the number of elements removed
+     */
+    default int drainTo(Collection<? super E> collection, int maxElements) {
+        int numElements = 0;
+        while (numElements < maxElements) {
+            E element = removeFirst();
+            if (element == null) {
+                break;
+            }
+            collection.add(element);
+            numElements += 1;
+        }
+        return numElements;
+    }
+
+    /**
+     * Gets the element at the given index, where 0 is the front, 1 is the next element, and so forth. If no such
+     * element exists, returns null. While other threads are modifying this work queue, the result is a snapshot.
+     *
+     * @param index the index to get
+     * @return the element at the given index
+     */
+    E get(int index);
+
+    /**
+     * Returns true if and only if this work queue is empty. While other threads are modifying this work queue, the
+     * result is a snapshot.
+     *
+     * @return true if and only if this work queue is empty
+     */
+    default boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /**
+     * Returns the number of elements in this work queue. While other threads are modifying this work queue, the result
+     * is a snapshot.
+     *
+     * @return the number of elements in this work queue
+     */
+    int size();
+}
@@ -0,0 +1,169 @@
+package deques;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A Chase-Lev work-stealing implementation of the {@link WorkQueue} interface, where a single owner thread adds and
+ * removes elements at the back while any number of thief threads remove elements from the front. The owner's
+ * operations only write a volatile index except when taking the last element, and thieves claim elements with a single
+ * compare-and-set on the front index, so neither side ever blocks the other. The circular array grows by copying into
+ * a new array of twice the capacity, which thieves can keep reading from until they notice the new array.
+ * <p>
+ * This class implements {@link WorkQueue} rather than {@link Deque} since adding at the thieves' end would let a
+ * delayed thief claim an element that was already stolen, so there is no safe addFirst. The roles are not checked but
+ * must be respected as documented by {@link WorkQueue}, and {@link #get(int)} and {@link #size()} are snapshots that
+ * may be stale as soon as they return. Elements taken by thieves are not cleared from the array until the owner
+ * overwrites them, so up to one array of stolen elements may be kept reachable.
+ *
+ * @see WorkQueue
+ * @see LockFreeDeque
+ * @see <a href="https://doi.org/10.1145/1073970.1073974">Dynamic circular work-stealing deque</a>
+ */
+public class WorkStealingDeque<E> implements WorkQueue<E> {
+    /**
+     * The initial capacity for the underlying array of elements, which must be a power of two.
+     */
+    private static final int INITIAL_CAPACITY = 8;
+    /**
+     * The index of the front element, which only increases.
+     */
+    private final AtomicLong top;
+    /**
+     * The index for the next element to be inserted by addLast, which only the owner writes.
+     */
+    private volatile long bottom;
+    /**
+     * The underlying circular array of elements, whose length is a power of two.
+     */
+    private volatile AtomicReferenceArray<E> data;
+
+    /**
+     * Constructs an empty deque.
+     */
+    public WorkStealingDeque() {
+        top = new AtomicLong();
+        bottom = 0;
+        data = new AtomicReferenceArray<>(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Adds the given element to the back of this deque. Must only be called by the owner thread.
+     *
+     * @param element the element to add
+     */
+    @Override
+    public void addLast(E element) {
+        long b = bottom;
+        long t = top.get();
+        AtomicReferenceArray<E> a = data;
+        if (b - t >= a.length()) {
+            a = grow(a, t, b);
+        }
+        a.set((int) b & (a.length() - 1), element);
+        // Publish the element to thieves
+        bottom = b + 1;
+    }
+
+    /**
+     * Removes and returns the element at the front of this deque, retrying if another thread claims it first. Returns
+     * null if the deque is empty. May be called by any thread.
+     *
+     * @return the element at the front of this deque, or null if the deque is empty
+     */
+    @Override
+    public E removeFirst() {
+        while (true) {
+            long t = top.get();
+            long b = bottom;
+            if (t >= b) {
+                return null;
+            }
+            AtomicReferenceArray<E> a = data;
+            E result = a.get((int) t & (a.length() - 1));
+            if (top.compareAndSet(t, t + 1)) {
+                return result;
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the back of this deque. Returns null if the deque is empty. Must only be
+     * called by the owner thread.
+     *
+     * @return the element at the back of this deque, or null if the deque is empty
+     */
+    @Override
+    public E removeLast() {
+        long b = bottom - 1;
+        AtomicReferenceArray<E> a = data;
+        // Reserve the back element before reading the front index, so a thief either sees the reservation or loses
+        bottom = b;
+        long t = top.get();
+        if (t > b) {
+            bottom = b + 1;
+            return null;
+        }
+        int index = (int) b & (a.length() - 1);
+        E result = a.get(index);
+        if (t == b) {
+            // The last element, which a thief may be claiming at the same time
+            if (!top.compareAndSet(t, t + 1)) {
+                result = null;
+            }
+            bottom = b + 1;
+            return result;
+        }
+        a.set(index, null);
+        return result;
+    }
+
+    /**
+     * Gets the element at the given index, where 0 is the front, 1 is the next element, and so forth. If no such
+     * element exists, returns null. While other threads are modifying this deque, the result is a snapshot.
+     *
+     * @param index the index to get
+     * @return the element at the given index
+     */
+    @Override
+    public E get(int index) {
+        long t = top.get();
+        long b = bottom;
+        if ((index >= b - t) || (index < 0)) {
+            return null;
+        }
+        AtomicReferenceArray<E> a = data;
+        return a.get((int) (t + index) & (a.length() - 1));
+    }
+
+    /**
+     * Returns the number of elements in this deque. While other threads are modifying this deque, the result is a
+     * snapshot.
+     *
+     * @return the number of elements in this deque
+     */
+    @Override
+    public int size() {
+        long t = top.get();
+        long b = bottom;
+        return (int) Math.max(0, b - t);
+    }
+
+    /**
+     * Replaces the underlying array with one of twice the capacity containing the elements between the given front
+     * and back indices at the same indices. Must only be called by the owner thread.
+     *
+     * @param a the current array
+     * @param t the front index
+     * @param b the back index
+     * @return the new array
+     */
+    private AtomicReferenceArray<E> grow(AtomicReferenceArray<E> a, long t, long b) {
+        AtomicReferenceArray<E> result = new AtomicReferenceArray<>(a.length() * 2);
+        for (long i = t; i < b; i += 1) {
+            result.set((int) i & (result.length() - 1), a.get((int) i & (a.length() - 1)));
+        }
+        data = result;
+        return result;
+    }
+}
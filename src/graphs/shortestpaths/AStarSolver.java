@@ -2,13 +2,21 @@ package graphs.shortestpaths;
 
 import graphs.AStarGraph;
 import graphs.Edge;
+import minpq.ApproximateMinPQ;
 import minpq.DoubleMapMinPQ;
+import minpq.IntMinPQAdapter;
 import minpq.MinPQ;
 
 import java.util.*;
 
 /**
  * A* search implementation for single-pair shortest paths in an {@link AStarGraph}.
+ * <p>
+ * By default, the search continues until the perimeter is empty, so the solution is a shortest path for any
+ * heuristic. The weighted search mode instead inflates the heuristic by a weight, orders the perimeter with an
+ * {@link ApproximateMinPQ}, and stops as soon as the goal is removed from the perimeter. This expands far fewer
+ * vertices, and if the heuristic never overestimates the distance to the goal, the weight of the solution is at most
+ * {@link #suboptimalityBound()} times the weight of a shortest path.
  *
  * @param <V> the type of vertices.
  * @see AStarGraph
@@ -17,6 +25,14 @@ public class AStarSolver<V> {
     private final Map<V, Edge<V>> edgeTo;
     private final Map<V, Double> distTo;
     private final V goal;
+    /**
+     * The proven upper bound on the ratio between the weight of the solution and the weight of a shortest path.
+     */
+    private final double bound;
+    /**
+     * The number of vertices removed from the perimeter.
+     */
+    private int expansions;
 
     /**
      * Constructs a new instance by executing A* search on the graph from the start to the goal.
@@ -26,15 +42,80 @@ public class AStarSolver<V> {
      * @param goal  the goal vertex.
      */
     public AStarSolver(AStarGraph<V> graph, V start, V goal) {
+        this(graph, start, goal, new DoubleMapMinPQ<>());
+    }
+
+    /**
+     * Constructs a new instance by executing A* search on the graph from the start to the goal using the given empty
+     * priority queue for the perimeter. For example, pass an {@link IntMinPQAdapter} to avoid allocating a
+     * {@link minpq.PriorityNode} for every priority update.
+     *
+     * @param graph     the input graph.
+     * @param start     the start vertex.
+     * @param goal      the goal vertex.
+     * @param perimeter the empty priority queue used to order the perimeter vertices.
+     * @throws IllegalArgumentException if perimeter is not empty.
+     */
+    public AStarSolver(AStarGraph<V> graph, V start, V goal, MinPQ<V> perimeter) {
+        this(graph, start, goal, perimeter, 1.0, 1.0, false);
+    }
+
+    /**
+     * Constructs a new instance by executing weighted A* search on the graph from the start to the goal, which orders
+     * the perimeter by the distance from the start plus the given weight times the estimated distance to the goal,
+     * and stops as soon as the goal is removed from the perimeter. If the heuristic never overestimates, the weight
+     * of the solution is at most weight * (1 + epsilon) times the weight of a shortest path. A weight of 1 and an
+     * epsilon of 0 finds a shortest path.
+     * <p>
+     * The weight is what saves expansions. A positive epsilon makes each perimeter operation cheaper, but vertices
+     * removed early from a coarse bucket are often reopened, so graphs with many equal-length paths such as grids may
+     * need more expansions than with an epsilon of 0.
+     *
+     * @param graph   the input graph.
+     * @param start   the start vertex.
+     * @param goal    the goal vertex.
+     * @param weight  the factor of at least 1 for inflating the estimated distance to the goal.
+     * @param epsilon the relative error of the {@link ApproximateMinPQ} for the perimeter, or 0 for an exact
+     *                priority queue.
+     * @throws IllegalArgumentException if weight is less than 1 or infinite, or epsilon is negative or infinite.
+     */
+    public AStarSolver(AStarGraph<V> graph, V start, V goal, double weight, double epsilon) {
+        this(graph, start, goal, perimeter(epsilon), weight, weight * (1.0 + epsilon), true);
+    }
+
+    /**
+     * Constructs a new instance by executing A* search with the heuristic inflated by the given weight.
+     *
+     * @param graph      the input graph.
+     * @param start      the start vertex.
+     * @param goal       the goal vertex.
+     * @param perimeter  the empty priority queue used to order the perimeter vertices.
+     * @param weight     the factor of at least 1 for inflating the estimated distance to the goal.
+     * @param bound      the proven upper bound on the ratio between the weight of the solution and a shortest path.
+     * @param stopAtGoal whether to stop as soon as the goal is removed from the perimeter.
+     * @throws IllegalArgumentException if perimeter is not empty, or weight is less than 1 or infinite.
+     */
+    private AStarSolver(AStarGraph<V> graph, V start, V goal, MinPQ<V> perimeter, double weight, double bound,
+                        boolean stopAtGoal) {
+        if (!perimeter.isEmpty()) {
+            throw new IllegalArgumentException("Perimeter must be empty");
+        } else if (!(weight >= 1.0) || Double.isInfinite(weight)) {
+            throw new IllegalArgumentException("Weight must be at least 1 and finite but was " + weight);
+        }
         edgeTo = new HashMap<>();
         distTo = new HashMap<>();
         this.goal = goal;
-        MinPQ<V> perimeter = new DoubleMapMinPQ<>();
+        this.bound = bound;
+        expansions = 0;
         perimeter.add(start, 0.0);
         edgeTo.put(start, null);
         distTo.put(start, 0.0);
         while (!perimeter.isEmpty()) {
             V from = perimeter.removeMin();
+            expansions += 1;
+            if (stopAtGoal && Objects.equals(from, goal)) {
+                break;
+            }
             for (Edge<V> e : graph.neighbors(from)) {
                 V to = e.to;
                 double oldDist = distTo.getOrDefault(to, Double.POSITIVE_INFINITY);
@@ -42,7 +123,7 @@ public class AStarSolver<V> {
                 if (newDist < oldDist) {
                     edgeTo.put(to, e);
                     distTo.put(to, newDist);
-                    double priority = newDist + graph.estimatedDistance(to, goal);
+                    double priority = newDist + weight * graph.estimatedDistance(to, goal);
                     perimeter.addOrChangePriority(to, priority);
                 }
             }
@@ -50,7 +131,8 @@ public class AStarSolver<V> {
     }
 
     /**
-     * Returns the single-pair shortest path from the stored start to the stored goal.
+     * Returns the single-pair shortest path from the stored start to the stored goal. In the weighted search mode, the
+     * path may be longer than a shortest path by up to {@link #suboptimalityBound()} times.
      *
      * @return a list of vertices representing the shortest path.
      */
@@ -65,4 +147,39 @@ public class AStarSolver<V> {
         Collections.reverse(path);
         return path;
     }
+
+    /**
+     * Returns the proven upper bound on the ratio between the weight of the solution and the weight of a shortest
+     * path. The bound is 1 for the default search, and weight * (1 + epsilon) for the weighted search mode if the
+     * heuristic never overestimates the distance to the goal.
+     *
+     * @return the upper bound on the ratio between the weight of the solution and the weight of a shortest path.
+     */
+    public double suboptimalityBound() {
+        return bound;
+    }
+
+    /**
+     * Returns the number of times a vertex was removed from the perimeter, counting a vertex again each time its
+     * distance improves after it was removed.
+     *
+     * @return the number of times a vertex was removed from the perimeter.
+     */
+    public int expansions() {
+        return expansions;
+    }
+
+    /**
+     * Returns an empty priority queue for the perimeter with the given relative error.
+     *
+     * @param epsilon the relative error, or 0 for an exact priority queue.
+     * @return an empty priority queue for the perimeter with the given relative error.
+     * @throws IllegalArgumentException if epsilon is negative or infinite.
+     */
+    private static <V> MinPQ<V> perimeter(double epsilon) {
+        if (epsilon == 0.0) {
+            return new DoubleMapMinPQ<>();
+        }
+        return new ApproximateMinPQ<>(epsilon);
+    }
 }
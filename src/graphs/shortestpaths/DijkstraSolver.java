@@ -3,6 +3,7 @@ package graphs.shortestpaths;
 import graphs.Edge;
 import graphs.Graph;
 import minpq.DoubleMapMinPQ;
+import minpq.IntMinPQAdapter;
 import minpq.MinPQ;
 
 import java.util.*;
@@ -24,9 +25,25 @@ public class DijkstraSolver<V> implements ShortestPathSolver<V> {
      * @param start the start vertex.
      */
     public DijkstraSolver(Graph<V> graph, V start) {
+        this(graph, start, new DoubleMapMinPQ<>());
+    }
+
+    /**
+     * Constructs a new instance by executing Dijkstra's algorithm on the graph from the start using the given empty
+     * priority queue for the perimeter. For example, pass an {@link IntMinPQAdapter} to avoid allocating a
+     * {@link minpq.PriorityNode} for every priority update.
+     *
+     * @param graph     the input graph.
+     * @param start     the start vertex.
+     * @param perimeter the empty priority queue used to order the perimeter vertices.
+     * @throws IllegalArgumentException if perimeter is not empty.
+     */
+    public DijkstraSolver(Graph<V> graph, V start, MinPQ<V> perimeter) {
+        if (!perimeter.isEmpty()) {
+            throw new IllegalArgumentException("Perimeter must be empty");
+        }
         edgeTo = new HashMap<>();
         distTo = new HashMap<>();
-        MinPQ<V> perimeter = new DoubleMapMinPQ<>();
         perimeter.add(start, 0.0);
         edgeTo.put(start, null);
         distTo.put(start, 0.0);
@@ -0,0 +1,202 @@
+package graphs.shortestpaths;
+
+import graphs.Edge;
+import graphs.Graph;
+
+import java.util.*;
+
+/**
+ * Lazy-deletion variant of Dijkstra's algorithm implementing the {@link ShortestPathSolver} interface. Rather than
+ * changing the priority of a vertex already in the perimeter, each improvement pushes a duplicate entry onto a plain
+ * array heap, and entries whose distance is greater than the best known distance are skipped when popped. This avoids
+ * the index that decrease-key requires, at the cost of a larger heap; the number of pushes and stale pops is recorded
+ * so that the trade-off can be measured.
+ *
+ * @param <V> the type of vertices.
+ * @see ShortestPathSolver
+ * @see DijkstraSolver
+ */
+public class LazyDijkstraSolver<V> implements ShortestPathSolver<V> {
+    private final Map<V, Edge<V>> edgeTo;
+    private final Map<V, Double> distTo;
+    /**
+     * The number of entries pushed onto the heap.
+     */
+    private final int pushes;
+    /**
+     * The number of popped entries that were skipped because a shorter distance was already found.
+     */
+    private final int stalePops;
+    /**
+     * The maximum number of entries in the heap at any time.
+     */
+    private final int maxHeapSize;
+
+    /**
+     * Constructs a new instance by executing lazy-deletion Dijkstra's algorithm on the graph from the start.
+     *
+     * @param graph the input graph.
+     * @param start the start vertex.
+     */
+    public LazyDijkstraSolver(Graph<V> graph, V start) {
+        edgeTo = new HashMap<>();
+        distTo = new HashMap<>();
+        DistanceHeap<V> perimeter = new DistanceHeap<>();
+        perimeter.push(start, 0.0);
+        edgeTo.put(start, null);
+        distTo.put(start, 0.0);
+        int pushes = 1;
+        int stalePops = 0;
+        int maxHeapSize = 1;
+        while (!perimeter.isEmpty()) {
+            double dist = perimeter.peekDistance();
+            V from = perimeter.pop();
+            double fromDist = distTo.get(from);
+            if (dist > fromDist) {
+                stalePops += 1;
+                continue;
+            }
+            for (Edge<V> e : graph.neighbors(from)) {
+                V to = e.to;
+                double oldDist = distTo.getOrDefault(to, Double.POSITIVE_INFINITY);
+                double newDist = fromDist + e.weight;
+                if (newDist < oldDist) {
+                    edgeTo.put(to, e);
+                    distTo.put(to, newDist);
+                    perimeter.push(to, newDist);
+                    pushes += 1;
+                    maxHeapSize = Math.max(maxHeapSize, perimeter.size());
+                }
+            }
+        }
+        this.pushes = pushes;
+        this.stalePops = stalePops;
+        this.maxHeapSize = maxHeapSize;
+    }
+
+    @Override
+    public List<V> solution(V goal) {
+        List<V> path = new ArrayList<>();
+        V curr = goal;
+        path.add(curr);
+        while (edgeTo.get(curr) != null) {
+            curr = edgeTo.get(curr).from;
+            path.add(curr);
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    /**
+     * Returns the number of entries pushed onto the heap, including the start vertex.
+     *
+     * @return the number of entries pushed onto the heap.
+     */
+    public int pushes() {
+        return pushes;
+    }
+
+    /**
+     * Returns the number of popped entries that were skipped because a shorter distance was already found. This is
+     * the number of pushes minus the number of reachable vertices.
+     *
+     * @return the number of stale entries popped from the heap.
+     */
+    public int stalePops() {
+        return stalePops;
+    }
+
+    /**
+     * Returns the maximum number of entries in the heap at any time.
+     *
+     * @return the maximum number of entries in the heap at any time.
+     */
+    public int maxHeapSize() {
+        return maxHeapSize;
+    }
+
+    /**
+     * Binary heap of vertex-distance entries stored in parallel arrays, which allows duplicate vertices.
+     *
+     * @param <V> the type of vertices.
+     */
+    private static class DistanceHeap<V> {
+        /**
+         * The vertex of each entry, where the children of the entry at index i are at indices 2i + 1 and 2i + 2.
+         */
+        private Object[] vertices;
+        /**
+         * The distance of each entry.
+         */
+        private double[] distances;
+        /**
+         * The number of entries.
+         */
+        private int size;
+
+        DistanceHeap() {
+            vertices = new Object[16];
+            distances = new double[16];
+            size = 0;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        int size() {
+            return size;
+        }
+
+        double peekDistance() {
+            return distances[0];
+        }
+
+        void push(V vertex, double distance) {
+            if (size == vertices.length) {
+                vertices = Arrays.copyOf(vertices, size * 2);
+                distances = Arrays.copyOf(distances, size * 2);
+            }
+            int index = size;
+            size += 1;
+            while (index > 0) {
+                int parent = (index - 1) / 2;
+                if (distances[parent] <= distance) {
+                    break;
+                }
+                vertices[index] = vertices[parent];
+                distances[index] = distances[parent];
+                index = parent;
+            }
+            vertices[index] = vertex;
+            distances[index] = distance;
+        }
+
+        @SuppressWarnings("unchecked")
+        V pop() {
+            V min = (V) vertices[0];
+            size -= 1;
+            Object last = vertices[size];
+            double lastDistance = distances[size];
+            vertices[size] = null;
+            int index = 0;
+            while (2 * index + 1 < size) {
+                int child = 2 * index + 1;
+                if (child + 1 < size && distances[child + 1] < distances[child]) {
+                    child += 1;
+                }
+                if (lastDistance <= distances[child]) {
+                    break;
+                }
+                vertices[index] = vertices[child];
+                distances[index] = distances[child];
+                index = child;
+            }
+            if (size > 0) {
+                vertices[index] = last;
+                distances[index] = lastDistance;
+            }
+            return min;
+        }
+    }
+}
@@ -0,0 +1,289 @@
+package minpq;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+
+/**
+ * Epsilon-approximate bucketed implementation of the {@link MinPQ} interface for heuristic search that trades a bounded
+ * error for speed. Positive priority values are grouped into geometric buckets, where bucket k holds the priority
+ * values between (1 + epsilon)<sup>k</sup> (inclusive) and (1 + epsilon)<sup>k + 1</sup> (exclusive), and a priority
+ * value of 0 has a bucket of its own. {@link #peekMin()} and {@link #removeMin()} return the element that was added or
+ * last changed first in the lowest non-empty bucket rather than searching for the exact minimum, so the returned
+ * element's priority value is at most (1 + epsilon) times the minimum priority value, up to floating-point rounding.
+ * <p>
+ * Each bucket is a linked list, so adding, removing, and changing the priority value of an element only takes constant
+ * time plus the time to find its bucket among the non-empty buckets. There are at most log base (1 + epsilon) of the
+ * ratio between the greatest and least priority values non-empty buckets, such as about 100 buckets for epsilon 0.1 and
+ * priority values between 1 and 10000, no matter how many elements there are.
+ * <p>
+ * Since this implementation does not always return the exact minimum, only use it where the caller accounts for the
+ * approximation, such as the weighted search mode of {@link graphs.shortestpaths.AStarSolver}.
+ *
+ * @param <E> the type of elements in this priority queue.
+ * @see MinPQ
+ * @see BucketMinPQ
+ */
+public class ApproximateMinPQ<E> implements MinPQ<E> {
+    /**
+     * The default relative error.
+     */
+    private static final double DEFAULT_EPSILON = 0.1;
+    /**
+     * The relative error, so that the returned priority value is at most (1 + epsilon) times the minimum.
+     */
+    private final double epsilon;
+    /**
+     * The natural logarithm of (1 + epsilon), which converts the logarithm of a priority value to a bucket number.
+     */
+    private final double logBase;
+    /**
+     * {@link Map} of each element to its entry.
+     */
+    private final Map<E, Entry<E>> entries;
+    /**
+     * {@link NavigableMap} of each bucket number to its non-empty bucket.
+     */
+    private final NavigableMap<Long, Bucket<E>> buckets;
+
+    /**
+     * Constructs an empty instance with a relative error of 0.1.
+     */
+    public ApproximateMinPQ() {
+        this(DEFAULT_EPSILON);
+    }
+
+    /**
+     * Constructs an empty instance with the given relative error.
+     *
+     * @param epsilon the relative error, so the returned priority value is at most (1 + epsilon) times the minimum.
+     * @throws IllegalArgumentException if epsilon is not positive and finite.
+     */
+    public ApproximateMinPQ(double epsilon) {
+        if (!(epsilon > 0.0) || Double.isInfinite(epsilon)) {
+            throw new IllegalArgumentException("Epsilon must be positive and finite but was " + epsilon);
+        }
+        this.epsilon = epsilon;
+        logBase = Math.log1p(epsilon);
+        entries = new HashMap<>();
+        buckets = new TreeMap<>();
+    }
+
+    /**
+     * Constructs an instance with a relative error of 0.1 containing all the given elements and their priority values.
+     *
+     * @param elementsAndPriorities each element and its corresponding priority.
+     */
+    public ApproximateMinPQ(Map<E, Double> elementsAndPriorities) {
+        this();
+        addAll(elementsAndPriorities);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if priority is negative or NaN.
+     */
+    @Override
+    public void add(E element, double priority) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        } else if (contains(element)) {
+            throw new IllegalArgumentException("Already contains " + element);
+        }
+        Entry<E> entry = new Entry<>(element);
+        entry.priority = priority;
+        entry.number = bucketNumber(priority);
+        entries.put(element, entry);
+        insert(entry);
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return entries.containsKey(element);
+    }
+
+    @Override
+    public double getPriority(E element) {
+        Entry<E> entry = entries.get(element);
+        if (entry == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        return entry.priority;
+    }
+
+    /**
+     * Returns an element whose priority value is at most (1 + epsilon) times the minimum priority value.
+     *
+     * @return an element whose priority value is at most (1 + epsilon) times the minimum priority value.
+     * @throws NoSuchElementException if this priority queue is empty.
+     */
+    @Override
+    public E peekMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        return buckets.firstEntry().getValue().first.element;
+    }
+
+    /**
+     * Returns and removes an element whose priority value is at most (1 + epsilon) times the minimum priority value.
+     *
+     * @return an element whose priority value is at most (1 + epsilon) times the minimum priority value.
+     * @throws NoSuchElementException if this priority queue is empty.
+     */
+    @Override
+    public E removeMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        Entry<E> min = buckets.firstEntry().getValue().first;
+        remove(min);
+        entries.remove(min.element);
+        return min.element;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if priority is negative or NaN.
+     */
+    @Override
+    public void changePriority(E element, double priority) {
+        Entry<E> entry = entries.get(element);
+        if (entry == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        long number = bucketNumber(priority);
+        // Move the entry to the end of its bucket even if the bucket is unchanged
+        remove(entry);
+        entry.priority = priority;
+        entry.number = number;
+        insert(entry);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the relative error, so that the returned priority value is at most (1 + epsilon) times the minimum.
+     *
+     * @return the relative error.
+     */
+    public double epsilon() {
+        return epsilon;
+    }
+
+    /**
+     * Returns the bucket number for the given priority value.
+     *
+     * @param priority the priority value.
+     * @return the bucket number for the given priority value.
+     * @throws IllegalArgumentException if priority is negative or NaN.
+     */
+    private long bucketNumber(double priority) {
+        if (!(priority >= 0.0)) {
+            throw new IllegalArgumentException("Priority must be non-negative but was " + priority);
+        } else if (priority == 0.0) {
+            return Long.MIN_VALUE;
+        }
+        // Leave Long.MIN_VALUE for 0 even if epsilon is so small that the bucket number saturates
+        return Math.max(Long.MIN_VALUE + 1, (long) Math.floor(Math.log(priority) / logBase));
+    }
+
+    /**
+     * Appends the entry to the end of the bucket for its bucket number, creating the bucket if it is empty.
+     *
+     * @param entry the entry.
+     */
+    private void insert(Entry<E> entry) {
+        Bucket<E> bucket = buckets.get(entry.number);
+        if (bucket == null) {
+            bucket = new Bucket<>();
+            buckets.put(entry.number, bucket);
+        }
+        if (bucket.last == null) {
+            bucket.first = entry;
+        } else {
+            bucket.last.next = entry;
+            entry.prev = bucket.last;
+        }
+        bucket.last = entry;
+    }
+
+    /**
+     * Unlinks the entry from its bucket, removing the bucket if it becomes empty.
+     *
+     * @param entry the entry.
+     */
+    private void remove(Entry<E> entry) {
+        Bucket<E> bucket = buckets.get(entry.number);
+        if (entry.prev == null) {
+            bucket.first = entry.next;
+        } else {
+            entry.prev.next = entry.next;
+        }
+        if (entry.next == null) {
+            bucket.last = entry.prev;
+        } else {
+            entry.next.prev = entry.prev;
+        }
+        entry.prev = null;
+        entry.next = null;
+        if (bucket.first == null) {
+            buckets.remove(entry.number);
+        }
+    }
+
+    /**
+     * A non-empty linked list of entries in the order they were added or last changed.
+     *
+     * @param <E> the type of elements.
+     */
+    private static class Bucket<E> {
+        /**
+         * The entry that was added or last changed first.
+         */
+        Entry<E> first;
+        /**
+         * The entry that was added or last changed last.
+         */
+        Entry<E> last;
+    }
+
+    /**
+     * An element, its priority value and bucket number, and its neighbors in its bucket.
+     *
+     * @param <E> the type of element.
+     */
+    private static class Entry<E> {
+        /**
+         * The element.
+         */
+        final E element;
+        /**
+         * The priority value for the element.
+         */
+        double priority;
+        /**
+         * The bucket number for the priority value.
+         */
+        long number;
+        /**
+         * The previous entry in the bucket, or null if this entry is first.
+         */
+        Entry<E> prev;
+        /**
+         * The next entry in the bucket, or null if this entry is last.
+         */
+        Entry<E> next;
+
+        Entry(E element) {
+            this.element = element;
+        }
+    }
+}
@@ -0,0 +1,421 @@
+package minpq;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.NoSuchElementException;
+import java.util.TreeSet;
+
+/**
+ * Bucket queue (Dial's algorithm) implementation of the {@link MinPQ} interface for <b>monotone</b> workloads such as
+ * Dijkstra's algorithm with non-negative edge weights. Priority values are quantized into buckets of a fixed width,
+ * and the buckets form a circular array that a cursor sweeps through in increasing order. Every priority value must be
+ * non-negative and must not fall in an earlier bucket than the last element returned by {@link #peekMin()} or
+ * {@link #removeMin()}.
+ * <p>
+ * Each bucket is a binary heap ordered by priority value and then by a sequence number stored in each entry, so ties
+ * are removed in first-in-first-out order of when elements were added or last changed, and removing one of k elements
+ * with equal priority values takes O(log k) time. With integer edge weights and buckets of width 1, each bucket holds
+ * only equal priority values, so adding never needs to sift. Choosing more buckets than the maximum edge weight divided
+ * by the bucket width avoids growing the circular array.
+ * <p>
+ * The circular array grows to at most {@value #MAX_NUM_BUCKETS} buckets. Entries whose bucket is further ahead of the
+ * cursor than that are kept in an overflow set ordered by bucket number and moved into the circular array once the
+ * cursor comes within range, so a single distant priority value does not allocate a bucket for every number in
+ * between.
+ *
+ * @param <E> the type of elements in this priority queue.
+ * @see MinPQ
+ * @see RadixHeapMinPQ
+ */
+public class BucketMinPQ<E> implements MinPQ<E> {
+    /**
+     * The default bucket width, suitable for integer priority values.
+     */
+    private static final double DEFAULT_QUANTUM = 1.0;
+    /**
+     * The default number of buckets.
+     */
+    private static final int DEFAULT_NUM_BUCKETS = 16;
+    /**
+     * The maximum number of buckets in the circular array.
+     */
+    private static final int MAX_NUM_BUCKETS = 1 << 16;
+    /**
+     * The width of the range of priority values in each bucket.
+     */
+    private final double quantum;
+    /**
+     * {@link Map} of each element to its entry.
+     */
+    private final Map<E, Entry<E>> entries;
+    /**
+     * The circular array of buckets, where bucket number n is stored at index n modulo the number of buckets.
+     */
+    private List<List<Entry<E>>> buckets;
+    /**
+     * {@link NavigableSet} of entries too far ahead of the cursor for the circular array, in order of bucket number
+     * and then sequence number. Every entry in this set has a bucket number at least the cursor plus the number of
+     * buckets.
+     */
+    private final NavigableSet<Entry<E>> overflow;
+    /**
+     * The bucket number of the last element returned by {@link #peekMin()} or {@link #removeMin()}, or 0 initially.
+     */
+    private long cursor;
+    /**
+     * The next sequence number.
+     */
+    private long sequence;
+
+    /**
+     * Constructs an empty instance with buckets of width 1.
+     */
+    public BucketMinPQ() {
+        this(DEFAULT_QUANTUM, DEFAULT_NUM_BUCKETS);
+    }
+
+    /**
+     * Constructs an empty instance with the given bucket width and initial number of buckets.
+     *
+     * @param quantum    the width of the range of priority values in each bucket.
+     * @param numBuckets the initial number of buckets.
+     * @throws IllegalArgumentException if quantum is not positive and finite, or numBuckets is not between 1 and
+     *                                  {@value #MAX_NUM_BUCKETS}.
+     */
+    public BucketMinPQ(double quantum, int numBuckets) {
+        if (!(quantum > 0.0) || Double.isInfinite(quantum)) {
+            throw new IllegalArgumentException("Quantum must be positive and finite but was " + quantum);
+        } else if (numBuckets < 1 || numBuckets > MAX_NUM_BUCKETS) {
+            throw new IllegalArgumentException("Number of buckets must be between 1 and " + MAX_NUM_BUCKETS
+                    + " but was " + numBuckets);
+        }
+        this.quantum = quantum;
+        entries = new HashMap<>();
+        buckets = newBuckets(numBuckets);
+        overflow = new TreeSet<>((a, b) -> a.number != b.number
+                ? Long.compare(a.number, b.number)
+                : Long.compare(a.sequence, b.sequence));
+        cursor = 0;
+        sequence = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if priority is negative, NaN, or in an earlier bucket than the last returned
+     *                                  element.
+     */
+    @Override
+    public void add(E element, double priority) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        } else if (contains(element)) {
+            throw new IllegalArgumentException("Already contains " + element);
+        }
+        Entry<E> entry = new Entry<>(element);
+        entry.priority = priority;
+        entry.number = bucketNumber(priority);
+        entry.sequence = sequence++;
+        entries.put(element, entry);
+        insert(entry);
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return entries.containsKey(element);
+    }
+
+    @Override
+    public double getPriority(E element) {
+        Entry<E> entry = entries.get(element);
+        if (entry == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        return entry.priority;
+    }
+
+    @Override
+    public E peekMin() {
+        return minEntry().element;
+    }
+
+    @Override
+    public E removeMin() {
+        Entry<E> min = minEntry();
+        remove(min);
+        entries.remove(min.element);
+        return min.element;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if priority is negative, NaN, or in an earlier bucket than the last returned
+     *                                  element.
+     */
+    @Override
+    public void changePriority(E element, double priority) {
+        Entry<E> entry = entries.get(element);
+        if (entry == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        long number = bucketNumber(priority);
+        // Remove before updating the fields that order the bucket heap and the overflow set
+        remove(entry);
+        entry.priority = priority;
+        entry.number = number;
+        entry.sequence = sequence++;
+        insert(entry);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the bucket number for the given priority value.
+     *
+     * @param priority the priority value.
+     * @return the bucket number for the given priority value.
+     * @throws IllegalArgumentException if priority is negative, NaN, or in an earlier bucket than the last returned
+     *                                  element.
+     */
+    private long bucketNumber(double priority) {
+        if (!(priority >= 0.0)) {
+            throw new IllegalArgumentException("Priority must be non-negative but was " + priority);
+        }
+        long number = (long) (priority / quantum);
+        if (number < cursor) {
+            throw new IllegalArgumentException("Priority " + priority + " is in an earlier bucket than the last "
+                    + "returned priority");
+        }
+        return number;
+    }
+
+    /**
+     * Returns the entry with the minimum priority value after advancing the cursor to the first non-empty bucket.
+     *
+     * @return the entry with the minimum priority value.
+     * @throws NoSuchElementException if this priority queue is empty.
+     */
+    private Entry<E> minEntry() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        if (overflow.size() == entries.size()) {
+            // Every entry is beyond the circular array, so jump straight to the first one rather than sweeping
+            cursor = overflow.first().number;
+            refill();
+        }
+        List<Entry<E>> bucket = bucket(cursor);
+        while (bucket.isEmpty()) {
+            cursor += 1;
+            refill();
+            bucket = bucket(cursor);
+        }
+        return bucket.getFirst();
+    }
+
+    /**
+     * Returns the bucket with the given bucket number.
+     *
+     * @param number the bucket number.
+     * @return the bucket with the given bucket number.
+     */
+    private List<Entry<E>> bucket(long number) {
+        return buckets.get((int) (number % buckets.size()));
+    }
+
+    /**
+     * Adds the entry to the bucket for its bucket number, first growing the circular array if the bucket number is
+     * beyond the last bucket, or to the overflow set if the circular array cannot grow that far.
+     *
+     * @param entry the entry.
+     */
+    private void insert(Entry<E> entry) {
+        // The distance is never negative, and does not overflow even for the bucket number of an infinite priority
+        long distance = entry.number - cursor;
+        if (distance >= buckets.size() && buckets.size() < MAX_NUM_BUCKETS) {
+            int span = (int) Math.min(distance, MAX_NUM_BUCKETS - 1) + 1;
+            resize(Math.min(MAX_NUM_BUCKETS, Math.max(span, 2 * buckets.size())));
+        }
+        if (distance >= buckets.size()) {
+            overflow.add(entry);
+        } else {
+            push(entry);
+        }
+    }
+
+    /**
+     * Removes the entry from its bucket or from the overflow set.
+     *
+     * @param entry the entry.
+     */
+    private void remove(Entry<E> entry) {
+        if (entry.index < 0) {
+            overflow.remove(entry);
+            return;
+        }
+        List<Entry<E>> bucket = bucket(entry.number);
+        Entry<E> moved = bucket.removeLast();
+        if (moved != entry) {
+            // Fill the hole with the last entry and restore the heap in whichever direction it is out of order
+            moved.index = entry.index;
+            bucket.set(entry.index, moved);
+            swim(bucket, moved.index);
+            sink(bucket, moved.index);
+        }
+        entry.index = -1;
+    }
+
+    /**
+     * Moves every entry in the overflow set that is now within range of the cursor into the circular array.
+     */
+    private void refill() {
+        while (!overflow.isEmpty() && overflow.first().number - cursor < buckets.size()) {
+            push(overflow.pollFirst());
+        }
+    }
+
+    /**
+     * Adds the entry to the heap in the bucket for its bucket number.
+     *
+     * @param entry the entry.
+     */
+    private void push(Entry<E> entry) {
+        List<Entry<E>> bucket = bucket(entry.number);
+        entry.index = bucket.size();
+        bucket.add(entry);
+        swim(bucket, entry.index);
+    }
+
+    /**
+     * Moves the entry at the given index up the bucket heap until its parent is not greater.
+     *
+     * @param bucket the bucket heap.
+     * @param index  the index of the entry.
+     */
+    private static <E> void swim(List<Entry<E>> bucket, int index) {
+        while (index > 0 && less(bucket.get(index), bucket.get((index - 1) / 2))) {
+            swap(bucket, index, (index - 1) / 2);
+            index = (index - 1) / 2;
+        }
+    }
+
+    /**
+     * Moves the entry at the given index down the bucket heap until neither child is less.
+     *
+     * @param bucket the bucket heap.
+     * @param index  the index of the entry.
+     */
+    private static <E> void sink(List<Entry<E>> bucket, int index) {
+        int child = 2 * index + 1;
+        while (child < bucket.size()) {
+            if (child + 1 < bucket.size() && less(bucket.get(child + 1), bucket.get(child))) {
+                child += 1;
+            }
+            if (!less(bucket.get(child), bucket.get(index))) {
+                return;
+            }
+            swap(bucket, index, child);
+            index = child;
+            child = 2 * index + 1;
+        }
+    }
+
+    /**
+     * Returns true if and only if entry a has a lower priority value than entry b, or an equal priority value and an
+     * earlier sequence number.
+     *
+     * @param a the first entry.
+     * @param b the second entry.
+     * @return true if and only if entry a comes before entry b.
+     */
+    private static <E> boolean less(Entry<E> a, Entry<E> b) {
+        return a.priority < b.priority || (a.priority == b.priority && a.sequence < b.sequence);
+    }
+
+    /**
+     * Swaps the entries at the given indices in the bucket heap and updates their indices.
+     *
+     * @param bucket the bucket heap.
+     * @param i      the index of the first entry.
+     * @param j      the index of the second entry.
+     */
+    private static <E> void swap(List<Entry<E>> bucket, int i, int j) {
+        Entry<E> temp = bucket.get(i);
+        bucket.set(i, bucket.get(j));
+        bucket.set(j, temp);
+        bucket.get(i).index = i;
+        bucket.get(j).index = j;
+    }
+
+    /**
+     * Replaces the circular array with one of the given number of buckets containing all the current entries, then
+     * moves any overflow entries that are now within range into it.
+     *
+     * @param numBuckets the new number of buckets.
+     */
+    private void resize(int numBuckets) {
+        List<List<Entry<E>>> old = buckets;
+        buckets = newBuckets(numBuckets);
+        for (List<Entry<E>> bucket : old) {
+            // Each bucket is already a valid heap and holds a single bucket number, so it can be moved as a whole
+            if (!bucket.isEmpty()) {
+                buckets.set((int) (bucket.getFirst().number % numBuckets), bucket);
+            }
+        }
+        refill();
+    }
+
+    /**
+     * Returns a list of the given number of empty buckets.
+     *
+     * @param numBuckets the number of buckets.
+     * @return a list of the given number of empty buckets.
+     */
+    private static <E> List<List<Entry<E>>> newBuckets(int numBuckets) {
+        List<List<Entry<E>>> result = new ArrayList<>(numBuckets);
+        for (int i = 0; i < numBuckets; i += 1) {
+            result.add(new ArrayList<>());
+        }
+        return result;
+    }
+
+    /**
+     * An element, its priority value, bucket number, and sequence number, and its index in its bucket.
+     *
+     * @param <E> the type of element.
+     */
+    private static class Entry<E> {
+        /**
+         * The element.
+         */
+        final E element;
+        /**
+         * The priority value for the element.
+         */
+        double priority;
+        /**
+         * The bucket number for the priority value.
+         */
+        long number;
+        /**
+         * The sequence number that orders entries with equal priority values.
+         */
+        long sequence;
+        /**
+         * The index of this entry in its bucket heap, or -1 if it is not in a bucket.
+         */
+        int index;
+
+        Entry(E element) {
+            this.element = element;
+            this.index = -1;
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package minpq;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Thread-safe implementation of the {@link MinPQ} interface backed by a lock-free {@link ConcurrentSkipListSet} of
+ * entries ordered by priority value and a {@link ConcurrentHashMap} of each element to its current entry. Elements with
+ * equal priority values are removed in the order they were added or last changed.
+ * <p>
+ * Operations on the same element are atomic with respect to each other, and {@link #removeMin()} never returns the
+ * same element twice for a single add. The queue is relaxed in the following ways while other threads are modifying
+ * it:
+ * <ul>
+ *     <li>{@link #removeMin()} returns an element that had the minimum priority value among the entries visible when
+ *     it was removed, so an element added concurrently with a lesser priority value may be missed.</li>
+ *     <li>{@link #peekMin()} and {@link #size()} are snapshots that may be stale as soon as they return.</li>
+ *     <li>{@link #removeMin()} may throw {@link NoSuchElementException} while an add is still in progress, even if
+ *     {@link #isEmpty()} already returned false.</li>
+ * </ul>
+ * Like {@link ConcurrentHashMap}, this class does not permit null elements.
+ *
+ * @param <E> the type of elements in this priority queue.
+ * @see MinPQ
+ */
+public class ConcurrentMinPQ<E> implements MinPQ<E> {
+    /**
+     * {@link ConcurrentSkipListSet} of current entries in order of priority value, then sequence number.
+     */
+    private final ConcurrentSkipListSet<Entry<E>> entries;
+    /**
+     * {@link ConcurrentHashMap} of each element to its current entry.
+     */
+    private final Map<E, Entry<E>> elementsToEntry;
+    /**
+     * The next sequence number, used to break ties between equal priority values.
+     */
+    private final AtomicLong sequence;
+
+    /**
+     * Constructs an empty instance.
+     */
+    public ConcurrentMinPQ() {
+        entries = new ConcurrentSkipListSet<>();
+        elementsToEntry = new ConcurrentHashMap<>();
+        sequence = new AtomicLong();
+    }
+
+    /**
+     * Constructs an instance containing all the given elements and their priority values.
+     *
+     * @param elementsAndPriorities each element and its corresponding priority.
+     */
+    public ConcurrentMinPQ(Map<E, Double> elementsAndPriorities) {
+        this();
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            add(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void add(E element, double priority) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        }
+        Entry<E> entry = new Entry<>(element, priority, sequence.getAndIncrement());
+        // Index the entry before it becomes visible to removeMin, which discards entries that are not indexed
+        if (elementsToEntry.putIfAbsent(element, entry) != null) {
+            throw new IllegalArgumentException("Already contains " + element);
+        }
+        entries.add(entry);
+    }
+
+    @Override
+    public void addOrChangePriority(E element, double priority) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        }
+        elementsToEntry.compute(element, (e, old) -> replace(old, e, priority));
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return elementsToEntry.containsKey(element);
+    }
+
+    @Override
+    public double getPriority(E element) {
+        Entry<E> entry = elementsToEntry.get(element);
+        if (entry == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        return entry.priority;
+    }
+
+    @Override
+    public E peekMin() {
+        try {
+            return entries.first().element;
+        } catch (NoSuchElementException e) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+    }
+
+    @Override
+    public E removeMin() {
+        while (true) {
+            Entry<E> entry = entries.pollFirst();
+            if (entry == null) {
+                throw new NoSuchElementException("PQ is empty");
+            }
+            // Only the thread that removes the current entry from the index returns the element; an entry that was
+            // replaced by a concurrent changePriority is discarded
+            if (elementsToEntry.remove(entry.element, entry)) {
+                return entry.element;
+            }
+        }
+    }
+
+    @Override
+    public void changePriority(E element, double priority) {
+        if (element == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        elementsToEntry.compute(element, (e, old) -> {
+            if (old == null) {
+                throw new NoSuchElementException("PQ does not contain " + e);
+            }
+            return replace(old, e, priority);
+        });
+    }
+
+    @Override
+    public int size() {
+        return elementsToEntry.size();
+    }
+
+    /**
+     * Replaces the old entry, if any, with a new entry in the skip list. Must be called while computing the element's
+     * mapping so that changes to the same element do not interleave.
+     *
+     * @param old      the old entry, or null if the element is not present.
+     * @param element  the element.
+     * @param priority the new priority value for the element.
+     * @return the new entry.
+     */
+    private Entry<E> replace(Entry<E> old, E element, double priority) {
+        if (old != null) {
+            entries.remove(old);
+        }
+        Entry<E> entry = new Entry<>(element, priority, sequence.getAndIncrement());
+        entries.add(entry);
+        return entry;
+    }
+
+    /**
+     * An immutable element-priority pair with a unique sequence number.
+     *
+     * @param <E> the type of element.
+     */
+    private static class Entry<E> implements Comparable<Entry<E>> {
+        /**
+         * The element.
+         */
+        final E element;
+        /**
+         * The priority value for the element.
+         */
+        final double priority;
+        /**
+         * The sequence number that orders entries with equal priority values.
+         */
+        final long sequence;
+
+        Entry(E element, double priority, long sequence) {
+            this.element = element;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+
+        @Override
+        public int compareTo(Entry<E> other) {
+            int result = Double.compare(priority, other.priority);
+            if (result == 0) {
+                result = Long.compare(sequence, other.sequence);
+            }
+            return result;
+        }
+    }
+}
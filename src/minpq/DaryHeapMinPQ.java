@@ -0,0 +1,341 @@
+package minpq;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Indexed d-ary heap implementation of the {@link MinPQ} interface. Each node has up to d children, so the heap is
+ * shallower than a binary heap: {@link #changePriority(Object, double)} to a lower priority value (a decrease-key)
+ * swims through fewer levels, at the cost of comparing more children on each level of
+ * {@link #removeMin()}. Elements, priority values, and the sequence numbers that break ties in first-in-first-out
+ * order are stored in parallel arrays and sifted iteratively, so sifting never allocates {@link PriorityNode} objects.
+ *
+ * @param <E> the type of elements in this priority queue.
+ * @see MinPQ
+ * @see OptimizedHeapMinPQ
+ */
+public class DaryHeapMinPQ<E> implements MinPQ<E> {
+    /**
+     * The default number of children per node.
+     */
+    private static final int DEFAULT_ARITY = 4;
+    /**
+     * The initial length of the heap arrays.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+    /**
+     * The number of children per node.
+     */
+    private final int arity;
+    /**
+     * {@link Map} of each element to its associated index in the heap.
+     */
+    private final Map<E, Integer> elementsToIndex;
+    /**
+     * The heap of elements, where the children of the element at index i are at indices di + 1 through di + d.
+     */
+    private Object[] elements;
+    /**
+     * The priority value of the element at each index in the heap.
+     */
+    private double[] priorities;
+    /**
+     * The sequence number of the element at each index in the heap, which breaks ties between equal priority values in
+     * first-in-first-out order.
+     */
+    private long[] sequences;
+    /**
+     * The number of elements in this priority queue.
+     */
+    private int size;
+    /**
+     * The next sequence number.
+     */
+    private long sequence;
+
+    /**
+     * Constructs an empty 4-ary heap.
+     */
+    public DaryHeapMinPQ() {
+        this(DEFAULT_ARITY);
+    }
+
+    /**
+     * Constructs an empty heap where each node has up to the given number of children.
+     *
+     * @param arity the number of children per node.
+     * @throws IllegalArgumentException if arity is less than 2.
+     */
+    public DaryHeapMinPQ(int arity) {
+        if (arity < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2 but was " + arity);
+        }
+        this.arity = arity;
+        elementsToIndex = new HashMap<>();
+        elements = new Object[INITIAL_CAPACITY];
+        priorities = new double[INITIAL_CAPACITY];
+        sequences = new long[INITIAL_CAPACITY];
+        size = 0;
+        sequence = 0;
+    }
+
+    /**
+     * Constructs a 4-ary heap containing all the given elements and their priority values in linear time.
+     *
+     * @param elementsAndPriorities each element and its corresponding priority.
+     */
+    public DaryHeapMinPQ(Map<E, Double> elementsAndPriorities) {
+        this(DEFAULT_ARITY);
+        addAll(elementsAndPriorities);
+    }
+
+    @Override
+    public void add(E element, double priority) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        } else if (contains(element)) {
+            throw new IllegalArgumentException("Already contains " + element);
+        }
+        if (size == elements.length) {
+            resize(size * 2);
+        }
+        size += 1;
+        swim(size - 1, element, priority, sequence++);
+    }
+
+    /**
+     * {@inheritDoc} Large batches are appended to the heap in any order and then heapified bottom-up.
+     */
+    @Override
+    public void addAll(Map<E, Double> elementsAndPriorities) {
+        int newSize = size + elementsAndPriorities.size();
+        if (!HeapBatches.shouldRebuild(elementsAndPriorities.size(), newSize)) {
+            MinPQ.super.addAll(elementsAndPriorities);
+            return;
+        }
+        for (E element : elementsAndPriorities.keySet()) {
+            if (element == null) {
+                throw new IllegalArgumentException("Element cannot be null");
+            } else if (contains(element)) {
+                throw new IllegalArgumentException("Already contains " + element);
+            }
+        }
+        if (newSize > elements.length) {
+            resize(Math.max(newSize, elements.length * 2));
+        }
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            place(size, entry.getKey(), entry.getValue(), sequence++);
+            size += 1;
+        }
+        heapify();
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return elementsToIndex.containsKey(element);
+    }
+
+    @Override
+    public double getPriority(E element) {
+        Integer index = elementsToIndex.get(element);
+        if (index == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        return priorities[index];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E peekMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        return (E) elements[0];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public E removeMin() {
+        E min = peekMin();
+        elementsToIndex.remove(min);
+        size -= 1;
+        E last = (E) elements[size];
+        double lastPriority = priorities[size];
+        long lastSequence = sequences[size];
+        elements[size] = null;
+        if (size > 0) {
+            sink(0, last, lastPriority, lastSequence);
+        }
+        return min;
+    }
+
+    @Override
+    public void changePriority(E element, double priority) {
+        Integer index = elementsToIndex.get(element);
+        if (index == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        // The new sequence number is greater than every other, so an equal priority value can only sink
+        if (priority < priorities[index]) {
+            swim(index, element, priority, sequence++);
+        } else {
+            sink(index, element, priority, sequence++);
+        }
+    }
+
+    /**
+     * {@inheritDoc} Large batches update every priority value in place and then heapify bottom-up.
+     */
+    @Override
+    public void changePriorities(Map<E, Double> elementsAndPriorities) {
+        if (!HeapBatches.shouldRebuild(elementsAndPriorities.size(), size)) {
+            MinPQ.super.changePriorities(elementsAndPriorities);
+            return;
+        }
+        for (E element : elementsAndPriorities.keySet()) {
+            if (!contains(element)) {
+                throw new NoSuchElementException("PQ does not contain " + element);
+            }
+        }
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            int index = elementsToIndex.get(entry.getKey());
+            priorities[index] = entry.getValue();
+            sequences[index] = sequence++;
+        }
+        heapify();
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Sinks each parent from the last one up to the root, so every subtree is a heap before its parent sinks.
+     */
+    @SuppressWarnings("unchecked")
+    private void heapify() {
+        for (int index = (size - 2) / arity; index >= 0; index -= 1) {
+            sink(index, (E) elements[index], priorities[index], sequences[index]);
+        }
+    }
+
+    /**
+     * Places the element with the given priority value at the given index or above it, shifting each parent with a
+     * greater priority value down one level.
+     *
+     * @param index    the index of the hole where the element belongs or below it.
+     * @param element  the element to place.
+     * @param priority the priority value for the element.
+     * @param sequence the sequence number for the element.
+     */
+    private void swim(int index, E element, double priority, long sequence) {
+        while (index > 0) {
+            int parent = (index - 1) / arity;
+            if (!less(priority, sequence, parent)) {
+                break;
+            }
+            move(parent, index);
+            index = parent;
+        }
+        place(index, element, priority, sequence);
+    }
+
+    /**
+     * Places the element with the given priority value at the given index or below it, shifting each minimum child with
+     * a lesser priority value up one level.
+     *
+     * @param index    the index of the hole where the element belongs or above it.
+     * @param element  the element to place.
+     * @param priority the priority value for the element.
+     * @param sequence the sequence number for the element.
+     */
+    private void sink(int index, E element, double priority, long sequence) {
+        while (true) {
+            int first = arity * index + 1;
+            if (first >= size) {
+                break;
+            }
+            int last = Math.min(first + arity, size);
+            int min = first;
+            for (int child = first + 1; child < last; child += 1) {
+                if (less(priorities[child], sequences[child], min)) {
+                    min = child;
+                }
+            }
+            if (!less(priorities[min], sequences[min], priority, sequence)) {
+                break;
+            }
+            move(min, index);
+            index = min;
+        }
+        place(index, element, priority, sequence);
+    }
+
+    /**
+     * Returns true if the first priority value and sequence number pair orders before the element at the given index.
+     *
+     * @param priority the priority value.
+     * @param sequence the sequence number.
+     * @param index    the index of the element to compare against.
+     * @return true if the pair orders before the element at the index.
+     */
+    private boolean less(double priority, long sequence, int index) {
+        return less(priority, sequence, priorities[index], sequences[index]);
+    }
+
+    /**
+     * Returns true if the first priority value and sequence number pair orders before the second pair.
+     *
+     * @param priority      the first priority value.
+     * @param sequence      the first sequence number.
+     * @param otherPriority the second priority value.
+     * @param otherSequence the second sequence number.
+     * @return true if the first pair orders before the second pair.
+     */
+    private static boolean less(double priority, long sequence, double otherPriority, long otherSequence) {
+        return priority < otherPriority || (priority == otherPriority && sequence < otherSequence);
+    }
+
+    /**
+     * Moves the element at one index to another index.
+     *
+     * @param from the current index of the element.
+     * @param to   the new index of the element.
+     */
+    @SuppressWarnings("unchecked")
+    private void move(int from, int to) {
+        elements[to] = elements[from];
+        priorities[to] = priorities[from];
+        sequences[to] = sequences[from];
+        elementsToIndex.put((E) elements[to], to);
+    }
+
+    /**
+     * Stores the element with the given priority value and sequence number at the given index.
+     *
+     * @param index    the index of the element.
+     * @param element  the element.
+     * @param priority the priority value for the element.
+     * @param sequence the sequence number for the element.
+     */
+    private void place(int index, E element, double priority, long sequence) {
+        elements[index] = element;
+        priorities[index] = priority;
+        sequences[index] = sequence;
+        elementsToIndex.put(element, index);
+    }
+
+    /**
+     * Changes the length of the heap arrays.
+     *
+     * @param capacity the new length of the heap arrays.
+     */
+    private void resize(int capacity) {
+        elements = Arrays.copyOf(elements, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        sequences = Arrays.copyOf(sequences, capacity);
+    }
+}
@@ -3,27 +3,56 @@ package minpq;
 import java.util.*;
 
 /**
- * {@link TreeMap} and {@link HashMap} implementation of the {@link MinPQ} interface.
+ * B+ tree and open-addressed hash table implementation of the {@link MinPQ} interface. Like a
+ * {@code TreeMap<Double, Set<E>>} of priority values to elements and a {@code HashMap<E, Double>} of elements to
+ * priority values, but without boxing: the tree is keyed by primitive {@code long} encodings of priority values that
+ * sort in the same order as {@link Double#compare(double, double)}, and the hash table stores elements and priority
+ * values in parallel arrays. Since most priority values are unique, each tree entry stores its element inline and only
+ * allocates a {@link Set} for priority values shared by more than one element, so adding an element with a new
+ * priority value only allocates when a tree node splits or the hash table grows. Each shared {@link Set} is a
+ * {@link LinkedHashSet} and changing a priority value always moves the element to the end of its {@link Set}, so ties
+ * are removed in first-in-first-out order of when elements were added or last changed.
+ * <p>
+ * Removing the last entry from a tree node removes the node, but nodes are otherwise never merged, so the tree height
+ * is bounded by the largest size this priority queue has reached.
  *
  * @param <E> the type of elements in this priority queue.
  * @see MinPQ
  */
 public class DoubleMapMinPQ<E> implements MinPQ<E> {
     /**
-     * {@link NavigableMap} of priority values to all elements that share the same priority values.
+     * The maximum number of keys in each tree node.
      */
-    private final NavigableMap<Double, Set<E>> priorityToElement;
+    private static final int NODE_CAPACITY = 64;
     /**
-     * {@link Map} of elements to their associated priority values.
+     * The initial length of the hash table arrays, which must be a power of 2.
      */
-    private final Map<E, Double> elementToPriority;
+    private static final int INITIAL_CAPACITY = 16;
+    /**
+     * The root of the B+ tree of priority value keys to an element or a {@link Bucket} of elements.
+     */
+    private Node root;
+    /**
+     * The hash table of elements, where null marks an empty slot.
+     */
+    private Object[] elements;
+    /**
+     * The priority value of the element in each slot of the hash table.
+     */
+    private double[] priorities;
+    /**
+     * The number of elements in this priority queue.
+     */
+    private int size;
 
     /**
      * Constructs an empty instance.
      */
     public DoubleMapMinPQ() {
-        priorityToElement = new TreeMap<>();
-        elementToPriority = new HashMap<>();
+        root = new Leaf();
+        elements = new Object[INITIAL_CAPACITY];
+        priorities = new double[INITIAL_CAPACITY];
+        size = 0;
     }
 
     /**
@@ -32,43 +61,44 @@ public class DoubleMapMinPQ<E> implements MinPQ<E> {
      * @param elementsAndPriorities each element and its corresponding priority.
      */
     public DoubleMapMinPQ(Map<E, Double> elementsAndPriorities) {
-        priorityToElement = new TreeMap<>();
-        elementToPriority = new HashMap<>(elementsAndPriorities);
-        for (Map.Entry<E, Double> entry : elementToPriority.entrySet()) {
-            E element = entry.getKey();
-            double priority = entry.getValue();
-            if (!priorityToElement.containsKey(priority)) {
-                priorityToElement.put(priority, new HashSet<>());
-            }
-            Set<E> elementsWithPriority = priorityToElement.get(priority);
-            elementsWithPriority.add(element);
+        this();
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            add(entry.getKey(), entry.getValue());
         }
     }
 
     @Override
     public void add(E element, double priority) {
-        if (contains(element)) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        }
+        int slot = slot(element);
+        if (elements[slot] != null) {
             throw new IllegalArgumentException("Already contains " + element);
         }
-        if (!priorityToElement.containsKey(priority)) {
-            priorityToElement.put(priority, new HashSet<>());
+        elements[slot] = element;
+        priorities[slot] = priority;
+        size += 1;
+        if (size * 2 > elements.length) {
+            resize();
         }
-        Set<E> elementsWithPriority = priorityToElement.get(priority);
-        elementsWithPriority.add(element);
-        elementToPriority.put(element, priority);
+        insert(key(priority), element);
     }
 
     @Override
     public boolean contains(E element) {
-        return elementToPriority.containsKey(element);
+        return element != null && elements[slot(element)] != null;
     }
 
     @Override
     public double getPriority(E element) {
-        if (!contains(element)) {
-            throw new NoSuchElementException("PQ does not contain element");
+        if (element != null) {
+            int slot = slot(element);
+            if (elements[slot] != null) {
+                return priorities[slot];
+            }
         }
-        return elementToPriority.get(element);
+        throw new NoSuchElementException("PQ does not contain " + element);
     }
 
     @Override
@@ -76,9 +106,7 @@ public class DoubleMapMinPQ<E> implements MinPQ<E> {
         if (isEmpty()) {
             throw new NoSuchElementException("PQ is empty");
         }
-        double minPriority = priorityToElement.firstKey();
-        Set<E> elementsWithMinPriority = priorityToElement.get(minPriority);
-        return firstOf(elementsWithMinPriority);
+        return firstOf(leftmostLeaf().values[0]);
     }
 
     @Override
@@ -86,46 +114,372 @@ public class DoubleMapMinPQ<E> implements MinPQ<E> {
         if (isEmpty()) {
             throw new NoSuchElementException("PQ is empty");
         }
-        double minPriority = priorityToElement.firstKey();
-        Set<E> elementsWithMinPriority = priorityToElement.get(minPriority);
-        E element = firstOf(elementsWithMinPriority);
-        elementsWithMinPriority.remove(element);
-        if (elementsWithMinPriority.isEmpty()) {
-            priorityToElement.remove(minPriority);
-        }
-        elementToPriority.remove(element);
+        Leaf leaf = leftmostLeaf();
+        E element = firstOf(leaf.values[0]);
+        delete(leaf.keys[0], element);
+        removeSlot(slot(element));
         return element;
     }
 
     @Override
     public void changePriority(E element, double priority) {
-        if (!contains(element)) {
+        int slot = element == null ? -1 : slot(element);
+        if (slot < 0 || elements[slot] == null) {
             throw new NoSuchElementException("PQ does not contain " + element);
         }
-        double oldPriority = elementToPriority.get(element);
-        if (priority != oldPriority) {
-            Set<E> elementsWithOldPriority = priorityToElement.get(oldPriority);
-            elementsWithOldPriority.remove(element);
-            if (elementsWithOldPriority.isEmpty()) {
-                priorityToElement.remove(oldPriority);
-            }
-            elementToPriority.remove(element);
-            add(element, priority);
-        }
+        // Reinsert even if the priority value is unchanged so that the element moves behind any ties
+        delete(key(priorities[slot]), element);
+        priorities[slot] = priority;
+        insert(key(priority), element);
     }
 
     @Override
     public int size() {
-        return elementToPriority.size();
+        return size;
+    }
+
+    /**
+     * Returns a {@code long} that orders priority values the same way as {@link Double#compare(double, double)}, so
+     * -0.0 is less than 0.0 and NaN is greater than positive infinity.
+     *
+     * @param priority the priority value.
+     * @return the key for the priority value.
+     */
+    private static long key(double priority) {
+        long bits = Double.doubleToLongBits(priority);
+        // Flip the magnitude bits of negative values so that greater magnitudes sort lower
+        return bits ^ ((bits >> 63) & Long.MAX_VALUE);
+    }
+
+    /**
+     * Returns one element from the given tree entry value. The same element is returned until it is removed.
+     *
+     * @param value an element or a {@link Bucket} of elements.
+     * @return one element from the tree entry value.
+     */
+    @SuppressWarnings("unchecked")
+    private E firstOf(Object value) {
+        if (value instanceof Bucket) {
+            return ((Bucket<E>) value).elements.iterator().next();
+        }
+        return (E) value;
+    }
+
+    /**
+     * Returns the leftmost leaf, which contains the minimum key unless the tree is empty.
+     *
+     * @return the leftmost leaf.
+     */
+    private Leaf leftmostLeaf() {
+        Node node = root;
+        while (node instanceof Inner inner) {
+            node = inner.children[0];
+        }
+        return (Leaf) node;
+    }
+
+    /**
+     * Adds the element to the tree under the given key, growing the tree if the root splits.
+     *
+     * @param key     the key for the element's priority value.
+     * @param element the element.
+     */
+    private void insert(long key, E element) {
+        Node sibling = insert(root, key, element);
+        if (sibling != null) {
+            Inner newRoot = new Inner();
+            newRoot.keys[0] = root.keys[0];
+            newRoot.children[0] = root;
+            newRoot.keys[1] = sibling.keys[0];
+            newRoot.children[1] = sibling;
+            newRoot.size = 2;
+            root = newRoot;
+        }
+    }
+
+    /**
+     * Adds the element to the subtree under the given key.
+     *
+     * @param node    the root of the subtree.
+     * @param key     the key for the element's priority value.
+     * @param element the element.
+     * @return the new right sibling if the node split, or null.
+     */
+    @SuppressWarnings("unchecked")
+    private Node insert(Node node, long key, E element) {
+        if (node instanceof Leaf leaf) {
+            int index = Arrays.binarySearch(leaf.keys, 0, leaf.size, key);
+            if (index >= 0) {
+                // Another element already has this priority value, so share a bucket
+                Object value = leaf.values[index];
+                if (value instanceof Bucket) {
+                    ((Bucket<E>) value).elements.add(element);
+                } else {
+                    Bucket<E> bucket = new Bucket<>();
+                    bucket.elements.add((E) value);
+                    bucket.elements.add(element);
+                    leaf.values[index] = bucket;
+                }
+                return null;
+            }
+            return leaf.insert(-index - 1, key, element);
+        }
+        Inner inner = (Inner) node;
+        int index = inner.childIndex(key);
+        Node sibling = insert(inner.children[index], key, element);
+        if (sibling == null) {
+            return null;
+        }
+        return inner.insert(index + 1, sibling.keys[0], sibling);
+    }
+
+    /**
+     * Removes the element from the tree under the given key, shrinking the tree while the root has one child.
+     *
+     * @param key     the key for the element's priority value.
+     * @param element the element.
+     */
+    private void delete(long key, E element) {
+        if (delete(root, key, element)) {
+            root = new Leaf();
+        }
+        while (root instanceof Inner inner && inner.size == 1) {
+            root = inner.children[0];
+        }
     }
 
     /**
-     * Returns any one element from the given iterable.
+     * Removes the element from the subtree under the given key, removing any node that becomes empty.
      *
-     * @param it the iterable of elements.
-     * @return any one element from the given iterable.
+     * @param node    the root of the subtree.
+     * @param key     the key for the element's priority value.
+     * @param element the element.
+     * @return true if the node became empty.
      */
-    private E firstOf(Iterable<E> it) {
-        return it.iterator().next();
+    @SuppressWarnings("unchecked")
+    private boolean delete(Node node, long key, E element) {
+        if (node instanceof Leaf leaf) {
+            int index = Arrays.binarySearch(leaf.keys, 0, leaf.size, key);
+            Object value = leaf.values[index];
+            if (value instanceof Bucket) {
+                Set<E> bucket = ((Bucket<E>) value).elements;
+                bucket.remove(element);
+                if (bucket.size() == 1) {
+                    // Store the last element inline again
+                    leaf.values[index] = bucket.iterator().next();
+                }
+                return false;
+            }
+            leaf.remove(index);
+            return leaf.size == 0;
+        }
+        Inner inner = (Inner) node;
+        int index = inner.childIndex(key);
+        if (delete(inner.children[index], key, element)) {
+            inner.remove(index);
+        }
+        return inner.size == 0;
+    }
+
+    /**
+     * Returns the hash table slot that contains the element, or the empty slot where it belongs.
+     *
+     * @param element the non-null element.
+     * @return the hash table slot for the element.
+     */
+    private int slot(Object element) {
+        int mask = elements.length - 1;
+        int slot = hash(element) & mask;
+        while (elements[slot] != null && !elements[slot].equals(element)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    /**
+     * Returns the hash code of the element with its high bits spread into its low bits.
+     *
+     * @param element the non-null element.
+     * @return the spread hash code of the element.
+     */
+    private static int hash(Object element) {
+        int h = element.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Empties the given hash table slot, shifting later elements in the same probe sequence back so that every element
+     * remains reachable from its home slot.
+     *
+     * @param slot the slot to empty.
+     */
+    private void removeSlot(int slot) {
+        int mask = elements.length - 1;
+        int next = (slot + 1) & mask;
+        while (elements[next] != null) {
+            int home = hash(elements[next]) & mask;
+            // Move the element back if its home slot is not cyclically between the empty slot and its current slot
+            if (((next - home) & mask) >= ((next - slot) & mask)) {
+                elements[slot] = elements[next];
+                priorities[slot] = priorities[next];
+                slot = next;
+            }
+            next = (next + 1) & mask;
+        }
+        elements[slot] = null;
+        size -= 1;
+    }
+
+    /**
+     * Doubles the length of the hash table arrays and reinserts every element.
+     */
+    private void resize() {
+        Object[] oldElements = elements;
+        double[] oldPriorities = priorities;
+        elements = new Object[oldElements.length * 2];
+        priorities = new double[oldElements.length * 2];
+        for (int i = 0; i < oldElements.length; i += 1) {
+            if (oldElements[i] != null) {
+                int slot = slot(oldElements[i]);
+                elements[slot] = oldElements[i];
+                priorities[slot] = oldPriorities[i];
+            }
+        }
+    }
+
+    /**
+     * Elements that share the same priority value, in the order they were added to the bucket.
+     *
+     * @param <E> the type of elements.
+     */
+    private static class Bucket<E> {
+        final Set<E> elements = new LinkedHashSet<>();
+    }
+
+    /**
+     * B+ tree node with up to {@link #NODE_CAPACITY} keys in sorted order.
+     */
+    private abstract static class Node {
+        final long[] keys = new long[NODE_CAPACITY];
+        int size;
+    }
+
+    /**
+     * Leaf node where each key maps to an element or a {@link Bucket} of elements.
+     */
+    private static class Leaf extends Node {
+        final Object[] values = new Object[NODE_CAPACITY];
+
+        /**
+         * Inserts the key and value at the given index, splitting this leaf in half first if it is full.
+         *
+         * @param index the index where the key belongs.
+         * @param key   the key.
+         * @param value the value.
+         * @return the new right sibling if this leaf split, or null.
+         */
+        Leaf insert(int index, long key, Object value) {
+            if (size < NODE_CAPACITY) {
+                System.arraycopy(keys, index, keys, index + 1, size - index);
+                System.arraycopy(values, index, values, index + 1, size - index);
+                keys[index] = key;
+                values[index] = value;
+                size += 1;
+                return null;
+            }
+            Leaf sibling = new Leaf();
+            int half = NODE_CAPACITY / 2;
+            System.arraycopy(keys, half, sibling.keys, 0, NODE_CAPACITY - half);
+            System.arraycopy(values, half, sibling.values, 0, NODE_CAPACITY - half);
+            Arrays.fill(values, half, NODE_CAPACITY, null);
+            sibling.size = NODE_CAPACITY - half;
+            size = half;
+            if (index <= half) {
+                insert(index, key, value);
+            } else {
+                sibling.insert(index - half, key, value);
+            }
+            return sibling;
+        }
+
+        /**
+         * Removes the key and value at the given index.
+         *
+         * @param index the index of the key.
+         */
+        void remove(int index) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(values, index + 1, values, index, size - index - 1);
+            size -= 1;
+            values[size] = null;
+        }
+    }
+
+    /**
+     * Inner node where each key except the first is a lower bound for the keys in the corresponding child and an upper
+     * bound (exclusive) for the keys in the previous child. The first key is not used for searching since keys less
+     * than it may be added to the first child.
+     */
+    private static class Inner extends Node {
+        final Node[] children = new Node[NODE_CAPACITY];
+
+        /**
+         * Returns the index of the child whose subtree contains the key or where it belongs.
+         *
+         * @param key the key.
+         * @return the index of the child for the key.
+         */
+        int childIndex(long key) {
+            // The first child holds every key less than the second child's lower bound, so skip its lower bound
+            int index = Arrays.binarySearch(keys, 1, size, key);
+            if (index >= 0) {
+                return index;
+            }
+            return -index - 2;
+        }
+
+        /**
+         * Inserts the key and child at the given index, splitting this node in half first if it is full.
+         *
+         * @param index the index where the child belongs.
+         * @param key   the lower bound for the keys in the child.
+         * @param child the child.
+         * @return the new right sibling if this node split, or null.
+         */
+        Inner insert(int index, long key, Node child) {
+            if (size < NODE_CAPACITY) {
+                System.arraycopy(keys, index, keys, index + 1, size - index);
+                System.arraycopy(children, index, children, index + 1, size - index);
+                keys[index] = key;
+                children[index] = child;
+                size += 1;
+                return null;
+            }
+            Inner sibling = new Inner();
+            int half = NODE_CAPACITY / 2;
+            System.arraycopy(keys, half, sibling.keys, 0, NODE_CAPACITY - half);
+            System.arraycopy(children, half, sibling.children, 0, NODE_CAPACITY - half);
+            Arrays.fill(children, half, NODE_CAPACITY, null);
+            sibling.size = NODE_CAPACITY - half;
+            size = half;
+            if (index <= half) {
+                insert(index, key, child);
+            } else {
+                sibling.insert(index - half, key, child);
+            }
+            return sibling;
+        }
+
+        /**
+         * Removes the key and child at the given index.
+         *
+         * @param index the index of the child.
+         */
+        void remove(int index) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(children, index + 1, children, index, size - index - 1);
+            size -= 1;
+            children[size] = null;
+        }
     }
 }
@@ -0,0 +1,488 @@
+package minpq;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+
+/**
+ * External-memory implementation of the {@link MinPQ} interface for add and removeMin workloads whose frontier may not
+ * fit in memory. New elements are added to a bounded in-memory heap. When the heap is full, its elements are spilled
+ * in sorted order to a run file in the given directory, and removing the minimum merges the in-memory heap with the
+ * smallest unread entry from each run. Runs are merged a fixed number at a time into a run one level up, like a
+ * log-structured merge tree, so each entry is rewritten at most once per level and the total I/O is
+ * O(n log(n / bufferCapacity)) rather than quadratic. Memory use is bounded by the buffer capacity plus one entry and
+ * one file buffer per run, where each level has fewer than {@link #FAN_IN} runs, no matter how many elements are added.
+ * Each entry is written with its sequence number, so ties are removed in first-in-first-out order of when elements
+ * were added no matter which run or heap they are in.
+ * <p>
+ * Since elements are stored on disk, this implementation keeps no index of elements: {@link #contains(Object)},
+ * {@link #getPriority(Object)}, and {@link #changePriority(Object, double)} are unsupported, and adding an element
+ * that is already present adds another entry for it rather than being rejected. Pair it with a lazy-deletion search
+ * that adds an element again whenever its priority value improves and skips elements that were already removed, as
+ * {@link graphs.shortestpaths.LazyDijkstraSolver} does with its own heap. Call {@link #close()} to delete any
+ * remaining run files.
+ *
+ * @param <E> the type of elements in this priority queue.
+ * @see MinPQ
+ */
+public class ExternalMinPQ<E> implements MinPQ<E>, AutoCloseable {
+    /**
+     * The number of runs on a level that are merged into one run on the next level.
+     */
+    public static final int FAN_IN = 16;
+    /**
+     * The directory for run files.
+     */
+    private final Path directory;
+    /**
+     * The maximum number of elements in the in-memory heap.
+     */
+    private final int bufferCapacity;
+    /**
+     * The {@link Codec} for writing and reading elements.
+     */
+    private final Codec<E> codec;
+    /**
+     * The in-memory heap of the most recently added elements.
+     */
+    private final PriorityQueue<PriorityNode<E>> buffer;
+    /**
+     * The runs on disk, ordered by their smallest unread entry.
+     */
+    private final PriorityQueue<Run<E>> runs;
+    /**
+     * The runs on disk grouped by level, where each level has fewer than {@link #FAN_IN} runs.
+     */
+    private final List<List<Run<E>>> levels;
+    /**
+     * The number of elements in this priority queue.
+     */
+    private int size;
+    /**
+     * The next sequence number, used to break ties between equal priority values in first-in-first-out order.
+     */
+    private long sequence;
+
+    /**
+     * Constructs an empty instance that spills elements to the given directory using Java serialization.
+     *
+     * @param directory      the directory for run files.
+     * @param bufferCapacity the maximum number of elements to keep in memory before spilling them to disk.
+     */
+    public ExternalMinPQ(Path directory, int bufferCapacity) {
+        this(directory, bufferCapacity, Codec.serializable());
+    }
+
+    /**
+     * Constructs an empty instance that spills elements to the given directory using the given {@link Codec}.
+     *
+     * @param directory      the directory for run files.
+     * @param bufferCapacity the maximum number of elements to keep in memory before spilling them to disk.
+     * @param codec          the {@link Codec} for writing and reading elements.
+     * @throws IllegalArgumentException if bufferCapacity is not positive.
+     */
+    public ExternalMinPQ(Path directory, int bufferCapacity, Codec<E> codec) {
+        if (bufferCapacity < 1) {
+            throw new IllegalArgumentException("Buffer capacity must be positive but was " + bufferCapacity);
+        }
+        this.directory = directory;
+        this.bufferCapacity = bufferCapacity;
+        this.codec = codec;
+        buffer = new PriorityQueue<>(bufferCapacity);
+        runs = new PriorityQueue<>(Comparator.<Run<E>>comparingDouble(run -> run.headPriority)
+                .thenComparingLong(run -> run.headSequence));
+        levels = new ArrayList<>();
+        size = 0;
+        sequence = 0;
+    }
+
+    /**
+     * {@inheritDoc} Adding an element that is already present adds another entry for it rather than throwing.
+     *
+     * @throws UncheckedIOException if the buffer could not be spilled to disk.
+     */
+    @Override
+    public void add(E element, double priority) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        }
+        if (buffer.size() == bufferCapacity) {
+            spill();
+        }
+        buffer.add(new PriorityNode<>(element, priority, sequence++));
+        size += 1;
+    }
+
+    /**
+     * {@inheritDoc} Adding an element that is already present adds another entry for it rather than throwing.
+     *
+     * @throws UncheckedIOException if the buffer could not be spilled to disk.
+     */
+    @Override
+    public void addAll(Map<E, Double> elementsAndPriorities) {
+        for (E element : elementsAndPriorities.keySet()) {
+            if (element == null) {
+                throw new IllegalArgumentException("Element cannot be null");
+            }
+        }
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            add(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Unsupported since elements on disk cannot be found by value.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public boolean contains(E element) {
+        throw new UnsupportedOperationException("ExternalMinPQ does not support contains");
+    }
+
+    /**
+     * Unsupported since elements on disk cannot be found by value.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public double getPriority(E element) {
+        throw new UnsupportedOperationException("ExternalMinPQ does not support getPriority");
+    }
+
+    @Override
+    public E peekMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        if (minInBuffer()) {
+            return buffer.peek().getElement();
+        }
+        return runs.peek().head;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws UncheckedIOException if the next entry in a run could not be read.
+     */
+    @Override
+    public E removeMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        size -= 1;
+        if (minInBuffer()) {
+            return buffer.remove().getElement();
+        }
+        Run<E> run = runs.remove();
+        E min = run.head;
+        if (run.advance()) {
+            runs.add(run);
+        } else {
+            levels.get(run.level).remove(run);
+        }
+        return min;
+    }
+
+    /**
+     * Unsupported since elements on disk cannot be found by value. Add the element again with the new priority value
+     * and skip the old entry when it is removed instead.
+     *
+     * @throws UnsupportedOperationException always.
+     */
+    @Override
+    public void changePriority(E element, double priority) {
+        throw new UnsupportedOperationException("ExternalMinPQ does not support changePriority");
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of runs currently on disk.
+     *
+     * @return the number of runs currently on disk.
+     */
+    public int numRuns() {
+        return runs.size();
+    }
+
+    /**
+     * Removes all elements and deletes all run files.
+     *
+     * @throws UncheckedIOException if a run file could not be closed or deleted.
+     */
+    @Override
+    public void close() {
+        buffer.clear();
+        while (!runs.isEmpty()) {
+            runs.remove().close();
+        }
+        levels.clear();
+        size = 0;
+    }
+
+    /**
+     * Returns true if the minimum element is in the in-memory heap rather than in a run. Requires that this priority
+     * queue is not empty.
+     *
+     * @return true if the minimum element is in the in-memory heap.
+     */
+    private boolean minInBuffer() {
+        if (runs.isEmpty()) {
+            return true;
+        } else if (buffer.isEmpty()) {
+            return false;
+        }
+        PriorityNode<E> node = buffer.peek();
+        Run<E> run = runs.peek();
+        int result = Double.compare(node.getPriority(), run.headPriority);
+        return result < 0 || (result == 0 && node.getSequence() < run.headSequence);
+    }
+
+    /**
+     * Writes every element in the in-memory heap to a new run on level 0 in sorted order, then merges each full level
+     * into the next.
+     */
+    private void spill() {
+        try {
+            Path path = Files.createTempFile(directory, "minpq", ".run");
+            long length = buffer.size();
+            try (DataOutputStream out = openOutput(path)) {
+                while (!buffer.isEmpty()) {
+                    PriorityNode<E> node = buffer.remove();
+                    write(out, node.getPriority(), node.getSequence(), node.getElement());
+                }
+            }
+            addRun(path, length, 0);
+            for (int level = 0; level < levels.size() && levels.get(level).size() == FAN_IN; level += 1) {
+                merge(level);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Merges every run on the given level into a single run on the next level.
+     *
+     * @param level the level to merge.
+     * @throws IOException if a run could not be read or written.
+     */
+    private void merge(int level) throws IOException {
+        List<Run<E>> merging = levels.get(level);
+        runs.removeAll(merging);
+        PriorityQueue<Run<E>> heads = new PriorityQueue<>(runs.comparator());
+        heads.addAll(merging);
+        merging.clear();
+        Path path = Files.createTempFile(directory, "minpq", ".run");
+        long length = 0;
+        try (DataOutputStream out = openOutput(path)) {
+            while (!heads.isEmpty()) {
+                Run<E> run = heads.remove();
+                write(out, run.headPriority, run.headSequence, run.head);
+                length += 1;
+                if (run.advance()) {
+                    heads.add(run);
+                }
+            }
+        }
+        addRun(path, length, level + 1);
+    }
+
+    /**
+     * Adds the run file at the given path with the given number of entries to the given level.
+     *
+     * @param path   the path to the run file.
+     * @param length the number of entries in the run file, which must be positive.
+     * @param level  the level of the run.
+     * @throws IOException if the run file could not be opened.
+     */
+    private void addRun(Path path, long length, int level) throws IOException {
+        if (level == levels.size()) {
+            levels.add(new ArrayList<>(FAN_IN));
+        }
+        Run<E> run = new Run<>(path, length, level, codec);
+        levels.get(level).add(run);
+        runs.add(run);
+    }
+
+    /**
+     * Writes an entry to a run file.
+     *
+     * @param out      the output for the run file.
+     * @param priority the priority value of the entry.
+     * @param sequence the sequence number of the entry.
+     * @param element  the element of the entry.
+     * @throws IOException if the entry could not be written.
+     */
+    private void write(DataOutput out, double priority, long sequence, E element) throws IOException {
+        out.writeDouble(priority);
+        out.writeLong(sequence);
+        codec.write(out, element);
+    }
+
+    /**
+     * Returns a buffered {@link DataOutputStream} for writing to the file at the given path.
+     *
+     * @param path the path to the file.
+     * @return a buffered {@link DataOutputStream} for writing to the file.
+     * @throws IOException if the file could not be opened.
+     */
+    private static DataOutputStream openOutput(Path path) throws IOException {
+        return new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+    }
+
+    /**
+     * Writes and reads elements for a run file.
+     *
+     * @param <E> the type of elements.
+     */
+    public interface Codec<E> {
+        /**
+         * Writes the element to the output.
+         *
+         * @param out     the output.
+         * @param element the element to write.
+         * @throws IOException if the element could not be written.
+         */
+        void write(DataOutput out, E element) throws IOException;
+
+        /**
+         * Reads the next element from the input.
+         *
+         * @param in the input.
+         * @return the next element.
+         * @throws IOException if the element could not be read.
+         */
+        E read(DataInput in) throws IOException;
+
+        /**
+         * Returns a {@link Codec} that uses Java serialization, so elements must be {@link Serializable}.
+         *
+         * @param <E> the type of elements.
+         * @return a {@link Codec} that uses Java serialization.
+         */
+        static <E> Codec<E> serializable() {
+            return new Codec<>() {
+                @Override
+                public void write(DataOutput out, E element) throws IOException {
+                    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+                    try (ObjectOutputStream objects = new ObjectOutputStream(bytes)) {
+                        objects.writeObject(element);
+                    }
+                    out.writeInt(bytes.size());
+                    out.write(bytes.toByteArray());
+                }
+
+                @Override
+                @SuppressWarnings("unchecked")
+                public E read(DataInput in) throws IOException {
+                    byte[] bytes = new byte[in.readInt()];
+                    in.readFully(bytes);
+                    try (ObjectInputStream objects = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+                        return (E) objects.readObject();
+                    } catch (ClassNotFoundException e) {
+                        throw new IOException(e);
+                    }
+                }
+            };
+        }
+    }
+
+    /**
+     * A sorted run file and its smallest unread entry. Each entry is a priority value, a sequence number, and an
+     * element.
+     *
+     * @param <E> the type of elements.
+     */
+    private static class Run<E> {
+        /**
+         * The path to the run file.
+         */
+        private final Path path;
+        /**
+         * The buffered input for reading the run file.
+         */
+        private final DataInputStream in;
+        /**
+         * The {@link Codec} for reading elements.
+         */
+        private final Codec<E> codec;
+        /**
+         * The level of the run, which is the number of times its entries have been merged.
+         */
+        final int level;
+        /**
+         * The number of entries that have not been read yet.
+         */
+        private long remaining;
+        /**
+         * The smallest unread element.
+         */
+        E head;
+        /**
+         * The priority value of the smallest unread element.
+         */
+        double headPriority;
+        /**
+         * The sequence number of the smallest unread element.
+         */
+        long headSequence;
+
+        Run(Path path, long length, int level, Codec<E> codec) throws IOException {
+            this.path = path;
+            this.in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)));
+            this.codec = codec;
+            this.level = level;
+            this.remaining = length;
+            advance();
+        }
+
+        /**
+         * Reads the next entry into the head, or closes and deletes the run file if there are no more entries.
+         *
+         * @return true if there was another entry.
+         * @throws UncheckedIOException if the entry could not be read or the file could not be deleted.
+         */
+        boolean advance() {
+            if (remaining == 0) {
+                close();
+                return false;
+            }
+            try {
+                headPriority = in.readDouble();
+                headSequence = in.readLong();
+                head = codec.read(in);
+                remaining -= 1;
+                return true;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        /**
+         * Closes and deletes the run file.
+         *
+         * @throws UncheckedIOException if the file could not be closed or deleted.
+         */
+        void close() {
+            head = null;
+            try {
+                in.close();
+                Files.deleteIfExists(path);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
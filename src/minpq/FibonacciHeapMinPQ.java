@@ -0,0 +1,374 @@
+package minpq;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Fibonacci heap implementation of the {@link MinPQ} interface. The heap is a circular list of heap-ordered trees.
+ * Adding an element appends a new tree to the root list, and decreasing a priority value cuts the node into the root
+ * list, so both take constant amortized time. {@link #removeMin()} consolidates the root list by linking trees of
+ * equal degree, and marks on nodes that have lost a child bound the degree of every tree to O(log n).
+ *
+ * @param <E> the type of elements in this priority queue.
+ * @see MinPQ
+ * @see PairingHeapMinPQ
+ */
+public class FibonacciHeapMinPQ<E> implements MinPQ<E> {
+    /**
+     * Upper bound on the degree of any node, which is at most log base phi of {@link Integer#MAX_VALUE}.
+     */
+    private static final int MAX_DEGREE = 64;
+    /**
+     * {@link Map} of each element to its node in the heap, used as a handle for changing its priority value.
+     */
+    private final Map<E, Node<E>> nodes;
+    /**
+     * Reusable table of trees by degree for {@link #consolidate()}.
+     */
+    private final List<Node<E>> byDegree;
+    /**
+     * Reusable buffer of roots for {@link #consolidate()}.
+     */
+    private final List<Node<E>> roots;
+    /**
+     * The root with the minimum priority value, or null if this priority queue is empty.
+     */
+    private Node<E> min;
+    /**
+     * The next sequence number, used to break ties between equal priority values in first-in-first-out order.
+     */
+    private long sequence;
+
+    /**
+     * Constructs an empty instance.
+     */
+    public FibonacciHeapMinPQ() {
+        nodes = new HashMap<>();
+        byDegree = new ArrayList<>(MAX_DEGREE);
+        for (int i = 0; i < MAX_DEGREE; i += 1) {
+            byDegree.add(null);
+        }
+        roots = new ArrayList<>();
+        min = null;
+        sequence = 0;
+    }
+
+    /**
+     * Constructs an instance containing all the given elements and their priority values.
+     *
+     * @param elementsAndPriorities each element and its corresponding priority.
+     */
+    public FibonacciHeapMinPQ(Map<E, Double> elementsAndPriorities) {
+        this();
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            add(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void add(E element, double priority) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        } else if (contains(element)) {
+            throw new IllegalArgumentException("Already contains " + element);
+        }
+        Node<E> node = new Node<>(element, priority, sequence++);
+        nodes.put(element, node);
+        addRoot(node);
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return nodes.containsKey(element);
+    }
+
+    @Override
+    public double getPriority(E element) {
+        Node<E> node = nodes.get(element);
+        if (node == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        return node.priority;
+    }
+
+    @Override
+    public E peekMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        return min.element;
+    }
+
+    @Override
+    public E removeMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        Node<E> node = min;
+        nodes.remove(node.element);
+        removeMinRoot();
+        return node.element;
+    }
+
+    @Override
+    public void changePriority(E element, double priority) {
+        Node<E> node = nodes.get(element);
+        if (node == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        if (priority < node.priority) {
+            node.priority = priority;
+            node.sequence = sequence++;
+            Node<E> parent = node.parent;
+            if (parent != null && less(node, parent)) {
+                cut(node);
+                cascadingCut(parent);
+            }
+            if (less(node, min)) {
+                min = node;
+            }
+        } else {
+            // Increase-key, including an equal priority value with a later sequence number: remove the node as if it
+            // were the minimum, then add it back with the new priority value
+            if (node.parent != null) {
+                Node<E> parent = node.parent;
+                cut(node);
+                cascadingCut(parent);
+            }
+            min = node;
+            removeMinRoot();
+            node.priority = priority;
+            node.sequence = sequence++;
+            addRoot(node);
+        }
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Adds the given node as a new tree in the root list.
+     *
+     * @param node the node, which must not belong to any list.
+     */
+    private void addRoot(Node<E> node) {
+        node.left = node;
+        node.right = node;
+        node.parent = null;
+        node.mark = false;
+        if (min == null) {
+            min = node;
+        } else {
+            splice(min, node);
+            if (less(node, min)) {
+                min = node;
+            }
+        }
+    }
+
+    /**
+     * Removes the minimum root, moves its children to the root list, and consolidates the root list.
+     */
+    private void removeMinRoot() {
+        Node<E> node = min;
+        Node<E> child = node.child;
+        if (child != null) {
+            Node<E> current = child;
+            do {
+                current.parent = null;
+                current.mark = false;
+                current = current.right;
+            } while (current != child);
+            splice(node, child);
+        }
+        node.child = null;
+        node.degree = 0;
+        if (node.right == node) {
+            min = null;
+        } else {
+            min = node.right;
+            unlink(node);
+            consolidate();
+        }
+        node.left = node;
+        node.right = node;
+    }
+
+    /**
+     * Links roots of equal degree until every root has a distinct degree, and updates the minimum root.
+     */
+    private void consolidate() {
+        Node<E> current = min;
+        do {
+            roots.add(current);
+            current = current.right;
+        } while (current != min);
+        for (Node<E> root : roots) {
+            Node<E> x = root;
+            int degree = x.degree;
+            while (byDegree.get(degree) != null) {
+                Node<E> y = byDegree.get(degree);
+                if (less(y, x)) {
+                    Node<E> temp = x;
+                    x = y;
+                    y = temp;
+                }
+                unlink(y);
+                y.left = y;
+                y.right = y;
+                y.parent = x;
+                y.mark = false;
+                if (x.child == null) {
+                    x.child = y;
+                } else {
+                    splice(x.child, y);
+                }
+                x.degree += 1;
+                byDegree.set(degree, null);
+                degree += 1;
+            }
+            byDegree.set(degree, x);
+        }
+        roots.clear();
+        min = null;
+        for (int i = 0; i < MAX_DEGREE; i += 1) {
+            Node<E> root = byDegree.get(i);
+            if (root != null) {
+                if (min == null || less(root, min)) {
+                    min = root;
+                }
+                byDegree.set(i, null);
+            }
+        }
+    }
+
+    /**
+     * Moves the given non-root node and its subtree from its parent to the root list.
+     *
+     * @param node the node to cut.
+     */
+    private void cut(Node<E> node) {
+        Node<E> parent = node.parent;
+        if (parent.child == node) {
+            parent.child = node.right == node ? null : node.right;
+        }
+        unlink(node);
+        parent.degree -= 1;
+        node.left = node;
+        node.right = node;
+        node.parent = null;
+        node.mark = false;
+        splice(min, node);
+    }
+
+    /**
+     * Cuts each marked ancestor starting from the given node, then marks the first unmarked non-root ancestor.
+     *
+     * @param node the parent of a node that was just cut.
+     */
+    private void cascadingCut(Node<E> node) {
+        while (node.parent != null) {
+            if (!node.mark) {
+                node.mark = true;
+                return;
+            }
+            Node<E> parent = node.parent;
+            cut(node);
+            node = parent;
+        }
+    }
+
+    /**
+     * Returns true if and only if node a orders before node b: a has a lesser priority value, or an equal priority
+     * value and an earlier sequence number.
+     *
+     * @param a the first node.
+     * @param b the second node.
+     * @return true if and only if a orders before b.
+     */
+    private static <E> boolean less(Node<E> a, Node<E> b) {
+        return a.priority < b.priority || (a.priority == b.priority && a.sequence < b.sequence);
+    }
+
+    /**
+     * Joins the circular list containing b into the circular list containing a.
+     *
+     * @param a a node in the first list.
+     * @param b a node in the second list.
+     */
+    private static <E> void splice(Node<E> a, Node<E> b) {
+        Node<E> aRight = a.right;
+        Node<E> bLeft = b.left;
+        a.right = b;
+        b.left = a;
+        bLeft.right = aRight;
+        aRight.left = bLeft;
+    }
+
+    /**
+     * Removes the given node from its circular list without changing the node's own pointers.
+     *
+     * @param node the node to remove.
+     */
+    private static <E> void unlink(Node<E> node) {
+        node.left.right = node.right;
+        node.right.left = node.left;
+    }
+
+    /**
+     * A node in the Fibonacci heap.
+     *
+     * @param <E> the type of element.
+     */
+    private static class Node<E> {
+        /**
+         * The element.
+         */
+        final E element;
+        /**
+         * The priority value for the element.
+         */
+        double priority;
+        /**
+         * The sequence number that orders nodes with equal priority values.
+         */
+        long sequence;
+        /**
+         * The parent, or null if this node is a root.
+         */
+        Node<E> parent;
+        /**
+         * Any one of the children, or null if this node has no children.
+         */
+        Node<E> child;
+        /**
+         * The previous node in the circular list of siblings.
+         */
+        Node<E> left;
+        /**
+         * The next node in the circular list of siblings.
+         */
+        Node<E> right;
+        /**
+         * The number of children.
+         */
+        int degree;
+        /**
+         * Whether this node has lost a child since it last became a child of another node.
+         */
+        boolean mark;
+
+        Node(E element, double priority, long sequence) {
+            this.element = element;
+            this.priority = priority;
+            this.sequence = sequence;
+            this.left = this;
+            this.right = this;
+        }
+    }
+}
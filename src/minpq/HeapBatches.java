@@ -0,0 +1,31 @@
+package minpq;
+
+/**
+ * Batch size threshold shared by the heap implementations of {@link MinPQ}. A batch passed to
+ * {@link MinPQ#addAll(java.util.Map)} or {@link MinPQ#changePriorities(java.util.Map)} that is large relative to the
+ * heap is cheaper to apply by rebuilding the heap in linear time than by sifting each element in logarithmic time.
+ *
+ * @see HeapMinPQ
+ * @see OptimizedHeapMinPQ
+ * @see DaryHeapMinPQ
+ */
+class HeapBatches {
+    /**
+     * Batches with more than 1/REBUILD_DIVISOR as many elements as the heap rebuild it.
+     */
+    static final int REBUILD_DIVISOR = 8;
+
+    private HeapBatches() {
+    }
+
+    /**
+     * Returns true if a batch of the given size should rebuild a heap of the given size after the batch.
+     *
+     * @param batchSize the number of elements in the batch.
+     * @param heapSize  the number of elements in the heap after the batch.
+     * @return true if the heap should be rebuilt rather than updated one element at a time.
+     */
+    static boolean shouldRebuild(int batchSize, int heapSize) {
+        return (long) batchSize * REBUILD_DIVISOR > heapSize;
+    }
+}
@@ -1,39 +1,54 @@
 package minpq;
 
-import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.PriorityQueue;
 
 /**
- * {@link PriorityQueue} implementation of the {@link MinPQ} interface.
+ * {@link PriorityQueue} implementation of the {@link MinPQ} interface. Since {@link PriorityQueue} cannot find or
+ * reorder an element without a linear scan, each element is also indexed to its current {@link PriorityNode}. Changing
+ * a priority value adds a new node rather than removing the old one, and nodes that are no longer indexed are
+ * discarded when they reach the front of the queue.
  *
  * @param <E> the type of elements in this priority queue.
  * @see MinPQ
  */
 public class HeapMinPQ<E> implements MinPQ<E> {
     /**
-     * {@link PriorityQueue} storing {@link PriorityNode} objects representing each element-priority pair.
+     * {@link PriorityQueue} storing {@link PriorityNode} objects representing each element-priority pair, including
+     * stale nodes for elements whose priority values have since changed.
      */
-    private final PriorityQueue<PriorityNode<E>> pq;
+    private PriorityQueue<PriorityNode<E>> pq;
+    /**
+     * {@link Map} of each element to its current node in the {@code pq}.
+     */
+    private final Map<E, PriorityNode<E>> nodes;
+    /**
+     * The next sequence number, used to break ties between equal priority values in first-in-first-out order.
+     */
+    private long sequence;
 
     /**
      * Constructs an empty instance.
      */
     public HeapMinPQ() {
-        pq = new PriorityQueue<>(Comparator.comparingDouble(PriorityNode::getPriority));
+        pq = new PriorityQueue<>();
+        nodes = new HashMap<>();
     }
 
     /**
-     * Constructs an instance containing all the given elements and their priority values.
+     * Constructs an instance containing all the given elements and their priority values. Since map keys are unique,
+     * the nodes are passed to {@link PriorityQueue} all at once so that it heapifies them in linear time.
      *
      * @param elementsAndPriorities each element and its corresponding priority.
      */
     public HeapMinPQ(Map<E, Double> elementsAndPriorities) {
-        pq = new PriorityQueue<>(elementsAndPriorities.size(), Comparator.comparingDouble(PriorityNode::getPriority));
+        nodes = new HashMap<>(elementsAndPriorities.size());
         for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
-            add(entry.getKey(), entry.getValue());
+            nodes.put(entry.getKey(), new PriorityNode<>(entry.getKey(), entry.getValue(), sequence++));
         }
+        pq = new PriorityQueue<>(nodes.values());
     }
 
     @Override
@@ -41,20 +56,45 @@ public class HeapMinPQ<E> implements MinPQ<E> {
         if (contains(element)) {
             throw new IllegalArgumentException("Already contains " + element);
         }
-        pq.add(new PriorityNode<E>(element, priority));
+        PriorityNode<E> node = new PriorityNode<>(element, priority, sequence++);
+        nodes.put(element, node);
+        pq.add(node);
+    }
+
+    /**
+     * {@inheritDoc} Large batches rebuild the queue from every current node, which also discards stale nodes.
+     */
+    @Override
+    public void addAll(Map<E, Double> elementsAndPriorities) {
+        if (!HeapBatches.shouldRebuild(elementsAndPriorities.size(), size() + elementsAndPriorities.size())) {
+            MinPQ.super.addAll(elementsAndPriorities);
+            return;
+        }
+        for (E element : elementsAndPriorities.keySet()) {
+            if (element == null) {
+                throw new IllegalArgumentException("Element cannot be null");
+            } else if (contains(element)) {
+                throw new IllegalArgumentException("Already contains " + element);
+            }
+        }
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            nodes.put(entry.getKey(), new PriorityNode<>(entry.getKey(), entry.getValue(), sequence++));
+        }
+        pq = new PriorityQueue<>(nodes.values());
     }
 
     @Override
     public boolean contains(E element) {
-        return pq.contains(new PriorityNode<>(element, 0));
+        return nodes.containsKey(element);
     }
 
     @Override
     public double getPriority(E element) {
-        for (PriorityNode<E> i : pq) {
-            if (i.getElement().equals(element)) return i.getPriority();
+        PriorityNode<E> node = nodes.get(element);
+        if (node == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
         }
-        return 0.0;
+        return node.getPriority();
     }
 
     @Override
@@ -62,6 +102,7 @@ public class HeapMinPQ<E> implements MinPQ<E> {
         if (isEmpty()) {
             throw new NoSuchElementException("PQ is empty");
         }
+        discardStale();
         return pq.peek().getElement();
     }
 
@@ -70,7 +111,10 @@ public class HeapMinPQ<E> implements MinPQ<E> {
         if (isEmpty()) {
             throw new NoSuchElementException("PQ is empty");
         }
-        return pq.remove().getElement();
+        discardStale();
+        E element = pq.remove().getElement();
+        nodes.remove(element);
+        return element;
     }
 
     @Override
@@ -78,13 +122,46 @@ public class HeapMinPQ<E> implements MinPQ<E> {
         if (!contains(element)) {
             throw new NoSuchElementException("PQ does not contain " + element);
         }
-        PriorityNode<E> newNode = new PriorityNode<>(element, priority);
-        pq.remove(newNode);
+        PriorityNode<E> newNode = new PriorityNode<>(element, priority, sequence++);
+        nodes.put(element, newNode);
         pq.add(newNode);
+        if (pq.size() > 2 * nodes.size() + 16) {
+            // Most nodes are stale, so rebuild the queue from only the current nodes
+            pq = new PriorityQueue<>(nodes.values());
+        }
+    }
+
+    /**
+     * {@inheritDoc} Large batches rebuild the queue from every current node, which also discards stale nodes.
+     */
+    @Override
+    public void changePriorities(Map<E, Double> elementsAndPriorities) {
+        if (!HeapBatches.shouldRebuild(elementsAndPriorities.size(), size())) {
+            MinPQ.super.changePriorities(elementsAndPriorities);
+            return;
+        }
+        for (E element : elementsAndPriorities.keySet()) {
+            if (!contains(element)) {
+                throw new NoSuchElementException("PQ does not contain " + element);
+            }
+        }
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            nodes.put(entry.getKey(), new PriorityNode<>(entry.getKey(), entry.getValue(), sequence++));
+        }
+        pq = new PriorityQueue<>(nodes.values());
     }
 
     @Override
     public int size() {
-        return pq.size();
+        return nodes.size();
+    }
+
+    /**
+     * Removes nodes from the front of the queue until the front node is the current node for its element.
+     */
+    private void discardStale() {
+        while (nodes.get(pq.peek().getElement()) != pq.peek()) {
+            pq.remove();
+        }
     }
 }
@@ -0,0 +1,128 @@
+package minpq;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Decorator for any {@link MinPQ} that records the number and latency of each operation, along with the maximum size,
+ * to a shared {@link MinPQStats}. The decorator adds two {@link System#nanoTime()} calls and a few atomic increments
+ * per operation, so only wrap a priority queue when statistics are wanted; unwrapped priority queues pay nothing.
+ * <p>
+ * {@link #addOrChangePriority(Object, double)} is not forwarded to the wrapped priority queue but resolved through
+ * {@link #contains(Object)}, {@link #add(Object, double)}, and {@link #changePriority(Object, double)} so that each is
+ * counted separately. The batch operations {@link #addAll(Map)}, {@link #changePriorities(Map)}, and
+ * {@link #drainTo(Collection, int)} are forwarded so that the wrapped priority queue can use its faster batch
+ * implementation, and each call is recorded once as its own operation.
+ *
+ * @param <E> the type of elements in this priority queue.
+ * @see MinPQ
+ * @see MinPQStats
+ */
+public class InstrumentedMinPQ<E> implements MinPQ<E> {
+    /**
+     * The wrapped priority queue.
+     */
+    private final MinPQ<E> pq;
+    /**
+     * The {@link MinPQStats} to record to.
+     */
+    private final MinPQStats stats;
+
+    /**
+     * Constructs an instance that wraps the given priority queue and records to the given statistics.
+     *
+     * @param pq    the priority queue to wrap.
+     * @param stats the {@link MinPQStats} to record to.
+     */
+    public InstrumentedMinPQ(MinPQ<E> pq, MinPQStats stats) {
+        this.pq = pq;
+        this.stats = stats;
+        stats.recordSize(pq.size());
+    }
+
+    /**
+     * Constructs an instance that wraps a new {@link DoubleMapMinPQ} containing all the given elements and their
+     * priority values, and records to the given statistics.
+     *
+     * @param elementsAndPriorities each element and its corresponding priority.
+     * @param stats                 the {@link MinPQStats} to record to.
+     */
+    public InstrumentedMinPQ(Map<E, Double> elementsAndPriorities, MinPQStats stats) {
+        this(new DoubleMapMinPQ<>(elementsAndPriorities), stats);
+    }
+
+    @Override
+    public void add(E element, double priority) {
+        long start = System.nanoTime();
+        pq.add(element, priority);
+        stats.record(MinPQStats.Operation.ADD, System.nanoTime() - start);
+        stats.recordSize(pq.size());
+    }
+
+    @Override
+    public void addAll(Map<E, Double> elementsAndPriorities) {
+        long start = System.nanoTime();
+        pq.addAll(elementsAndPriorities);
+        stats.record(MinPQStats.Operation.ADD_ALL, System.nanoTime() - start);
+        stats.recordSize(pq.size());
+    }
+
+    @Override
+    public boolean contains(E element) {
+        long start = System.nanoTime();
+        boolean result = pq.contains(element);
+        stats.record(MinPQStats.Operation.CONTAINS, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public double getPriority(E element) {
+        long start = System.nanoTime();
+        double result = pq.getPriority(element);
+        stats.record(MinPQStats.Operation.GET_PRIORITY, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public E peekMin() {
+        long start = System.nanoTime();
+        E result = pq.peekMin();
+        stats.record(MinPQStats.Operation.PEEK_MIN, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public E removeMin() {
+        long start = System.nanoTime();
+        E result = pq.removeMin();
+        stats.record(MinPQStats.Operation.REMOVE_MIN, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public void changePriority(E element, double priority) {
+        long start = System.nanoTime();
+        pq.changePriority(element, priority);
+        stats.record(MinPQStats.Operation.CHANGE_PRIORITY, System.nanoTime() - start);
+    }
+
+    @Override
+    public void changePriorities(Map<E, Double> elementsAndPriorities) {
+        long start = System.nanoTime();
+        pq.changePriorities(elementsAndPriorities);
+        stats.record(MinPQStats.Operation.CHANGE_PRIORITIES, System.nanoTime() - start);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> collection, int maxElements) {
+        long start = System.nanoTime();
+        int result = pq.drainTo(collection, maxElements);
+        stats.record(MinPQStats.Operation.DRAIN_TO, System.nanoTime() - start);
+        return result;
+    }
+
+    @Override
+    public int size() {
+        return pq.size();
+    }
+}
@@ -0,0 +1,277 @@
+package minpq;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Indexed binary heap priority queue for dense {@code int} elements between 0 (inclusive) and its capacity
+ * (exclusive). Elements and priorities are stored in parallel primitive arrays rather than as {@link PriorityNode}
+ * objects, so no operation allocates memory unless the capacity is explicitly increased with
+ * {@link #ensureCapacity(int)}. Ties between equal priority values are broken in first-in-first-out order of when
+ * elements were added or last changed.
+ *
+ * @see MinPQ
+ * @see IntMinPQAdapter
+ */
+public class IntMinPQ {
+    /**
+     * The heap of elements, where the children of the element at index i are at indices 2i + 1 and 2i + 2.
+     */
+    private int[] heap;
+    /**
+     * The index of each element in the {@code heap}, or -1 if the element is not present.
+     */
+    private int[] positions;
+    /**
+     * The priority value of each element.
+     */
+    private double[] priorities;
+    /**
+     * The sequence number of each element, used to break ties between equal priority values.
+     */
+    private long[] sequences;
+    /**
+     * The number of elements in this priority queue.
+     */
+    private int size;
+    /**
+     * The next sequence number.
+     */
+    private long sequence;
+
+    /**
+     * Constructs an empty instance that can contain the elements between 0 (inclusive) and the given capacity
+     * (exclusive).
+     *
+     * @param capacity the number of distinct elements.
+     */
+    public IntMinPQ(int capacity) {
+        heap = new int[capacity];
+        positions = new int[capacity];
+        priorities = new double[capacity];
+        sequences = new long[capacity];
+        Arrays.fill(positions, -1);
+        size = 0;
+        sequence = 0;
+    }
+
+    /**
+     * Increases the capacity of this priority queue to at least the given capacity.
+     *
+     * @param capacity the minimum number of distinct elements.
+     */
+    public void ensureCapacity(int capacity) {
+        if (capacity > positions.length) {
+            int oldCapacity = positions.length;
+            int newCapacity = Math.max(capacity, oldCapacity * 2);
+            heap = Arrays.copyOf(heap, newCapacity);
+            positions = Arrays.copyOf(positions, newCapacity);
+            priorities = Arrays.copyOf(priorities, newCapacity);
+            sequences = Arrays.copyOf(sequences, newCapacity);
+            Arrays.fill(positions, oldCapacity, newCapacity, -1);
+        }
+    }
+
+    /**
+     * Returns the number of distinct elements that this priority queue can contain.
+     *
+     * @return the number of distinct elements that this priority queue can contain.
+     */
+    public int capacity() {
+        return positions.length;
+    }
+
+    /**
+     * Adds an element with the given priority value.
+     *
+     * @param element  the element to add.
+     * @param priority the priority value for the element.
+     * @throws IllegalArgumentException if element is out of bounds or already present.
+     */
+    public void add(int element, double priority) {
+        if (element < 0 || element >= positions.length) {
+            throw new IllegalArgumentException("Element " + element + " out of bounds for capacity " + capacity());
+        } else if (contains(element)) {
+            throw new IllegalArgumentException("Already contains " + element);
+        }
+        priorities[element] = priority;
+        sequences[element] = sequence++;
+        heap[size] = element;
+        positions[element] = size;
+        size += 1;
+        swim(size - 1);
+    }
+
+    /**
+     * Adds an element with the given priority value if it is not already present. Otherwise, updates the priority value
+     * of the existing element.
+     *
+     * @param element  the element to add or update.
+     * @param priority the priority value for the element.
+     */
+    public void addOrChangePriority(int element, double priority) {
+        if (!contains(element)) {
+            add(element, priority);
+        } else {
+            changePriority(element, priority);
+        }
+    }
+
+    /**
+     * Returns true if the given element is in this priority queue.
+     *
+     * @param element element to be checked for containment.
+     * @return true if the given element is in this priority queue.
+     */
+    public boolean contains(int element) {
+        return element >= 0 && element < positions.length && positions[element] >= 0;
+    }
+
+    /**
+     * Returns the priority value for the given element if it is present.
+     *
+     * @param element element to query.
+     * @return the priority value for the given element.
+     * @throws NoSuchElementException if element is not present.
+     */
+    public double getPriority(int element) {
+        if (!contains(element)) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        return priorities[element];
+    }
+
+    /**
+     * Returns the element with the minimum priority value.
+     *
+     * @return the element with the minimum priority value.
+     * @throws NoSuchElementException if this priority queue is empty.
+     */
+    public int peekMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * Returns and removes the element with the minimum priority value.
+     *
+     * @return the element with the minimum priority value.
+     * @throws NoSuchElementException if this priority queue is empty.
+     */
+    public int removeMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        int min = heap[0];
+        size -= 1;
+        positions[min] = -1;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            positions[last] = 0;
+            sink(0);
+        }
+        return min;
+    }
+
+    /**
+     * Updates the given elements' associated priority value.
+     *
+     * @param element  the element whose associated priority value should be modified.
+     * @param priority the updated priority value.
+     * @throws NoSuchElementException if the element is not present.
+     */
+    public void changePriority(int element, double priority) {
+        if (!contains(element)) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        double oldPriority = priorities[element];
+        priorities[element] = priority;
+        // A changed element orders after every other element with an equal priority value, so it may sink
+        sequences[element] = sequence++;
+        if (priority < oldPriority) {
+            swim(positions[element]);
+        } else {
+            sink(positions[element]);
+        }
+    }
+
+    /**
+     * Returns the number of elements in this priority queue.
+     *
+     * @return the number of elements in this priority queue.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this priority queue contains no elements.
+     *
+     * @return true if this priority queue contains no elements.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Moves the element at the given heap index up until its parent orders before it.
+     *
+     * @param index the heap index of the element to move.
+     */
+    private void swim(int index) {
+        int element = heap[index];
+        while (index > 0) {
+            int parentIndex = (index - 1) / 2;
+            int parent = heap[parentIndex];
+            if (!less(element, parent)) {
+                break;
+            }
+            heap[index] = parent;
+            positions[parent] = index;
+            index = parentIndex;
+        }
+        heap[index] = element;
+        positions[element] = index;
+    }
+
+    /**
+     * Moves the element at the given heap index down until it orders before its children.
+     *
+     * @param index the heap index of the element to move.
+     */
+    private void sink(int index) {
+        int element = heap[index];
+        while (2 * index + 1 < size) {
+            int childIndex = 2 * index + 1;
+            if (childIndex + 1 < size && less(heap[childIndex + 1], heap[childIndex])) {
+                childIndex += 1;
+            }
+            int child = heap[childIndex];
+            if (!less(child, element)) {
+                break;
+            }
+            heap[index] = child;
+            positions[child] = index;
+            index = childIndex;
+        }
+        heap[index] = element;
+        positions[element] = index;
+    }
+
+    /**
+     * Returns true if and only if element a orders before element b: a has a lesser priority value, or an equal
+     * priority value and an earlier sequence number.
+     *
+     * @param a the first element.
+     * @param b the second element.
+     * @return true if and only if a orders before b.
+     */
+    private boolean less(int a, int b) {
+        double priorityA = priorities[a];
+        double priorityB = priorities[b];
+        return priorityA < priorityB || (priorityA == priorityB && sequences[a] < sequences[b]);
+    }
+}
@@ -0,0 +1,110 @@
+package minpq;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link IntMinPQ} adapter implementing the {@link MinPQ} interface. Each distinct element is assigned a dense
+ * {@code int} id the first time it is added, and keeps that id even after it is removed, so re-adding an element or
+ * changing its priority never allocates.
+ *
+ * @param <E> the type of elements in this priority queue.
+ * @see MinPQ
+ * @see IntMinPQ
+ */
+public class IntMinPQAdapter<E> implements MinPQ<E> {
+    /**
+     * The initial capacity of the underlying {@link IntMinPQ}.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+    /**
+     * {@link Map} of each element to its id.
+     */
+    private final Map<E, Integer> ids;
+    /**
+     * {@link List} of elements indexed by id.
+     */
+    private final List<E> elements;
+    /**
+     * {@link IntMinPQ} of element ids.
+     */
+    private final IntMinPQ pq;
+
+    /**
+     * Constructs an empty instance.
+     */
+    public IntMinPQAdapter() {
+        ids = new HashMap<>();
+        elements = new ArrayList<>();
+        pq = new IntMinPQ(INITIAL_CAPACITY);
+    }
+
+    /**
+     * Constructs an instance containing all the given elements and their priority values.
+     *
+     * @param elementsAndPriorities each element and its corresponding priority.
+     */
+    public IntMinPQAdapter(Map<E, Double> elementsAndPriorities) {
+        ids = new HashMap<>(elementsAndPriorities.size());
+        elements = new ArrayList<>(elementsAndPriorities.size());
+        pq = new IntMinPQ(Math.max(INITIAL_CAPACITY, elementsAndPriorities.size()));
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            add(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void add(E element, double priority) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        }
+        Integer id = ids.get(element);
+        if (id == null) {
+            id = elements.size();
+            ids.put(element, id);
+            elements.add(element);
+            pq.ensureCapacity(elements.size());
+        }
+        pq.add(id, priority);
+    }
+
+    @Override
+    public boolean contains(E element) {
+        Integer id = ids.get(element);
+        return id != null && pq.contains(id);
+    }
+
+    @Override
+    public double getPriority(E element) {
+        if (!contains(element)) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        return pq.getPriority(ids.get(element));
+    }
+
+    @Override
+    public E peekMin() {
+        return elements.get(pq.peekMin());
+    }
+
+    @Override
+    public E removeMin() {
+        return elements.get(pq.removeMin());
+    }
+
+    @Override
+    public void changePriority(E element, double priority) {
+        if (!contains(element)) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        pq.changePriority(ids.get(element), priority);
+    }
+
+    @Override
+    public int size() {
+        return pq.size();
+    }
+}
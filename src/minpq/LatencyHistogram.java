@@ -0,0 +1,156 @@
+package minpq;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe histogram of non-negative latency values with bounded relative error, in the style of HdrHistogram.
+ * Values below 16 are counted exactly. Larger values are counted in buckets that split each power of two into 16
+ * sub-buckets, so a reported percentile is at most 1/16 greater than the true value, and the histogram takes a fixed
+ * 960 counters no matter how many values are recorded.
+ *
+ * @see MinPQStats
+ */
+public class LatencyHistogram {
+    /**
+     * The number of bits for the sub-bucket within each power of two.
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+    /**
+     * The number of sub-buckets within each power of two.
+     */
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    /**
+     * The number of recorded values in each bucket.
+     */
+    private final AtomicLongArray counts;
+    /**
+     * The total number of recorded values.
+     */
+    private final LongAdder count;
+    /**
+     * The sum of the recorded values.
+     */
+    private final LongAdder sum;
+    /**
+     * The maximum recorded value.
+     */
+    private final LongAccumulator max;
+
+    /**
+     * Constructs an empty instance.
+     */
+    public LatencyHistogram() {
+        counts = new AtomicLongArray((Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS);
+        count = new LongAdder();
+        sum = new LongAdder();
+        max = new LongAccumulator(Long::max, 0);
+    }
+
+    /**
+     * Records the given value. Negative values are recorded as 0.
+     *
+     * @param value the value to record.
+     */
+    public void record(long value) {
+        value = Math.max(0, value);
+        counts.incrementAndGet(index(value));
+        count.increment();
+        sum.add(value);
+        max.accumulate(value);
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return the number of recorded values.
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the sum of the recorded values.
+     *
+     * @return the sum of the recorded values.
+     */
+    public long sum() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns the mean of the recorded values, or 0 if there are no recorded values.
+     *
+     * @return the mean of the recorded values.
+     */
+    public double mean() {
+        long n = count();
+        if (n == 0) {
+            return 0.0;
+        }
+        return sum() / (double) n;
+    }
+
+    /**
+     * Returns the maximum recorded value, or 0 if there are no recorded values.
+     *
+     * @return the maximum recorded value.
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Returns the greatest value in the bucket containing the given percentile of recorded values, or 0 if there are
+     * no recorded values. The result is never greater than {@link #max()}.
+     *
+     * @param percentile the percentile between 0 and 100.
+     * @return an upper bound for the value at the given percentile.
+     * @throws IllegalArgumentException if percentile is not between 0 and 100.
+     */
+    public long valueAtPercentile(double percentile) {
+        if (!(percentile >= 0.0 && percentile <= 100.0)) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100 but was " + percentile);
+        }
+        long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * count()));
+        long seen = 0;
+        for (int i = 0; i < counts.length(); i += 1) {
+            seen += counts.get(i);
+            if (seen >= target) {
+                return Math.min(highestValue(i), max());
+            }
+        }
+        return max();
+    }
+
+    /**
+     * Returns the index of the bucket for the given non-negative value.
+     *
+     * @param value the value.
+     * @return the index of the bucket for the value.
+     */
+    private static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int subBucket = (int) (value >>> shift) & (SUB_BUCKETS - 1);
+        return (shift + 1) * SUB_BUCKETS + subBucket;
+    }
+
+    /**
+     * Returns the greatest value in the bucket at the given index.
+     *
+     * @param index the index of the bucket.
+     * @return the greatest value in the bucket.
+     */
+    private static long highestValue(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int shift = index / SUB_BUCKETS - 1;
+        long lowest = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
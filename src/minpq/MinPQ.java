@@ -1,18 +1,38 @@
 package minpq;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
 
 /**
  * Priority queue where objects have <b>extrinsic priority</b>. Whereas {@link java.util.PriorityQueue} relies on
  * {@link Comparable} objects (or a {@link java.util.Comparator}), this interface requires priority values represented
  * using {@code double} values. Elements must be unique, but priority values do not need to be unique.
+ * <p>
+ * Unless documented otherwise, implementations in this package break ties between equal priority values in
+ * first-in-first-out order of when elements were added or last changed, so the order in which elements are removed
+ * does not depend on hash codes or on the internal layout of the priority queue. Most implementations store a
+ * sequence number alongside the priority value in an existing field or primitive array rather than in an extra object,
+ * while {@link DoubleMapMinPQ} and {@link ApproximateMinPQ} instead keep the elements in each bucket in an
+ * insertion-ordered set or list.
  *
  * @param <E> the type of elements in this priority queue.
  * @see DoubleMapMinPQ
  * @see UnsortedArrayMinPQ
  * @see HeapMinPQ
  * @see OptimizedHeapMinPQ
+ * @see DaryHeapMinPQ
+ * @see PairingHeapMinPQ
+ * @see FibonacciHeapMinPQ
+ * @see RadixHeapMinPQ
+ * @see BucketMinPQ
+ * @see ApproximateMinPQ
+ * @see ConcurrentMinPQ
+ * @see IntMinPQAdapter
+ * @see ExternalMinPQ
+ * @see InstrumentedMinPQ
  */
 public interface MinPQ<E> {
 
@@ -40,6 +60,26 @@ public interface MinPQ<E> {
         }
     }
 
+    /**
+     * Adds all the given elements with their priority values. Implementations may override this method to add a large
+     * batch faster than adding each element, such as by rebuilding a heap once.
+     *
+     * @param elementsAndPriorities each element and its corresponding priority.
+     * @throws IllegalArgumentException if any element is null or already present, in which case no elements are added.
+     */
+    default void addAll(Map<E, Double> elementsAndPriorities) {
+        for (E element : elementsAndPriorities.keySet()) {
+            if (element == null) {
+                throw new IllegalArgumentException("Element cannot be null");
+            } else if (contains(element)) {
+                throw new IllegalArgumentException("Already contains " + element);
+            }
+        }
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            add(entry.getKey(), entry.getValue());
+        }
+    }
+
     /**
      * Returns true if the given element is in this priority queue.
      *
@@ -96,6 +136,40 @@ public interface MinPQ<E> {
      */
     void changePriority(E element, double priority);
 
+    /**
+     * Updates the priority values of all the given elements. Implementations may override this method to update a
+     * large batch faster than updating each element, such as by rebuilding a heap once.
+     *
+     * @param elementsAndPriorities each element and its updated priority value.
+     * @throws NoSuchElementException if any element is not present, in which case no priority values are updated.
+     */
+    default void changePriorities(Map<E, Double> elementsAndPriorities) {
+        for (E element : elementsAndPriorities.keySet()) {
+            if (!contains(element)) {
+                throw new NoSuchElementException("PQ does not contain " + element);
+            }
+        }
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            changePriority(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * Removes up to the given number of lowest-priority elements and adds them to the given collection in order of
+     * increasing priority value. Unlike {@link #removeMin(int)}, this method does not allocate a new list.
+     *
+     * @param collection  the collection to add the removed elements to.
+     * @param maxElements the maximum number of elements to remove.
+     * @return the number of elements removed.
+     */
+    default int drainTo(Collection<? super E> collection, int maxElements) {
+        int numElements = Math.max(0, Math.min(maxElements, size()));
+        for (int i = 0; i < numElements; i += 1) {
+            collection.add(removeMin());
+        }
+        return numElements;
+    }
+
     /**
      * Returns the number of elements in this priority queue.
      *
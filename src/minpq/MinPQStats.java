@@ -0,0 +1,137 @@
+package minpq;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+
+/**
+ * Thread-safe operation counts, latency histograms, and maximum size recorded by one or more
+ * {@link InstrumentedMinPQ} instances. Share a single instance across many priority queues to aggregate their
+ * statistics, such as every perimeter used to answer routing requests.
+ *
+ * @see InstrumentedMinPQ
+ */
+public class MinPQStats {
+    /**
+     * The percentiles reported by {@link #metrics()}.
+     */
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9};
+
+    /**
+     * The recorded {@link MinPQ} operations.
+     */
+    public enum Operation {
+        ADD, ADD_ALL, CONTAINS, GET_PRIORITY, PEEK_MIN, REMOVE_MIN, CHANGE_PRIORITY, CHANGE_PRIORITIES, DRAIN_TO
+    }
+
+    /**
+     * {@link Map} of each operation to its {@link LatencyHistogram} in nanoseconds.
+     */
+    private final Map<Operation, LatencyHistogram> latencies;
+    /**
+     * The maximum size of any recorded priority queue.
+     */
+    private final LongAccumulator maxSize;
+
+    /**
+     * Constructs an empty instance.
+     */
+    public MinPQStats() {
+        latencies = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new LatencyHistogram());
+        }
+        maxSize = new LongAccumulator(Long::max, 0);
+    }
+
+    /**
+     * Records a call to the given operation that took the given number of nanoseconds.
+     *
+     * @param operation the operation.
+     * @param nanos     the runtime of the call in nanoseconds.
+     */
+    public void record(Operation operation, long nanos) {
+        latencies.get(operation).record(nanos);
+    }
+
+    /**
+     * Records the current size of a priority queue.
+     *
+     * @param size the current size of a priority queue.
+     */
+    public void recordSize(int size) {
+        maxSize.accumulate(size);
+    }
+
+    /**
+     * Returns the number of recorded calls to the given operation.
+     *
+     * @param operation the operation.
+     * @return the number of recorded calls to the operation.
+     */
+    public long count(Operation operation) {
+        return latencies.get(operation).count();
+    }
+
+    /**
+     * Returns the {@link LatencyHistogram} in nanoseconds for the given operation.
+     *
+     * @param operation the operation.
+     * @return the {@link LatencyHistogram} in nanoseconds for the operation.
+     */
+    public LatencyHistogram latencies(Operation operation) {
+        return latencies.get(operation);
+    }
+
+    /**
+     * Returns the maximum size of any recorded priority queue.
+     *
+     * @return the maximum size of any recorded priority queue.
+     */
+    public long maxSize() {
+        return maxSize.get();
+    }
+
+    /**
+     * Returns the statistics in the Prometheus text exposition format, with one line per operation count, latency
+     * percentile, latency sum and count, and the maximum size.
+     *
+     * @return the statistics in the Prometheus text exposition format.
+     * @see <a href="https://prometheus.io/docs/instrumenting/exposition_formats/">Exposition formats</a>
+     */
+    public String metrics() {
+        StringBuilder result = new StringBuilder();
+        result.append("# TYPE minpq_operations_total counter\n");
+        for (Operation operation : Operation.values()) {
+            result.append(String.format(Locale.ROOT, "minpq_operations_total{operation=\"%s\"} %d\n",
+                    name(operation), count(operation)));
+        }
+        result.append("# TYPE minpq_latency_nanoseconds summary\n");
+        for (Operation operation : Operation.values()) {
+            LatencyHistogram histogram = latencies(operation);
+            for (double percentile : PERCENTILES) {
+                result.append(String.format(Locale.ROOT,
+                        "minpq_latency_nanoseconds{operation=\"%s\",quantile=\"%s\"} %d\n",
+                        name(operation), percentile / 100.0, histogram.valueAtPercentile(percentile)));
+            }
+            result.append(String.format(Locale.ROOT, "minpq_latency_nanoseconds_sum{operation=\"%s\"} %d\n",
+                    name(operation), histogram.sum()));
+            result.append(String.format(Locale.ROOT, "minpq_latency_nanoseconds_count{operation=\"%s\"} %d\n",
+                    name(operation), histogram.count()));
+        }
+        result.append("# TYPE minpq_max_size gauge\n");
+        result.append(String.format(Locale.ROOT, "minpq_max_size %d\n", maxSize()));
+        return result.toString();
+    }
+
+    /**
+     * Returns the lowercase metric label for the given operation.
+     *
+     * @param operation the operation.
+     * @return the lowercase metric label for the operation.
+     */
+    private static String name(Operation operation) {
+        return operation.name().toLowerCase(Locale.ROOT);
+    }
+}
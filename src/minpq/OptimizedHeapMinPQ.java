@@ -17,6 +17,10 @@ public class OptimizedHeapMinPQ<E> implements MinPQ<E> {
      * {@link Map} of each element to its associated index in the {@code elements} heap.
      */
     private final Map<E, Integer> elementsToIndex;
+    /**
+     * The next sequence number, used to break ties between equal priority values in first-in-first-out order.
+     */
+    private long sequence;
 
     /**
      * Constructs an empty instance.
@@ -24,15 +28,18 @@ public class OptimizedHeapMinPQ<E> implements MinPQ<E> {
     public OptimizedHeapMinPQ() {
         elements = new ArrayList<>();
         elementsToIndex = new HashMap<>();
+
+        elements.add(null);
     }
 
     /**
-     * Constructs an instance containing all the given elements and their priority values.
+     * Constructs an instance containing all the given elements and their priority values. Rather than adding each
+     * element, the elements are placed in any order and then heapified bottom-up in linear time.
      *
      * @param elementsAndPriorities each element and its corresponding priority.
      */
     public OptimizedHeapMinPQ(Map<E, Double> elementsAndPriorities) {
-        elements = new ArrayList<>(elementsAndPriorities.size());
+        elements = new ArrayList<>(elementsAndPriorities.size() + 1);
         elementsToIndex = new HashMap<>(elementsAndPriorities.size());
 
         elements.add(null);
@@ -40,7 +47,64 @@ public class OptimizedHeapMinPQ<E> implements MinPQ<E> {
         // Credit to (for the for loop):
         // https://stackoverflow.com/questions/46898/how-do-i-efficiently-iterate-over-each-entry-in-a-java-map
         for (Map.Entry<E, Double> i : elementsAndPriorities.entrySet()) {
-            add(i.getKey(), i.getValue());
+            elementsToIndex.put(i.getKey(), elements.size());
+            elements.add(new PriorityNode<>(i.getKey(), i.getValue(), sequence++));
+        }
+
+        heapify();
+    }
+
+    /**
+     * {@inheritDoc} Large batches are appended to the heap in any order and then heapified bottom-up.
+     */
+    @Override
+    public void addAll(Map<E, Double> elementsAndPriorities) {
+        if (!HeapBatches.shouldRebuild(elementsAndPriorities.size(), size() + elementsAndPriorities.size())) {
+            MinPQ.super.addAll(elementsAndPriorities);
+            return;
+        }
+        for (E element : elementsAndPriorities.keySet()) {
+            if (element == null) {
+                throw new IllegalArgumentException("Element cannot be null");
+            } else if (contains(element)) {
+                throw new IllegalArgumentException("Already contains " + element);
+            }
+        }
+        for (Map.Entry<E, Double> i : elementsAndPriorities.entrySet()) {
+            elementsToIndex.put(i.getKey(), elements.size());
+            elements.add(new PriorityNode<>(i.getKey(), i.getValue(), sequence++));
+        }
+        heapify();
+    }
+
+    /**
+     * {@inheritDoc} Large batches update every priority value in place and then heapify bottom-up.
+     */
+    @Override
+    public void changePriorities(Map<E, Double> elementsAndPriorities) {
+        if (!HeapBatches.shouldRebuild(elementsAndPriorities.size(), size())) {
+            MinPQ.super.changePriorities(elementsAndPriorities);
+            return;
+        }
+        for (E element : elementsAndPriorities.keySet()) {
+            if (!contains(element)) {
+                throw new NoSuchElementException("PQ does not contain " + element);
+            }
+        }
+        for (Map.Entry<E, Double> i : elementsAndPriorities.entrySet()) {
+            PriorityNode<E> node = elements.get(elementsToIndex.get(i.getKey()));
+            node.setPriority(i.getValue());
+            node.setSequence(sequence++);
+        }
+        heapify();
+    }
+
+    /*
+     * Sinks each parent from the last one up to the root, so every subtree is a heap before its parent sinks.
+     * */
+    private void heapify() {
+        for (int index = size() / 2; index >= 1; index -= 1) {
+            sink(index);
         }
     }
 
@@ -50,7 +114,7 @@ public class OptimizedHeapMinPQ<E> implements MinPQ<E> {
             throw new IllegalArgumentException("Already contains " + element);
         } else if (elements.isEmpty()) elements.add(null);
 
-        elements.add(new PriorityNode<E>(element, priority));
+        elements.add(new PriorityNode<E>(element, priority, sequence++));
         elementsToIndex.put(element, elements.size() - 1);
         swim(elements.size() - 1);
     }
@@ -60,7 +124,7 @@ public class OptimizedHeapMinPQ<E> implements MinPQ<E> {
     * */
     private void swim(int index) {
         if (elements.get(index / 2) != null &&
-                elements.get(index).getPriority() < elements.get(index / 2).getPriority()) {
+                elements.get(index).compareTo(elements.get(index / 2)) < 0) {
 
             // SWAP elements
             swap(index, index / 2);
@@ -76,7 +140,7 @@ public class OptimizedHeapMinPQ<E> implements MinPQ<E> {
         int rightChildIndex = index * 2 + 1;
         int minChildIndex = getMinChildIndex(leftChildIndex, rightChildIndex);
         if (minChildIndex > 0 && minChildIndex < elements.size() &&
-                elements.get(index).getPriority() > elements.get(minChildIndex).getPriority()) {
+                elements.get(index).compareTo(elements.get(minChildIndex)) > 0) {
             swap(index, minChildIndex);
             sink(minChildIndex);
         }
@@ -91,7 +155,7 @@ public class OptimizedHeapMinPQ<E> implements MinPQ<E> {
 
             // Bug: isn't correctly identifying indexes
         } else if (leftChildIndex != 0 && rightChildIndex <= elements.size() - 1 &&
-                elements.get(leftChildIndex).getPriority() < elements.get(rightChildIndex).getPriority()) {
+                elements.get(leftChildIndex).compareTo(elements.get(rightChildIndex)) < 0) {
             minChildIndex = leftChildIndex;
         } else if (leftChildIndex != 0 && rightChildIndex <= elements.size() - 1 &&
                 elements.get(rightChildIndex) != null) {
@@ -151,6 +215,7 @@ public class OptimizedHeapMinPQ<E> implements MinPQ<E> {
         int oldIndex = elementsToIndex.get(element);
 
         elements.get(oldIndex).setPriority(priority);
+        elements.get(oldIndex).setSequence(sequence++);
 
         swim(oldIndex);
         sink(oldIndex);
@@ -0,0 +1,253 @@
+package minpq;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Pairing heap implementation of the {@link MinPQ} interface. The heap is a multiway tree where each node points to
+ * its leftmost child and its right sibling. Adding an element or decreasing its priority value links a single tree to
+ * the root in constant time; the restructuring work is deferred to {@link #removeMin()}, which combines the children
+ * of the root in two passes.
+ *
+ * @param <E> the type of elements in this priority queue.
+ * @see MinPQ
+ * @see FibonacciHeapMinPQ
+ */
+public class PairingHeapMinPQ<E> implements MinPQ<E> {
+    /**
+     * {@link Map} of each element to its node in the heap, used as a handle for changing its priority value.
+     */
+    private final Map<E, Node<E>> nodes;
+    /**
+     * Reusable buffer for the trees produced by the first pass of {@link #combine(Node)}.
+     */
+    private final List<Node<E>> pairs;
+    /**
+     * The root node, which has the minimum priority value, or null if this priority queue is empty.
+     */
+    private Node<E> root;
+    /**
+     * The next sequence number, used to break ties between equal priority values in first-in-first-out order.
+     */
+    private long sequence;
+
+    /**
+     * Constructs an empty instance.
+     */
+    public PairingHeapMinPQ() {
+        nodes = new HashMap<>();
+        pairs = new ArrayList<>();
+        root = null;
+        sequence = 0;
+    }
+
+    /**
+     * Constructs an instance containing all the given elements and their priority values.
+     *
+     * @param elementsAndPriorities each element and its corresponding priority.
+     */
+    public PairingHeapMinPQ(Map<E, Double> elementsAndPriorities) {
+        this();
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            add(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public void add(E element, double priority) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        } else if (contains(element)) {
+            throw new IllegalArgumentException("Already contains " + element);
+        }
+        Node<E> node = new Node<>(element, priority, sequence++);
+        nodes.put(element, node);
+        root = link(root, node);
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return nodes.containsKey(element);
+    }
+
+    @Override
+    public double getPriority(E element) {
+        Node<E> node = nodes.get(element);
+        if (node == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        return node.priority;
+    }
+
+    @Override
+    public E peekMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        return root.element;
+    }
+
+    @Override
+    public E removeMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        Node<E> min = root;
+        nodes.remove(min.element);
+        root = combine(min.child);
+        min.child = null;
+        return min.element;
+    }
+
+    @Override
+    public void changePriority(E element, double priority) {
+        Node<E> node = nodes.get(element);
+        if (node == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        if (priority < node.priority) {
+            // Decrease-key: the subtree rooted at node remains heap-ordered, so cut it and link it to the root
+            node.priority = priority;
+            node.sequence = sequence++;
+            if (node != root) {
+                cut(node);
+                root = link(root, node);
+            }
+        } else {
+            // Increase-key, including an equal priority value with a later sequence number: the children of node may
+            // now violate heap order, so detach them and reinsert node alone
+            if (node == root) {
+                root = null;
+            } else {
+                cut(node);
+            }
+            Node<E> children = combine(node.child);
+            node.child = null;
+            node.priority = priority;
+            node.sequence = sequence++;
+            root = link(link(root, children), node);
+        }
+    }
+
+    @Override
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * Returns the root of the tree formed by linking the two trees, where the root that orders later becomes the
+     * leftmost child of the other root. Either tree may be null.
+     *
+     * @param a the root of the first tree.
+     * @param b the root of the second tree.
+     * @return the root of the linked tree.
+     */
+    private static <E> Node<E> link(Node<E> a, Node<E> b) {
+        if (a == null) {
+            return b;
+        } else if (b == null) {
+            return a;
+        } else if (b.priority < a.priority || (b.priority == a.priority && b.sequence < a.sequence)) {
+            Node<E> temp = a;
+            a = b;
+            b = temp;
+        }
+        b.prev = a;
+        b.sibling = a.child;
+        if (a.child != null) {
+            a.child.prev = b;
+        }
+        a.child = b;
+        return a;
+    }
+
+    /**
+     * Removes the subtree rooted at the given non-root node from its parent.
+     *
+     * @param node the root of the subtree.
+     */
+    private static <E> void cut(Node<E> node) {
+        if (node.prev.child == node) {
+            node.prev.child = node.sibling;
+        } else {
+            node.prev.sibling = node.sibling;
+        }
+        if (node.sibling != null) {
+            node.sibling.prev = node.prev;
+        }
+        node.prev = null;
+        node.sibling = null;
+    }
+
+    /**
+     * Returns the root of the tree formed by combining the given node and its right siblings. The first pass links
+     * each pair of trees from left to right, and the second pass links the resulting trees from right to left.
+     *
+     * @param first the leftmost tree, or null.
+     * @return the root of the combined tree, or null if there are no trees.
+     */
+    private Node<E> combine(Node<E> first) {
+        if (first == null) {
+            return null;
+        }
+        while (first != null) {
+            Node<E> a = first;
+            Node<E> b = a.sibling;
+            first = b == null ? null : b.sibling;
+            a.prev = null;
+            a.sibling = null;
+            if (b != null) {
+                b.prev = null;
+                b.sibling = null;
+            }
+            pairs.add(link(a, b));
+        }
+        Node<E> result = pairs.get(pairs.size() - 1);
+        for (int i = pairs.size() - 2; i >= 0; i -= 1) {
+            result = link(pairs.get(i), result);
+        }
+        pairs.clear();
+        return result;
+    }
+
+    /**
+     * A node in the pairing heap.
+     *
+     * @param <E> the type of element.
+     */
+    private static class Node<E> {
+        /**
+         * The element.
+         */
+        final E element;
+        /**
+         * The priority value for the element.
+         */
+        double priority;
+        /**
+         * The sequence number that orders nodes with equal priority values.
+         */
+        long sequence;
+        /**
+         * The leftmost child, or null if this node has no children.
+         */
+        Node<E> child;
+        /**
+         * The right sibling, or null if this node is the rightmost child or a root.
+         */
+        Node<E> sibling;
+        /**
+         * The left sibling, or the parent if this node is the leftmost child, or null if this node is a root.
+         */
+        Node<E> prev;
+
+        Node(E element, double priority, long sequence) {
+            this.element = element;
+            this.priority = priority;
+            this.sequence = sequence;
+        }
+    }
+}
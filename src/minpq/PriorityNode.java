@@ -3,18 +3,26 @@ package minpq;
 import java.util.Objects;
 
 /**
- * Represents the element-priority pair for use in {@link MinPQ} implementations.
+ * Represents the element-priority pair for use in {@link MinPQ} implementations. Nodes are ordered by priority value,
+ * then by sequence number so that ties are broken in first-in-first-out order, but are equal when their elements are
+ * equal, so the natural ordering is inconsistent with equals.
  *
  * @param <E> the type of element represented by this node.
  * @see MinPQ
  */
-class PriorityNode<E> {
+class PriorityNode<E> implements Comparable<PriorityNode<E>> {
     private final E element;
     private double priority;
+    private long sequence;
 
     public PriorityNode(E element, double priority) {
+        this(element, priority, 0);
+    }
+
+    public PriorityNode(E element, double priority, long sequence) {
         this.element = element;
         this.priority = priority;
+        this.sequence = sequence;
     }
 
     public E getElement() {
@@ -29,11 +37,29 @@ class PriorityNode<E> {
         this.priority = priority;
     }
 
+    public long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(long sequence) {
+        this.sequence = sequence;
+    }
+
+    @Override
+    public int compareTo(PriorityNode<E> other) {
+        int result = Double.compare(priority, other.priority);
+        if (result == 0) {
+            result = Long.compare(sequence, other.sequence);
+        }
+        return result;
+    }
+
     @Override
     public String toString() {
         return "PriorityNode{" +
                 "element=" + element +
                 ", priority=" + priority +
+                ", sequence=" + sequence +
                 '}';
     }
 
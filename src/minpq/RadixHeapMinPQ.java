@@ -0,0 +1,262 @@
+package minpq;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Radix heap implementation of the {@link MinPQ} interface for <b>monotone</b> workloads such as Dijkstra's algorithm
+ * with non-negative edge weights, where every priority value is non-negative and no less than the priority value of
+ * the last element returned by {@link #peekMin()} or {@link #removeMin()}. Non-negative {@code double} values order
+ * the same way as their IEEE 754 bit patterns, so each element is placed in the bucket for the highest bit where its
+ * bit pattern differs from the last returned priority value. Removing the minimum only redistributes a bucket when
+ * the lowest bucket is empty, and each element moves to a lower bucket at most 64 times.
+ * <p>
+ * Unlike the other implementations in this package, ties are not broken in first-in-first-out order: the lowest bucket
+ * is removed from the end and removing an entry moves the last entry in its bucket into its place, so elements with
+ * equal priority values are removed in an order that is deterministic but depends on the whole sequence of operations.
+ * Keeping ties in order would require scanning the lowest bucket on every removal; use {@link BucketMinPQ} instead.
+ *
+ * @param <E> the type of elements in this priority queue.
+ * @see MinPQ
+ * @see BucketMinPQ
+ */
+public class RadixHeapMinPQ<E> implements MinPQ<E> {
+    /**
+     * The number of buckets: one for priority values equal to the last returned value, plus one per bit.
+     */
+    private static final int NUM_BUCKETS = Long.SIZE + 1;
+    /**
+     * {@link List} of buckets, where bucket 0 contains the entries with the same key as the last returned entry and
+     * bucket i contains the entries whose key differs from that key in bit i - 1 and no higher bit.
+     */
+    private final List<List<Entry<E>>> buckets;
+    /**
+     * {@link Map} of each element to its entry.
+     */
+    private final Map<E, Entry<E>> entries;
+    /**
+     * Empty bucket swapped in for the bucket being redistributed.
+     */
+    private List<Entry<E>> spare;
+    /**
+     * The key of the last entry returned by {@link #peekMin()} or {@link #removeMin()}, or 0 initially.
+     */
+    private long last;
+
+    /**
+     * Constructs an empty instance.
+     */
+    public RadixHeapMinPQ() {
+        buckets = new ArrayList<>(NUM_BUCKETS);
+        for (int i = 0; i < NUM_BUCKETS; i += 1) {
+            buckets.add(new ArrayList<>());
+        }
+        entries = new HashMap<>();
+        spare = new ArrayList<>();
+        last = 0;
+    }
+
+    /**
+     * Constructs an instance containing all the given elements and their priority values.
+     *
+     * @param elementsAndPriorities each element and its corresponding priority.
+     */
+    public RadixHeapMinPQ(Map<E, Double> elementsAndPriorities) {
+        this();
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            add(entry.getKey(), entry.getValue());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if priority is negative, NaN, or less than the last returned priority value.
+     */
+    @Override
+    public void add(E element, double priority) {
+        if (element == null) {
+            throw new IllegalArgumentException("Element cannot be null");
+        } else if (contains(element)) {
+            throw new IllegalArgumentException("Already contains " + element);
+        }
+        Entry<E> entry = new Entry<>(element);
+        entry.priority = priority;
+        entry.key = key(priority);
+        entries.put(element, entry);
+        insert(entry);
+    }
+
+    @Override
+    public boolean contains(E element) {
+        return entries.containsKey(element);
+    }
+
+    @Override
+    public double getPriority(E element) {
+        Entry<E> entry = entries.get(element);
+        if (entry == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        return entry.priority;
+    }
+
+    @Override
+    public E peekMin() {
+        if (isEmpty()) {
+            throw new NoSuchElementException("PQ is empty");
+        }
+        List<Entry<E>> bucket = buckets.get(0);
+        if (bucket.isEmpty()) {
+            redistribute();
+        }
+        return bucket.getLast().element;
+    }
+
+    @Override
+    public E removeMin() {
+        E min = peekMin();
+        Entry<E> entry = buckets.get(0).removeLast();
+        entries.remove(entry.element);
+        return min;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if priority is negative, NaN, or less than the last returned priority value.
+     */
+    @Override
+    public void changePriority(E element, double priority) {
+        Entry<E> entry = entries.get(element);
+        if (entry == null) {
+            throw new NoSuchElementException("PQ does not contain " + element);
+        }
+        long key = key(priority);
+        remove(entry);
+        entry.priority = priority;
+        entry.key = key;
+        insert(entry);
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Returns the key for the given priority value: its bit pattern, which orders the same way for non-negative
+     * values.
+     *
+     * @param priority the priority value.
+     * @return the key for the given priority value.
+     * @throws IllegalArgumentException if priority is negative, NaN, or less than the last returned priority value.
+     */
+    private long key(double priority) {
+        if (!(priority >= 0.0)) {
+            throw new IllegalArgumentException("Priority must be non-negative but was " + priority);
+        }
+        // Adding 0.0 converts -0.0 to 0.0
+        long key = Double.doubleToLongBits(priority + 0.0);
+        if (key < last) {
+            throw new IllegalArgumentException("Priority " + priority + " is less than the last returned priority "
+                    + Double.longBitsToDouble(last));
+        }
+        return key;
+    }
+
+    /**
+     * Returns the index of the bucket for the given key relative to the last returned key.
+     *
+     * @param key the key.
+     * @return the index of the bucket for the given key.
+     */
+    private int bucketIndex(long key) {
+        return Long.SIZE - Long.numberOfLeadingZeros(key ^ last);
+    }
+
+    /**
+     * Appends the entry to the bucket for its key.
+     *
+     * @param entry the entry.
+     */
+    private void insert(Entry<E> entry) {
+        entry.bucket = bucketIndex(entry.key);
+        List<Entry<E>> bucket = buckets.get(entry.bucket);
+        entry.index = bucket.size();
+        bucket.add(entry);
+    }
+
+    /**
+     * Removes the entry from its bucket by moving the last entry in the bucket into its place.
+     *
+     * @param entry the entry.
+     */
+    private void remove(Entry<E> entry) {
+        List<Entry<E>> bucket = buckets.get(entry.bucket);
+        Entry<E> moved = bucket.removeLast();
+        if (moved != entry) {
+            moved.index = entry.index;
+            bucket.set(entry.index, moved);
+        }
+    }
+
+    /**
+     * Advances the last returned key to the minimum key in the lowest non-empty bucket, then moves every entry in that
+     * bucket to a lower bucket relative to the new key. Requires that this priority queue is not empty.
+     */
+    private void redistribute() {
+        int i = 1;
+        while (buckets.get(i).isEmpty()) {
+            i += 1;
+        }
+        List<Entry<E>> bucket = buckets.get(i);
+        long min = Long.MAX_VALUE;
+        for (Entry<E> entry : bucket) {
+            min = Math.min(min, entry.key);
+        }
+        last = min;
+        // Every entry moves to a lower bucket, so the bucket can be swapped out for the empty spare while iterating
+        buckets.set(i, spare);
+        for (Entry<E> entry : bucket) {
+            insert(entry);
+        }
+        bucket.clear();
+        spare = bucket;
+    }
+
+    /**
+     * An element, its priority value and key, and its location in the buckets.
+     *
+     * @param <E> the type of element.
+     */
+    private static class Entry<E> {
+        /**
+         * The element.
+         */
+        final E element;
+        /**
+         * The priority value for the element.
+         */
+        double priority;
+        /**
+         * The bit pattern of the priority value.
+         */
+        long key;
+        /**
+         * The index of the bucket containing this entry.
+         */
+        int bucket;
+        /**
+         * The index of this entry in its bucket.
+         */
+        int index;
+
+        Entry(E element) {
+            this.element = element;
+        }
+    }
+}
@@ -0,0 +1,239 @@
+package minpq;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Bounded collector of the k lowest-priority elements from a stream of element-priority pairs. Whereas building
+ * a {@link MinPQ} over every candidate and calling {@link MinPQ#removeMin(int)} takes memory proportional to the
+ * number of candidates, this collector keeps only the best k candidates seen so far in a bounded max-heap, so offering
+ * n candidates takes O(n log k) time and O(min(n, k)) memory. The heap starts small and grows as candidates are kept,
+ * so a large k does not allocate memory up front.
+ * <p>
+ * Like the {@link MinPQ} implementations, ties between equal priority values are broken in first-in-first-out order of
+ * when elements were offered, so the kept elements and their order do not depend on the layout of the heap.
+ * <p>
+ * Each element should be offered at most once, since the collector does not track which elements it has discarded.
+ *
+ * @param <E> the type of elements.
+ * @see MinPQ#removeMin(int)
+ */
+public class TopKSelector<E> {
+    /**
+     * The initial capacity of the max-heap, which grows up to k.
+     */
+    private static final int INITIAL_CAPACITY = 16;
+    /**
+     * The maximum number of elements to keep.
+     */
+    private final int k;
+    /**
+     * The max-heap of kept elements, where the children of the element at index i are at indices 2i + 1 and 2i + 2.
+     */
+    private Object[] elements;
+    /**
+     * The priority value of the element at each index in the max-heap.
+     */
+    private double[] priorities;
+    /**
+     * The sequence number of the element at each index in the max-heap, which orders equal priority values.
+     */
+    private long[] sequences;
+    /**
+     * The number of kept elements.
+     */
+    private int size;
+    /**
+     * The next sequence number.
+     */
+    private long sequence;
+
+    /**
+     * Constructs an empty instance that keeps up to the given number of lowest-priority elements.
+     *
+     * @param k the maximum number of elements to keep.
+     * @throws IllegalArgumentException if k is negative.
+     */
+    public TopKSelector(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k must be non-negative but was " + k);
+        }
+        this.k = k;
+        int capacity = Math.min(k, INITIAL_CAPACITY);
+        elements = new Object[capacity];
+        priorities = new double[capacity];
+        sequences = new long[capacity];
+        size = 0;
+        sequence = 0;
+    }
+
+    /**
+     * Returns up to the given number of lowest-priority elements in the map, in the same order as
+     * {@link MinPQ#removeMin(int)} on a priority queue containing all of them.
+     *
+     * @param elementsAndPriorities each element and its corresponding priority.
+     * @param k                     the maximum number of elements to return.
+     * @param <E>                   the type of elements.
+     * @return a list of up to k lowest-priority elements in order of increasing priority value.
+     */
+    public static <E> List<E> select(Map<E, Double> elementsAndPriorities, int k) {
+        TopKSelector<E> selector = new TopKSelector<>(Math.min(k, elementsAndPriorities.size()));
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            selector.offer(entry.getKey(), entry.getValue());
+        }
+        return selector.toSortedList();
+    }
+
+    /**
+     * Offers an element with the given priority value, keeping it only if it is among the k lowest-priority elements
+     * offered so far.
+     *
+     * @param element  the element to offer.
+     * @param priority the priority value for the element.
+     * @return true if the element is kept.
+     */
+    public boolean offer(E element, double priority) {
+        long offered = sequence++;
+        if (size < k) {
+            if (size == elements.length) {
+                resize((int) Math.min(k, 2L * elements.length));
+            }
+            size += 1;
+            swim(size - 1, element, priority, offered);
+            return true;
+        } else if (k > 0 && priority < priorities[0]) {
+            // Replace the last kept element, unless it is a tie since the kept element was offered earlier
+            sink(0, element, priority, offered);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of kept elements.
+     *
+     * @return the number of kept elements.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the kept elements in order of increasing priority value, breaking ties in the order they were offered,
+     * without removing them.
+     *
+     * @return a list of the kept elements in order of increasing priority value.
+     */
+    @SuppressWarnings("unchecked")
+    public List<E> toSortedList() {
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i += 1) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> priorities[a] != priorities[b]
+                ? Double.compare(priorities[a], priorities[b])
+                : Long.compare(sequences[a], sequences[b]));
+        List<E> result = new ArrayList<>(size);
+        for (int index : order) {
+            result.add((E) elements[index]);
+        }
+        return result;
+    }
+
+    /**
+     * Places the element with the given priority value at the given index or above it, shifting each lesser parent
+     * down one level.
+     *
+     * @param index    the index of the hole where the element belongs or below it.
+     * @param element  the element to place.
+     * @param priority the priority value for the element.
+     * @param offered  the sequence number for the element.
+     */
+    private void swim(int index, E element, double priority, long offered) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!greater(priority, offered, priorities[parent], sequences[parent])) {
+                break;
+            }
+            move(parent, index);
+            index = parent;
+        }
+        set(index, element, priority, offered);
+    }
+
+    /**
+     * Places the element with the given priority value at the given index or below it, shifting each greatest child
+     * that is greater than the element up one level.
+     *
+     * @param index    the index of the hole where the element belongs or above it.
+     * @param element  the element to place.
+     * @param priority the priority value for the element.
+     * @param offered  the sequence number for the element.
+     */
+    private void sink(int index, E element, double priority, long offered) {
+        while (2 * index + 1 < size) {
+            int child = 2 * index + 1;
+            if (child + 1 < size
+                    && greater(priorities[child + 1], sequences[child + 1], priorities[child], sequences[child])) {
+                child += 1;
+            }
+            if (!greater(priorities[child], sequences[child], priority, offered)) {
+                break;
+            }
+            move(child, index);
+            index = child;
+        }
+        set(index, element, priority, offered);
+    }
+
+    /**
+     * Returns true if and only if the first element comes after the second, either because it has a greater priority
+     * value or because it has an equal priority value and was offered later.
+     *
+     * @param priority      the priority value for the first element.
+     * @param offered       the sequence number for the first element.
+     * @param otherPriority the priority value for the second element.
+     * @param otherOffered  the sequence number for the second element.
+     * @return true if and only if the first element comes after the second.
+     */
+    private static boolean greater(double priority, long offered, double otherPriority, long otherOffered) {
+        return priority > otherPriority || (priority == otherPriority && offered > otherOffered);
+    }
+
+    /**
+     * Copies the element at one index in the max-heap to another.
+     *
+     * @param from the index to copy from.
+     * @param to   the index to copy to.
+     */
+    private void move(int from, int to) {
+        set(to, elements[from], priorities[from], sequences[from]);
+    }
+
+    /**
+     * Stores the element, priority value, and sequence number at the given index in the max-heap.
+     *
+     * @param index    the index in the max-heap.
+     * @param element  the element.
+     * @param priority the priority value for the element.
+     * @param offered  the sequence number for the element.
+     */
+    private void set(int index, Object element, double priority, long offered) {
+        elements[index] = element;
+        priorities[index] = priority;
+        sequences[index] = offered;
+    }
+
+    /**
+     * Updates the length of the max-heap arrays to the given capacity.
+     *
+     * @param capacity the new capacity, which is at least the number of kept elements.
+     */
+    private void resize(int capacity) {
+        elements = Arrays.copyOf(elements, capacity);
+        priorities = Arrays.copyOf(priorities, capacity);
+        sequences = Arrays.copyOf(sequences, capacity);
+    }
+}
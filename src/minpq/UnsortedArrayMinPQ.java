@@ -16,6 +16,10 @@ public class UnsortedArrayMinPQ<E> implements MinPQ<E> {
      * {@link List} of {@link PriorityNode} objects representing the element-priority pairs in no specific order.
      */
     private final List<PriorityNode<E>> elements;
+    /**
+     * The next sequence number, used to break ties between equal priority values in first-in-first-out order.
+     */
+    private long sequence;
 
     /**
      * Constructs an empty instance.
@@ -25,14 +29,15 @@ public class UnsortedArrayMinPQ<E> implements MinPQ<E> {
     }
 
     /**
-     * Constructs an instance containing all the given elements and their priority values.
+     * Constructs an instance containing all the given elements and their priority values. Since map keys are unique,
+     * the elements are appended without checking for duplicates.
      *
      * @param elementsAndPriorities each element and its corresponding priority.
      */
     public UnsortedArrayMinPQ(Map<E, Double> elementsAndPriorities) {
         elements = new ArrayList<>(elementsAndPriorities.size());
         for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
-            add(entry.getKey(), entry.getValue());
+            elements.add(new PriorityNode<>(entry.getKey(), entry.getValue(), sequence++));
         }
     }
 
@@ -41,7 +46,7 @@ public class UnsortedArrayMinPQ<E> implements MinPQ<E> {
         if (contains(element)) {
             throw new IllegalArgumentException("Already contains " + element);
         }
-        elements.add(new PriorityNode<>(element, priority));
+        elements.add(new PriorityNode<>(element, priority, sequence++));
     }
 
     @Override
@@ -67,7 +72,7 @@ public class UnsortedArrayMinPQ<E> implements MinPQ<E> {
         }
         PriorityNode<E> getMin = elements.getFirst();
         for (PriorityNode<E> element : elements) {
-            if (element.getPriority() < getMin.getPriority()) getMin = element;
+            if (element.compareTo(getMin) < 0) getMin = element;
         }
         return getMin.getElement();
     }
@@ -79,7 +84,7 @@ public class UnsortedArrayMinPQ<E> implements MinPQ<E> {
         }
         PriorityNode<E> getMin = elements.getFirst();
         for (PriorityNode<E> element : elements) {
-            if (element.getPriority() < getMin.getPriority()) getMin = element;
+            if (element.compareTo(getMin) < 0) getMin = element;
         }
         elements.remove(getMin);
         return getMin.getElement();
@@ -91,7 +96,10 @@ public class UnsortedArrayMinPQ<E> implements MinPQ<E> {
             throw new NoSuchElementException("PQ does not contain " + element);
         }
         for (PriorityNode<E> obj : elements) {
-            if (obj.getElement().equals(element)) obj.setPriority(priority);
+            if (obj.getElement().equals(element)) {
+                obj.setPriority(priority);
+                obj.setSequence(sequence++);
+            }
         }
     }
 
@@ -0,0 +1,104 @@
+import graphs.shortestpaths.AStarSolver;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.locationtech.spatial4j.context.SpatialContext;
+import org.locationtech.spatial4j.shape.Point;
+import org.locationtech.spatial4j.shape.ShapeFactory;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Experiments for the {@link MapGraph} class, which require the same OpenStreetMap and access score files on the
+ * classpath as {@link MapServer}.
+ *
+ * @see MapGraph
+ */
+public class MapGraphTests {
+
+    @Nested
+    @Disabled
+    class RuntimeExperiments {
+        /**
+         * The OpenStreetMap XML file path.
+         */
+        private static final String OSM_DB_PATH = "seattle.osm.gz";
+        /**
+         * The TSV of OSM way accessibility scores.
+         */
+        private static final String ACCESS_PATH = "access.tsv";
+        /**
+         * The number of random routes per configuration.
+         */
+        private static final int NUM_ROUTES = 100;
+
+        /**
+         * Print the number of expansions and the route length relative to the shortest route for random routes in
+         * Seattle, for increasing weights and epsilon values. The output is comma-separated with columns for the
+         * weight, epsilon, average number of expansions, percent of expansions saved compared to exact A* search
+         * that stops at the goal, average ratio to the shortest route length, and the proven suboptimality bound.
+         */
+        @Test
+        void seattleRoutes() throws Exception {
+            SpatialContext context = SpatialContext.GEO;
+            ShapeFactory factory = context.getShapeFactory();
+            MapGraph map = new MapGraph(OSM_DB_PATH, ACCESS_PATH, context);
+            // Random points within the city limits, snapped to the closest place in the graph
+            Point[][] routes = new Point[NUM_ROUTES][];
+            Random random = new Random(373);
+            for (int i = 0; i < NUM_ROUTES; i += 1) {
+                routes[i] = new Point[2];
+                for (int j = 0; j < 2; j += 1) {
+                    double lat = 47.50 + random.nextDouble() * 0.23;
+                    double lon = -122.42 + random.nextDouble() * 0.18;
+                    routes[i][j] = map.closest(factory.pointLatLon(lat, lon));
+                }
+            }
+            long exactExpansions = 0;
+            double[] shortest = new double[NUM_ROUTES];
+            for (int i = 0; i < NUM_ROUTES; i += 1) {
+                AStarSolver<Point> solver = new AStarSolver<>(map, routes[i][0], routes[i][1], 1.0, 0.0);
+                exactExpansions += solver.expansions();
+                shortest[i] = length(map, solver.solution());
+            }
+            for (double weight : new double[]{1.0, 1.2, 1.5, 2.0, 3.0}) {
+                for (double epsilon : new double[]{0.0, 0.05, 0.2}) {
+                    long expansions = 0;
+                    double ratio = 0.0;
+                    double bound = 0.0;
+                    for (int i = 0; i < NUM_ROUTES; i += 1) {
+                        AStarSolver<Point> solver = new AStarSolver<>(map, routes[i][0], routes[i][1], weight,
+                                epsilon);
+                        expansions += solver.expansions();
+                        ratio += shortest[i] == 0.0 ? 1.0 : length(map, solver.solution()) / shortest[i];
+                        bound = solver.suboptimalityBound();
+                    }
+                    System.out.printf("%.2f,%.2f,%.0f,%.1f,%.4f,%.2f%n", weight, epsilon,
+                            expansions / (double) NUM_ROUTES, 100.0 * (1 - expansions / (double) exactExpansions),
+                            ratio / NUM_ROUTES, bound);
+                }
+            }
+        }
+
+        /**
+         * Returns the total weight of the least-weight edges between consecutive points along the given route.
+         *
+         * @param map   the graph.
+         * @param route the list of points.
+         * @return the total weight of the route.
+         */
+        private double length(MapGraph map, List<Point> route) {
+            double result = 0.0;
+            for (int i = 1; i < route.size(); i += 1) {
+                Point to = route.get(i);
+                result += map.neighbors(route.get(i - 1)).stream()
+                        .filter(e -> e.to.equals(to))
+                        .mapToDouble(e -> e.weight)
+                        .min()
+                        .orElse(Double.POSITIVE_INFINITY);
+            }
+            return result;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.*;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.lang.ref.Reference;
+import java.nio.CharBuffer;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -101,6 +103,61 @@ public abstract class AutocompleteTests {
         }
     }
 
+    @Test
+    void addAllInBatchesSameAsSingleBatch() {
+        // Overlapping batches of different sizes, including one with duplicate terms and one that sorts before the
+        // terms already added, so that every path for merging into existing terms is used
+        List<List<String>> batches = new ArrayList<>();
+        batches.add(cities.subList(0, 20000));
+        batches.add(cities.subList(15000, 30000));
+        List<String> small = new ArrayList<>(cities.subList(29900, 30100));
+        small.addAll(cities.subList(29900, 30000));
+        Collections.shuffle(small, new Random(373));
+        batches.add(small);
+        batches.add(List.of("A", "AA", "Aa", "A"));
+        batches.add(cities.subList(30000, cities.size()));
+
+        Autocomplete batched = createAutocomplete();
+        Autocomplete single = createAutocomplete();
+        List<String> all = new ArrayList<>();
+        for (List<String> batch : batches) {
+            batched.addAll(batch);
+            all.addAll(batch);
+        }
+        single.addAll(all);
+
+        Random random = new Random(373);
+        List<String> prefixes = new ArrayList<>(List.of("A", "Aa", "Sea", "San", "M", "Zz"));
+        for (int i = 0; i < 50; i += 1) {
+            String city = all.get(random.nextInt(all.size()));
+            prefixes.add(city.substring(0, Math.min(city.length(), 1 + random.nextInt(4))));
+        }
+        for (String prefix : prefixes) {
+            List<String> expected = sorted(single.allMatches(prefix));
+            List<String> actual = sorted(batched.allMatches(prefix));
+            assertEquals(expected, actual, prefix);
+        }
+    }
+
+    @Test
+    void streamMatchesSameAsFilteredTerms() {
+        for (String prefix : new String[]{"Sea", "San", "A", "Zz"}) {
+            // Compare contents as strings since streamMatches may return views that are not equal to strings, and
+            // ignore duplicates since only some implementations keep them
+            Set<String> expected = new HashSet<>();
+            for (String city : cities) {
+                if (city.startsWith(prefix)) {
+                    expected.add(city);
+                }
+            }
+            List<String> actual = testing.streamMatches(prefix).map(CharSequence::toString).toList();
+            assertEquals(expected, new HashSet<>(actual));
+            List<String> first = testing.streamMatches(prefix).limit(10).map(CharSequence::toString).toList();
+            assertEquals(Math.min(actual.size(), 10), first.size());
+            assertTrue(expected.containsAll(first));
+        }
+    }
+
     /**
      * Asserts that the reference and testing implementations' {@code allMatches} methods produce
      * the same results ignoring order.
@@ -115,6 +172,16 @@ public abstract class AutocompleteTests {
         assertTrue(actual.containsAll(expected));
     }
 
+    /**
+     * Returns the given terms as a sorted list of strings, keeping duplicates.
+     *
+     * @param terms the terms to sort
+     * @return a sorted list of the terms as strings
+     */
+    static List<String> sorted(List<CharSequence> terms) {
+        return terms.stream().map(CharSequence::toString).sorted().toList();
+    }
+
     @Nested
     //@Disabled
     class RuntimeExperiments {
@@ -172,4 +239,128 @@ public abstract class AutocompleteTests {
             }
         }
     }
+
+    @Nested
+    @Disabled
+    class ComparisonExperiments {
+        /**
+         * Number of trials when measuring the time to add all the DNA reads.
+         */
+        private static final int NUM_BUILD_TRIALS = 10;
+        /**
+         * Number of random prefixes sampled per prefix length.
+         */
+        private static final int NUM_PREFIXES = 200;
+        /**
+         * Length of the synthetic DNA sequence.
+         */
+        private static final int DNA_LENGTH = 20000;
+        /**
+         * Length of each DNA read starting from every index of the synthetic DNA sequence.
+         */
+        private static final int READ_LENGTH = 50;
+
+        /**
+         * Print the average time to find matches for prefixes of increasing length sampled from the city names. The
+         * output is comma-separated with columns for prefix length, average number of matches, {@code allMatches}
+         * time, and time to take the first 10 results from {@code streamMatches} (nanoseconds).
+         */
+        @Test
+        void prefixLengths() {
+            Autocomplete autocomplete = createAutocomplete();
+            autocomplete.addAll(cities);
+            printMatchTimes(autocomplete, cities, 8);
+        }
+
+        /**
+         * Print the build time and matching times for windows of a synthetic DNA sequence, such as the reads indexed
+         * by {@code DNASearch}. The output first prints the average time to add all reads (nanoseconds), followed by
+         * the same columns as {@link #prefixLengths()}.
+         */
+        @Test
+        void dnaReads() {
+            String dna = StringSortTests.randomDNA(DNA_LENGTH, new Random(373));
+            List<CharSequence> reads = new ArrayList<>(DNA_LENGTH);
+            for (int i = 0; i < DNA_LENGTH; i += 1) {
+                reads.add(CharBuffer.wrap(dna, i, Math.min(dna.length(), i + READ_LENGTH)));
+            }
+
+            long totalAddAllTime = 0;
+            Autocomplete autocomplete = null;
+            for (int i = 0; i < NUM_BUILD_TRIALS; i += 1) {
+                autocomplete = createAutocomplete();
+                long addStart = System.nanoTime();
+                autocomplete.addAll(reads);
+                totalAddAllTime += System.nanoTime() - addStart;
+            }
+            System.out.printf("%.0f", totalAddAllTime / (double) NUM_BUILD_TRIALS);
+            System.out.println();
+            printMatchTimes(autocomplete, reads, 12);
+        }
+
+        /**
+         * Print the approximate number of bytes retained by an instance containing all the city names, not counting
+         * the city names themselves.
+         */
+        @Test
+        void memoryFootprint() {
+            long before = usedMemory();
+            Autocomplete autocomplete = createAutocomplete();
+            autocomplete.addAll(cities);
+            long after = usedMemory();
+            System.out.println(after - before);
+            Reference.reachabilityFence(autocomplete);
+        }
+
+        /**
+         * Prints the average number of matches and time to find matches for prefixes of each length up to the given
+         * maximum sampled from the given terms.
+         *
+         * @param autocomplete      the instance to query.
+         * @param terms             the terms to sample prefixes from.
+         * @param maxPrefixLength   the maximum prefix length.
+         */
+        private void printMatchTimes(Autocomplete autocomplete, List<? extends CharSequence> terms,
+                                     int maxPrefixLength) {
+            Random random = new Random(373);
+            for (int length = 1; length <= maxPrefixLength; length += 1) {
+                long totalMatches = 0;
+                long totalMatchesTime = 0;
+                long totalStreamTime = 0;
+                for (int i = 0; i < NUM_PREFIXES; i += 1) {
+                    CharSequence term = terms.get(random.nextInt(terms.size()));
+                    String prefix = term.subSequence(0, Math.min(length, term.length())).toString();
+
+                    long matchesStart = System.nanoTime();
+                    totalMatches += autocomplete.allMatches(prefix).size();
+                    totalMatchesTime += System.nanoTime() - matchesStart;
+
+                    long streamStart = System.nanoTime();
+                    autocomplete.streamMatches(prefix).limit(10).forEach(Reference::reachabilityFence);
+                    totalStreamTime += System.nanoTime() - streamStart;
+                }
+                System.out.print(length);
+                System.out.print(',');
+                System.out.printf("%.0f", totalMatches / (double) NUM_PREFIXES);
+                System.out.print(',');
+                System.out.printf("%.0f", totalMatchesTime / (double) NUM_PREFIXES);
+                System.out.print(',');
+                System.out.printf("%.0f", totalStreamTime / (double) NUM_PREFIXES);
+                System.out.println();
+            }
+        }
+
+        /**
+         * Returns the number of bytes in use on the heap after requesting garbage collection.
+         *
+         * @return the number of bytes in use on the heap.
+         */
+        private long usedMemory() {
+            Runtime runtime = Runtime.getRuntime();
+            for (int i = 0; i < 3; i += 1) {
+                System.gc();
+            }
+            return runtime.totalMemory() - runtime.freeMemory();
+        }
+    }
 }
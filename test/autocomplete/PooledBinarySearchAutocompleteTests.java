@@ -0,0 +1,44 @@
+package autocomplete;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link PooledBinarySearchAutocomplete} class.
+ *
+ * @see PooledBinarySearchAutocomplete
+ */
+public class PooledBinarySearchAutocompleteTests extends AutocompleteTests {
+    @Override
+    public Autocomplete createAutocomplete() {
+        return new PooledBinarySearchAutocomplete();
+    }
+
+    @Test
+    void nonAsciiTerms() {
+        Autocomplete autocomplete = createAutocomplete();
+        autocomplete.addAll(List.of("Zürich", "Zug", "Zuhause", "Zoo"));
+        autocomplete.addAll(List.of("Zu😀", "Zürichberg", "São Paulo"));
+        assertEquals(List.of("Zug", "Zuhause", "Zu😀"), autocomplete.allMatches("Zu"));
+        assertEquals(List.of("Zürich", "Zürichberg"), autocomplete.allMatches("Zü"));
+        assertEquals(List.of("São Paulo"), autocomplete.allMatches("São"));
+
+        CharSequence emoji = autocomplete.streamMatches("Zu\uD83D").findFirst().orElseThrow();
+        assertEquals(4, emoji.length());
+        assertEquals('\uDE00', emoji.charAt(3));
+        assertEquals("Zu😀", emoji.toString());
+    }
+
+    @Test
+    void unpairedSurrogateThrowsException() {
+        Autocomplete autocomplete = createAutocomplete();
+        autocomplete.addAll(List.of("Zug", "Zürich"));
+        assertThrows(IllegalArgumentException.class, () -> autocomplete.addAll(List.of("Zu\uD83D")));
+        assertThrows(IllegalArgumentException.class, () -> autocomplete.addAll(List.of("Zu\uDE00x", "Zoo")));
+        // A rejected batch leaves the existing terms unchanged
+        assertEquals(List.of("Zug", "Zürich"), autocomplete.allMatches("Z"));
+    }
+}
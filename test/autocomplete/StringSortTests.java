@@ -0,0 +1,191 @@
+package autocomplete;
+
+import org.junit.jupiter.api.*;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link StringSort} class.
+ *
+ * @see StringSort
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+public class StringSortTests {
+    /**
+     * Path to the cities dataset.
+     */
+    private static final String PATH = "data/cities.tsv";
+    /**
+     * All city names in the cities dataset.
+     */
+    private final List<String> cities = new ArrayList<>();
+
+    @BeforeAll
+    void setup() throws IOException {
+        Scanner input = new Scanner(new FileInputStream(PATH));
+        while (input.hasNextLine()) {
+            Scanner line = new Scanner(input.nextLine()).useDelimiter("\t");
+            cities.add(line.next());
+        }
+    }
+
+    @Test
+    void sortEmptyAndSingleton() {
+        CharSequence[] empty = {};
+        StringSort.sort(empty);
+        StringSort.parallelSort(empty);
+        CharSequence[] singleton = {"a"};
+        StringSort.sort(singleton);
+        assertArrayEquals(new CharSequence[]{"a"}, singleton);
+    }
+
+    @Test
+    void sortSimple() {
+        CharSequence[] terms = {"dog", "alpha", "do", "", "dodgy", "do", "cats", "Do", "pilot", "delta"};
+        assertSorted(terms);
+    }
+
+    @Test
+    void sortCities() {
+        assertSorted(cities.toArray(new CharSequence[0]));
+    }
+
+    @Test
+    void sortDNASuffixes() {
+        assertSorted(suffixes(randomDNA(20000, new Random(373))));
+    }
+
+    @Test
+    void sortRepetitiveDNASuffixes() {
+        // Long runs of a repeated pattern produce suffixes that share very long prefixes
+        assertSorted(suffixes("ACGT".repeat(5000) + "A"));
+    }
+
+    /**
+     * Asserts that both {@link StringSort#sort(CharSequence[])} and {@link StringSort#parallelSort(CharSequence[])}
+     * produce the same order as sorting with {@link CharSequence#compare(CharSequence, CharSequence)}.
+     *
+     * @param terms the terms to sort.
+     */
+    private static void assertSorted(CharSequence[] terms) {
+        CharSequence[] expected = terms.clone();
+        Arrays.sort(expected, CharSequence::compare);
+
+        CharSequence[] actual = terms.clone();
+        StringSort.sort(actual);
+        assertArrayEquals(expected, actual);
+
+        actual = terms.clone();
+        StringSort.parallelSort(actual);
+        assertArrayEquals(expected, actual);
+    }
+
+    /**
+     * Returns a random DNA sequence of the given length.
+     *
+     * @param length the length of the sequence.
+     * @param random the source of randomness.
+     * @return a random DNA sequence of the given length.
+     */
+    static String randomDNA(int length, Random random) {
+        char[] bases = {'A', 'C', 'G', 'T'};
+        StringBuilder result = new StringBuilder(length);
+        for (int i = 0; i < length; i += 1) {
+            result.append(bases[random.nextInt(bases.length)]);
+        }
+        return result.toString();
+    }
+
+    /**
+     * Returns all the suffixes of the given sequence as views that share the sequence rather than copying it.
+     *
+     * @param data the sequence.
+     * @return all the suffixes of the given sequence.
+     */
+    static CharSequence[] suffixes(String data) {
+        CharSequence[] result = new CharSequence[data.length()];
+        for (int i = 0; i < data.length(); i += 1) {
+            result[i] = CharBuffer.wrap(data, i, data.length());
+        }
+        return result;
+    }
+
+    @Nested
+    @Disabled
+    class RuntimeExperiments {
+        /**
+         * Number of trials per sort. Making this smaller means experiments run faster.
+         */
+        private static final int NUM_TRIALS = 10;
+        /**
+         * Maximum length of the synthetic DNA sequence.
+         */
+        private static final int MAX_SIZE = 1000000;
+
+        /**
+         * Print the average time to sort all city names. The output is comma-separated with columns for
+         * {@link Arrays#sort}, {@link Arrays#parallelSort}, {@link StringSort#sort}, and
+         * {@link StringSort#parallelSort} (nanoseconds).
+         */
+        @Test
+        void cities() {
+            printSortTimes(cities.size(), cities.toArray(new CharSequence[0]));
+        }
+
+        /**
+         * Print the average time to sort all suffixes of an increasingly-long random DNA sequence. The output is
+         * comma-separated with columns for sequence length, {@link Arrays#sort}, {@link Arrays#parallelSort},
+         * {@link StringSort#sort}, and {@link StringSort#parallelSort} (nanoseconds).
+         */
+        @Test
+        void dnaSuffixes() {
+            Random random = new Random(373);
+            for (int size = 1000; size <= MAX_SIZE; size *= 10) {
+                printSortTimes(size, suffixes(randomDNA(size, random)));
+            }
+        }
+
+        /**
+         * Prints the average time for each sort on copies of the given terms.
+         *
+         * @param size  the label for the output row.
+         * @param terms the terms to sort.
+         */
+        private void printSortTimes(int size, CharSequence[] terms) {
+            System.out.print(size);
+            long[] totalTimes = new long[4];
+            for (int i = 0; i < NUM_TRIALS; i += 1) {
+                CharSequence[] copy = terms.clone();
+                long start = System.nanoTime();
+                Arrays.sort(copy, CharSequence::compare);
+                totalTimes[0] += System.nanoTime() - start;
+
+                copy = terms.clone();
+                start = System.nanoTime();
+                Arrays.parallelSort(copy, CharSequence::compare);
+                totalTimes[1] += System.nanoTime() - start;
+
+                copy = terms.clone();
+                start = System.nanoTime();
+                StringSort.sort(copy);
+                totalTimes[2] += System.nanoTime() - start;
+
+                copy = terms.clone();
+                start = System.nanoTime();
+                StringSort.parallelSort(copy);
+                totalTimes[3] += System.nanoTime() - start;
+            }
+            for (long totalTime : totalTimes) {
+                // Output the average rounded to the closest integer.
+                System.out.print(',');
+                System.out.printf("%.0f", totalTime / (double) NUM_TRIALS);
+            }
+            System.out.println();
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package deques;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ChunkedDeque} class.
+ *
+ * @see ChunkedDeque
+ */
+public class ChunkedDequeTests extends DequeTests {
+    @Override
+    public <E> Deque<E> createDeque() {
+        return new ChunkedDeque<>();
+    }
+
+    @Test
+    void getEachAfterAddManyToBothSidesReturnsCorrectElements() {
+        Deque<Integer> deque = createDeque();
+        // Enough elements on each side to span many blocks and grow the block index
+        for (int i = 0; i < 5000; i += 1) {
+            deque.addFirst(-i - 1);
+            deque.addLast(i);
+        }
+        assertEquals(10000, deque.size());
+        for (int i = 0; i < 10000; i += 1) {
+            assertEquals(i - 5000, deque.get(i));
+        }
+        assertNull(deque.get(10000));
+    }
+
+    @Test
+    void randomTesting() {
+        java.util.Deque<Integer> reference = new java.util.ArrayDeque<>();
+        Deque<Integer> testing = createDeque();
+        Random random = new Random(373);
+        for (int i = 0; i < 100000; i += 1) {
+            // Bias towards adding for the first half and removing for the second half to grow and shrink the index
+            int operation = random.nextInt(i < 50000 ? 5 : 7);
+            if (operation == 0) {
+                reference.addFirst(i);
+                testing.addFirst(i);
+            } else if (operation <= 2) {
+                reference.addLast(i);
+                testing.addLast(i);
+            } else if (operation <= 4) {
+                assertEquals(reference.pollFirst(), testing.removeFirst());
+            } else {
+                assertEquals(reference.pollLast(), testing.removeLast());
+            }
+            assertEquals(reference.size(), testing.size());
+            if (!reference.isEmpty()) {
+                assertEquals(reference.getFirst(), testing.get(0));
+                assertEquals(reference.getLast(), testing.get(testing.size() - 1));
+            }
+        }
+        assertEquals(new ArrayList<>(reference), testing.removeFirst(testing.size()));
+        assertTrue(testing.isEmpty());
+    }
+
+    @Test
+    void alternateAcrossBlockBoundaryReturnsCorrectElements() {
+        Deque<Integer> deque = createDeque();
+        for (int i = 0; i < 1000; i += 1) {
+            deque.addLast(i);
+        }
+        // Repeatedly cross each block boundary at the back and the front
+        for (int i = 0; i < 200; i += 1) {
+            assertEquals(999 - i, deque.removeLast());
+        }
+        for (int i = 799; i >= 0; i -= 1) {
+            deque.addLast(deque.removeLast());
+            assertEquals(i, deque.removeLast());
+            deque.addFirst(-1);
+            assertEquals(-1, deque.removeFirst());
+        }
+        assertTrue(deque.isEmpty());
+        assertEquals("[]", deque.toString());
+    }
+
+    @Nested
+    @Disabled
+    class ComparisonExperiments {
+        /**
+         * Number of trials per implementation run. Making this smaller means experiments run faster.
+         */
+        public static final int NUM_TRIALS = 100;
+        /**
+         * Maximum number of elements in the deque at once.
+         */
+        public static final int MAX_SIZE = 1000000;
+
+        /**
+         * Print the average time to add size-number of elements alternating between the front and the back, get
+         * every element by index, and then remove every element from the front. The output is comma-separated with
+         * columns for the size and the runtime (nanoseconds) of {@link ChunkedDeque}, {@link ArrayDeque}, and
+         * {@link LinkedDeque}. Since {@link LinkedDeque#get(int)} takes linear time, its get step is skipped above
+         * 10000 elements.
+         */
+        @Test
+        void addGetAndRemove() {
+            for (int size = 1000; size <= MAX_SIZE; size *= 10) {
+                long chunkedTime = 0;
+                long arrayTime = 0;
+                long linkedTime = 0;
+                for (int i = 0; i < NUM_TRIALS; i += 1) {
+                    chunkedTime += time(new ChunkedDeque<>(), size, true);
+                    arrayTime += time(new ArrayDeque<>(), size, true);
+                    linkedTime += time(new LinkedDeque<>(), size, size <= 10000);
+                }
+                System.out.printf("%d,%.0f,%.0f,%.0f%n", size, chunkedTime / (double) NUM_TRIALS,
+                        arrayTime / (double) NUM_TRIALS, linkedTime / (double) NUM_TRIALS);
+            }
+        }
+
+        /**
+         * Returns the time to run the workload on the given empty deque.
+         *
+         * @param deque the empty deque
+         * @param size  the number of elements to add
+         * @param get   whether to get every element by index
+         * @return the runtime (nanoseconds)
+         */
+        private long time(Deque<Integer> deque, int size, boolean get) {
+            long start = System.nanoTime();
+            for (int i = 0; i < size; i += 1) {
+                if (i % 2 == 0) {
+                    deque.addLast(i);
+                } else {
+                    deque.addFirst(i);
+                }
+            }
+            if (get) {
+                long sum = 0;
+                for (int i = 0; i < size; i += 1) {
+                    sum += deque.get(i);
+                }
+                // Use the sum so the loop cannot be optimized away
+                assertEquals((long) size * (size - 1) / 2, sum);
+            }
+            List<Integer> removed = new ArrayList<>(size);
+            while (!deque.isEmpty()) {
+                removed.add(deque.removeFirst());
+            }
+            assertEquals(size, removed.size());
+            return System.nanoTime() - start;
+        }
+    }
+}
@@ -3,6 +3,10 @@ package deques;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -252,6 +256,111 @@ public abstract class DequeTests {
         assertEquals(0, actual);
     }
 
+    @Test
+    void addAllLastAfterAddFirstReturnsCorrectElements() {
+        Deque<Integer> deque = createDeque();
+        // Add to the front first so that the batch wraps around the end of an array
+        for (int i = -1; i >= -5; i -= 1) {
+            deque.addFirst(i);
+        }
+        List<Integer> batch = new ArrayList<>();
+        for (int i = 0; i < 100; i += 1) {
+            batch.add(i);
+        }
+        deque.addAllLast(batch);
+        deque.addAllLast(List.of());
+        assertEquals(105, deque.size());
+        for (int i = 0; i < 105; i += 1) {
+            assertEquals(i - 5, deque.get(i));
+        }
+        assertEquals(99, deque.removeLast());
+        assertEquals(-5, deque.removeFirst());
+    }
+
+    @Test
+    void removeFirstManyReturnsFrontElements() {
+        Deque<Integer> deque = createDeque();
+        for (int i = 0; i < 50; i += 1) {
+            deque.addLast(i);
+        }
+        assertEquals(List.of(), deque.removeFirst(0));
+        assertEquals(List.of(0, 1, 2), deque.removeFirst(3));
+        assertEquals(47, deque.size());
+        List<Integer> rest = deque.removeFirst(100);
+        assertEquals(47, rest.size());
+        assertEquals(3, rest.getFirst());
+        assertEquals(49, rest.getLast());
+        assertTrue(deque.isEmpty());
+        assertNull(deque.removeFirst());
+    }
+
+    @Test
+    void drainToRemovesUpToMaxElements() {
+        Deque<String> deque = createDeque();
+        deque.addLast("b");
+        deque.addLast("c");
+        deque.addFirst("a");
+        List<String> drained = new ArrayList<>();
+        assertEquals(0, deque.drainTo(drained, -1));
+        assertEquals(0, deque.drainTo(drained, 0));
+        assertEquals(2, deque.drainTo(drained, 2));
+        assertEquals(List.of("a", "b"), drained);
+        assertEquals(1, deque.drainTo(drained, 10));
+        assertEquals(List.of("a", "b", "c"), drained);
+        assertEquals(0, deque.drainTo(drained, 10));
+        assertTrue(deque.isEmpty());
+        // The deque is still usable after being drained
+        deque.addFirst("d");
+        assertEquals("d", deque.get(0));
+    }
+
+    @Test
+    void randomBulkOperationsMatchSingleOperations() {
+        java.util.Deque<Integer> reference = new java.util.ArrayDeque<>();
+        Deque<Integer> deque = createDeque();
+        Random random = new Random(373);
+        for (int i = 0; i < 2000; i += 1) {
+            int operation = random.nextInt(6);
+            int count = random.nextInt(200);
+            if (operation == 0) {
+                List<Integer> batch = new ArrayList<>();
+                for (int j = 0; j < count; j += 1) {
+                    batch.add(random.nextInt());
+                }
+                reference.addAll(batch);
+                deque.addAllLast(batch);
+            } else if (operation == 1) {
+                List<Integer> expected = new ArrayList<>();
+                while (expected.size() < count && !reference.isEmpty()) {
+                    expected.add(reference.removeFirst());
+                }
+                assertEquals(expected, deque.removeFirst(count));
+            } else if (operation == 2) {
+                List<Integer> expected = new ArrayList<>();
+                while (expected.size() < count && !reference.isEmpty()) {
+                    expected.add(reference.removeFirst());
+                }
+                List<Integer> drained = new ArrayList<>();
+                assertEquals(expected.size(), deque.drainTo(drained, count));
+                assertEquals(expected, drained);
+            } else if (operation == 3) {
+                int value = random.nextInt();
+                reference.addFirst(value);
+                deque.addFirst(value);
+            } else if (operation == 4) {
+                assertEquals(reference.pollFirst(), deque.removeFirst());
+            } else {
+                assertEquals(reference.pollLast(), deque.removeLast());
+            }
+            assertEquals(reference.size(), deque.size());
+            if (!reference.isEmpty()) {
+                assertEquals(reference.getFirst(), deque.get(0));
+                assertEquals(reference.getLast(), deque.get(deque.size() - 1));
+            }
+        }
+        assertEquals(new ArrayList<>(reference), deque.removeFirst(deque.size()));
+    }
+
     @Nested
     class RuntimeExperiments {
         /**
@@ -0,0 +1,159 @@
+package deques;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link IntArrayDeque} class.
+ *
+ * @see IntArrayDeque
+ */
+public class IntArrayDequeTests {
+
+    @Test
+    void emptyOnConstruction() {
+        IntArrayDeque deque = new IntArrayDeque();
+        assertTrue(deque.isEmpty());
+        assertEquals(0, deque.size());
+        assertEquals("[]", deque.toString());
+        assertThrows(NoSuchElementException.class, deque::removeFirst);
+        assertThrows(NoSuchElementException.class, deque::removeLast);
+        assertThrows(IndexOutOfBoundsException.class, () -> deque.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> deque.get(-1));
+    }
+
+    @Test
+    void confusingTest() {
+        IntArrayDeque deque = new IntArrayDeque();
+        deque.addFirst(0);
+        assertEquals(0, deque.get(0));
+        deque.addLast(1);
+        assertEquals(1, deque.get(1));
+        deque.addFirst(-1);
+        deque.addLast(2);
+        assertEquals(2, deque.get(3));
+        deque.addLast(3);
+        deque.addLast(4);
+        assertEquals(-1, deque.removeFirst());
+        deque.addFirst(-1);
+        assertEquals(-1, deque.get(0));
+        deque.addLast(5);
+        deque.addFirst(-2);
+        deque.addFirst(-3);
+        assertEquals("[-3, -2, -1, 0, 1, 2, 3, 4, 5]", deque.toString());
+        assertEquals(-3, deque.removeFirst());
+        assertEquals(5, deque.removeLast());
+        assertEquals(4, deque.removeLast());
+        assertEquals(3, deque.removeLast());
+        assertEquals(2, deque.removeLast());
+        assertEquals(1, deque.removeLast());
+        assertArrayEquals(new int[]{-2, -1, 0}, deque.toArray());
+    }
+
+    @Test
+    void randomTesting() {
+        java.util.Deque<Integer> reference = new java.util.ArrayDeque<>();
+        IntArrayDeque testing = new IntArrayDeque();
+        Random random = new Random(373);
+        for (int i = 0; i < 100000; i += 1) {
+            // Bias towards adding for the first half and removing for the second half to grow and shrink the array
+            int operation = random.nextInt(i < 50000 ? 5 : 7);
+            int value = random.nextInt();
+            if (operation == 0) {
+                reference.addFirst(value);
+                testing.addFirst(value);
+            } else if (operation <= 2) {
+                reference.addLast(value);
+                testing.addLast(value);
+            } else if (reference.isEmpty()) {
+                assertThrows(NoSuchElementException.class, testing::removeFirst);
+            } else if (operation <= 4) {
+                assertEquals(reference.removeFirst(), testing.removeFirst());
+            } else {
+                assertEquals(reference.removeLast(), testing.removeLast());
+            }
+            assertEquals(reference.size(), testing.size());
+            if (!reference.isEmpty()) {
+                assertEquals(reference.getFirst(), testing.get(0));
+                assertEquals(reference.getLast(), testing.get(testing.size() - 1));
+            }
+        }
+        assertArrayEquals(reference.stream().mapToInt(Integer::intValue).toArray(), testing.toArray());
+    }
+
+    @Nested
+    @Disabled
+    class RuntimeExperiments {
+        /**
+         * Number of trials per implementation run. Making this smaller means experiments run faster.
+         */
+        public static final int NUM_TRIALS = 100;
+        /**
+         * Maximum number of values in the queue at once.
+         */
+        public static final int MAX_SIZE = 1000000;
+
+        /**
+         * Print the average time to run a breadth-first-search-style workload that adds size-number of vertex ids to
+         * the back of a queue, removing one from the front for every two added, then removes the rest. The output is
+         * comma-separated with columns for the size and the runtime (nanoseconds) of {@link IntArrayDeque},
+         * {@link ArrayDeque}, and {@link LinkedDeque}.
+         */
+        @Test
+        void breadthFirstSearch() {
+            for (int size = 1000; size <= MAX_SIZE; size *= 10) {
+                long intTime = 0;
+                long arrayTime = 0;
+                long linkedTime = 0;
+                long checksum = 0;
+                for (int i = 0; i < NUM_TRIALS; i += 1) {
+                    long start = System.nanoTime();
+                    IntArrayDeque ints = new IntArrayDeque();
+                    for (int v = 0; v < size; v += 1) {
+                        ints.addLast(v);
+                        if (v % 2 == 1) {
+                            checksum += ints.removeFirst();
+                        }
+                    }
+                    while (!ints.isEmpty()) {
+                        checksum += ints.removeFirst();
+                    }
+                    intTime += System.nanoTime() - start;
+                    arrayTime += time(new ArrayDeque<>(), size);
+                    linkedTime += time(new LinkedDeque<>(), size);
+                }
+                System.out.printf("%d,%.0f,%.0f,%.0f%n", size, intTime / (double) NUM_TRIALS,
+                        arrayTime / (double) NUM_TRIALS, linkedTime / (double) NUM_TRIALS);
+                // Use the checksum so the workload cannot be optimized away
+                assertEquals((long) NUM_TRIALS * size * (size - 1) / 2, checksum);
+            }
+        }
+
+        /**
+         * Returns the time to run the breadth-first-search-style workload on the given empty deque.
+         *
+         * @param deque the empty deque
+         * @param size  the number of vertex ids to add
+         * @return the runtime (nanoseconds)
+         */
+        private long time(Deque<Integer> deque, int size) {
+            long start = System.nanoTime();
+            for (int v = 0; v < size; v += 1) {
+                deque.addLast(v);
+                if (v % 2 == 1) {
+                    deque.removeFirst();
+                }
+            }
+            while (!deque.isEmpty()) {
+                deque.removeFirst();
+            }
+            return System.nanoTime() - start;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package deques;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link LockFreeDeque} class.
+ *
+ * @see LockFreeDeque
+ */
+public class LockFreeDequeTests extends DequeTests {
+    @Override
+    public <E> Deque<E> createDeque() {
+        return new LockFreeDeque<>();
+    }
+
+    @Test
+    void concurrentProducersAndConsumers() throws InterruptedException {
+        int numThreads = 4;
+        int perThread = 10000;
+        Deque<Integer> deque = createDeque();
+        Set<Integer> removed = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        AtomicInteger outOfOrder = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2 * numThreads);
+        for (int t = 0; t < numThreads; t += 1) {
+            int offset = t * perThread;
+            executor.execute(() -> {
+                for (int i = offset; i < offset + perThread; i += 1) {
+                    deque.addLast(i);
+                }
+            });
+            executor.execute(() -> {
+                // Elements from the same producer must be removed from the front in the order they were added
+                int[] last = new int[numThreads];
+                Arrays.fill(last, -1);
+                for (int i = 0; i < perThread; i += 1) {
+                    Integer element = deque.removeFirst();
+                    if (element == null) {
+                        // Producers have not caught up yet
+                        continue;
+                    }
+                    if (!removed.add(element)) {
+                        duplicates.incrementAndGet();
+                    }
+                    int producer = element / perThread;
+                    if (element <= last[producer]) {
+                        outOfOrder.incrementAndGet();
+                    }
+                    last[producer] = element;
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        List<Integer> rest = new ArrayList<>();
+        deque.drainTo(rest, Integer.MAX_VALUE);
+        for (int element : rest) {
+            if (!removed.add(element)) {
+                duplicates.incrementAndGet();
+            }
+        }
+        assertEquals(0, duplicates.get());
+        assertEquals(0, outOfOrder.get());
+        assertEquals(numThreads * perThread, removed.size());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    void concurrentOperationsAtBothEnds() throws InterruptedException {
+        int numThreads = 4;
+        int perThread = 10000;
+        Deque<Integer> deque = createDeque();
+        Set<Integer> removed = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(numThreads);
+        for (int t = 0; t < numThreads; t += 1) {
+            int offset = t * perThread;
+            // Each thread adds its own range of elements to random ends and removes from random ends
+            executor.execute(() -> {
+                Random random = new Random(offset);
+                for (int i = offset; i < offset + perThread; i += 1) {
+                    if (random.nextBoolean()) {
+                        deque.addFirst(i);
+                    } else {
+                        deque.addLast(i);
+                    }
+                    if (random.nextInt(3) == 0) {
+                        Integer element = random.nextBoolean() ? deque.removeFirst() : deque.removeLast();
+                        if (element != null && !removed.add(element)) {
+                            duplicates.incrementAndGet();
+                        }
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        assertEquals(numThreads * perThread - removed.size(), deque.size());
+        while (!deque.isEmpty()) {
+            if (!removed.add(deque.removeLast())) {
+                duplicates.incrementAndGet();
+            }
+        }
+        assertEquals(0, duplicates.get());
+        assertEquals(numThreads * perThread, removed.size());
+    }
+
+    @Test
+    void addNullThrowsException() {
+        Deque<String> deque = createDeque();
+        assertThrows(NullPointerException.class, () -> deque.addFirst(null));
+        assertThrows(NullPointerException.class, () -> deque.addLast(null));
+        assertTrue(deque.isEmpty());
+    }
+
+    @Nested
+    @Disabled
+    class ContentionExperiments {
+        /**
+         * Total number of operations split across all threads.
+         */
+        private static final int NUM_OPERATIONS = 1000000;
+        /**
+         * Maximum number of threads. Making this smaller means experiments run faster.
+         */
+        private static final int MAX_THREADS = 32;
+
+        /**
+         * Print the throughput for an increasing number of threads to share a work queue, with each thread
+         * alternating between adding an element to the back and removing an element from the front. The output is
+         * comma-separated with columns for the number of threads, {@link LockFreeDeque}, and an {@link ArrayDeque}
+         * guarded by a single lock (operations per second).
+         */
+        @Test
+        void addLastAndRemoveFirst() throws InterruptedException {
+            for (int numThreads = 1; numThreads <= MAX_THREADS; numThreads *= 2) {
+                System.out.print(numThreads);
+                System.out.print(',');
+                System.out.printf("%.0f", NUM_OPERATIONS / (time(numThreads, new LockFreeDeque<>(), false) / 1e9));
+                System.out.print(',');
+                System.out.printf("%.0f", NUM_OPERATIONS / (time(numThreads, new ArrayDeque<>(), true) / 1e9));
+                System.out.println();
+            }
+        }
+
+        /**
+         * Returns the time for the given number of threads to perform the workload on the deque.
+         *
+         * @param numThreads the number of threads
+         * @param deque      the shared deque
+         * @param locked     whether to make every operation on the deque mutually exclusive with a single lock
+         * @return the elapsed time (nanoseconds)
+         */
+        private long time(int numThreads, Deque<Integer> deque, boolean locked) throws InterruptedException {
+            Object lock = new Object();
+            int perThread = NUM_OPERATIONS / numThreads / 2;
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < numThreads; t += 1) {
+                int offset = t * perThread;
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = offset; i < offset + perThread; i += 1) {
+                        if (!locked) {
+                            deque.addLast(i);
+                            deque.removeFirst();
+                        } else {
+                            synchronized (lock) {
+                                deque.addLast(i);
+                            }
+                            synchronized (lock) {
+                                deque.removeFirst();
+                            }
+                        }
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            return System.nanoTime() - begin;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package deques;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link LongArrayDeque} class.
+ *
+ * @see LongArrayDeque
+ */
+public class LongArrayDequeTests {
+
+    @Test
+    void emptyOnConstruction() {
+        LongArrayDeque deque = new LongArrayDeque();
+        assertTrue(deque.isEmpty());
+        assertEquals(0, deque.size());
+        assertEquals("[]", deque.toString());
+        assertThrows(NoSuchElementException.class, deque::removeFirst);
+        assertThrows(NoSuchElementException.class, deque::removeLast);
+        assertThrows(IndexOutOfBoundsException.class, () -> deque.get(0));
+        assertThrows(IndexOutOfBoundsException.class, () -> deque.get(-1));
+    }
+
+    @Test
+    void confusingTest() {
+        LongArrayDeque deque = new LongArrayDeque();
+        deque.addFirst(0);
+        assertEquals(0, deque.get(0));
+        deque.addLast(1);
+        assertEquals(1, deque.get(1));
+        deque.addFirst(-1);
+        deque.addLast(2);
+        assertEquals(2, deque.get(3));
+        deque.addLast(3);
+        deque.addLast(4);
+        assertEquals(-1, deque.removeFirst());
+        deque.addFirst(-1);
+        assertEquals(-1, deque.get(0));
+        deque.addLast(5);
+        deque.addFirst(-2);
+        deque.addFirst(-3);
+        assertEquals("[-3, -2, -1, 0, 1, 2, 3, 4, 5]", deque.toString());
+        assertEquals(-3, deque.removeFirst());
+        assertEquals(5, deque.removeLast());
+        assertEquals(4, deque.removeLast());
+        assertEquals(3, deque.removeLast());
+        assertEquals(2, deque.removeLast());
+        assertEquals(1, deque.removeLast());
+        assertArrayEquals(new long[]{-2, -1, 0}, deque.toArray());
+    }
+
+    @Test
+    void randomTesting() {
+        java.util.Deque<Long> reference = new java.util.ArrayDeque<>();
+        LongArrayDeque testing = new LongArrayDeque();
+        Random random = new Random(373);
+        for (int i = 0; i < 100000; i += 1) {
+            // Bias towards adding for the first half and removing for the second half to grow and shrink the array
+            int operation = random.nextInt(i < 50000 ? 5 : 7);
+            long value = random.nextLong();
+            if (operation == 0) {
+                reference.addFirst(value);
+                testing.addFirst(value);
+            } else if (operation <= 2) {
+                reference.addLast(value);
+                testing.addLast(value);
+            } else if (reference.isEmpty()) {
+                assertThrows(NoSuchElementException.class, testing::removeFirst);
+            } else if (operation <= 4) {
+                assertEquals(reference.removeFirst(), testing.removeFirst());
+            } else {
+                assertEquals(reference.removeLast(), testing.removeLast());
+            }
+            assertEquals(reference.size(), testing.size());
+            if (!reference.isEmpty()) {
+                assertEquals(reference.getFirst(), testing.get(0));
+                assertEquals(reference.getLast(), testing.get(testing.size() - 1));
+            }
+        }
+        assertArrayEquals(reference.stream().mapToLong(Long::longValue).toArray(), testing.toArray());
+    }
+}
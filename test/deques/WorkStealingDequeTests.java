@@ -0,0 +1,281 @@
+package deques;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link WorkStealingDeque} class. Since it implements {@link WorkQueue} rather than {@link Deque}, these
+ * tests do not extend {@link DequeTests}.
+ *
+ * @see WorkStealingDeque
+ */
+public class WorkStealingDequeTests {
+
+    @Test
+    void emptyOnConstruction() {
+        WorkQueue<String> deque = new WorkStealingDeque<>();
+        assertTrue(deque.isEmpty());
+        assertNull(deque.get(0));
+        assertNull(deque.get(-1));
+        assertNull(deque.removeFirst());
+        assertNull(deque.removeLast());
+        assertEquals(0, deque.size());
+    }
+
+    @Test
+    void drainToRemovesFrontElements() {
+        WorkQueue<Integer> deque = new WorkStealingDeque<>();
+        for (int i = 0; i < 20; i += 1) {
+            deque.addLast(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(5, deque.drainTo(drained, 5));
+        assertEquals(List.of(0, 1, 2, 3, 4), drained);
+        assertEquals(19, deque.removeLast());
+        assertEquals(14, deque.drainTo(drained, Integer.MAX_VALUE));
+        assertEquals(0, deque.drainTo(drained, 1));
+        assertEquals(19, drained.size());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Test
+    void randomTesting() {
+        java.util.Deque<Integer> reference = new java.util.ArrayDeque<>();
+        WorkQueue<Integer> testing = new WorkStealingDeque<>();
+        Random random = new Random(373);
+        for (int i = 0; i < 100000; i += 1) {
+            // Bias towards adding for the first half and removing for the second half to grow the array
+            int operation = random.nextInt(i < 50000 ? 4 : 6);
+            if (operation <= 1) {
+                reference.addLast(i);
+                testing.addLast(i);
+            } else if (operation <= 3) {
+                assertEquals(reference.pollLast(), testing.removeLast());
+            } else {
+                assertEquals(reference.pollFirst(), testing.removeFirst());
+            }
+            assertEquals(reference.size(), testing.size());
+            if (!reference.isEmpty()) {
+                assertEquals(reference.getFirst(), testing.get(0));
+                assertEquals(reference.getLast(), testing.get(testing.size() - 1));
+                assertNull(testing.get(testing.size()));
+            }
+        }
+    }
+
+    @Test
+    void ownerAndThievesTakeEachElementOnce() throws InterruptedException {
+        int numThieves = 3;
+        int numElements = 200000;
+        WorkQueue<Integer> deque = new WorkStealingDeque<>();
+        AtomicIntegerArray taken = new AtomicIntegerArray(numElements);
+        AtomicInteger outOfOrder = new AtomicInteger();
+        AtomicBoolean done = new AtomicBoolean();
+        List<Thread> thieves = new ArrayList<>();
+        for (int t = 0; t < numThieves; t += 1) {
+            Thread thief = new Thread(() -> {
+                // Elements are stolen from the front, which only ever holds elements added earlier
+                int last = -1;
+                while (!done.get()) {
+                    Integer element = deque.removeFirst();
+                    if (element != null) {
+                        taken.incrementAndGet(element);
+                        if (element <= last) {
+                            outOfOrder.incrementAndGet();
+                        }
+                        last = element;
+                    }
+                }
+            });
+            thief.start();
+            thieves.add(thief);
+        }
+        // The owner adds every element and takes one back for every three added, contending for the last element
+        Random random = new Random(373);
+        for (int i = 0; i < numElements; i += 1) {
+            deque.addLast(i);
+            if (random.nextInt(3) == 0) {
+                Integer element = deque.removeLast();
+                if (element != null) {
+                    taken.incrementAndGet(element);
+                }
+            }
+        }
+        Integer element;
+        while ((element = deque.removeLast()) != null) {
+            taken.incrementAndGet(element);
+        }
+        done.set(true);
+        for (Thread thief : thieves) {
+            thief.join();
+        }
+        for (int i = 0; i < numElements; i += 1) {
+            assertEquals(1, taken.get(i), "element " + i);
+        }
+        assertEquals(0, outOfOrder.get());
+        assertTrue(deque.isEmpty());
+    }
+
+    @Nested
+    @Disabled
+    class ContentionExperiments {
+        /**
+         * Total number of elements added by the owner.
+         */
+        private static final int NUM_OPERATIONS = 1000000;
+        /**
+         * Maximum number of thieves. Making this smaller means experiments run faster.
+         */
+        private static final int MAX_THIEVES = 32;
+
+        /**
+         * Print the throughput for an owner thread that adds elements to the back and takes every other one back
+         * while an increasing number of thieves steal from the front. The output is comma-separated with columns for
+         * the number of thieves, {@link WorkStealingDeque}, {@link LockFreeDeque}, and an {@link ArrayDeque} guarded
+         * by a single lock (operations per second). Thieves only run in parallel with the owner on a machine with
+         * more than one core, so the number of available processors is printed first.
+         */
+        @Test
+        void ownerAndThieves() throws InterruptedException {
+            System.out.println("processors," + Runtime.getRuntime().availableProcessors());
+            for (int numThieves = 1; numThieves <= MAX_THIEVES; numThieves *= 2) {
+                System.out.print(numThieves);
+                System.out.print(',');
+                System.out.printf("%.0f", throughput(numThieves, new WorkStealingDeque<>(), false));
+                System.out.print(',');
+                System.out.printf("%.0f", throughput(numThieves, asWorkQueue(new LockFreeDeque<>()), false));
+                System.out.print(',');
+                System.out.printf("%.0f", throughput(numThieves, asWorkQueue(new ArrayDeque<>()), true));
+                System.out.println();
+            }
+        }
+
+        /**
+         * Returns the number of adds and removes per second for the owner and the given number of thieves to perform
+         * the workload on the deque.
+         *
+         * @param numThieves the number of thief threads
+         * @param deque      the shared work queue
+         * @param locked     whether to make every operation on the deque mutually exclusive with a single lock
+         * @return the throughput (operations per second)
+         */
+        private double throughput(int numThieves, WorkQueue<Integer> deque, boolean locked)
+                throws InterruptedException {
+            Object lock = new Object();
+            AtomicBoolean done = new AtomicBoolean();
+            AtomicInteger operations = new AtomicInteger(NUM_OPERATIONS);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> thieves = new ArrayList<>();
+            for (int t = 0; t < numThieves; t += 1) {
+                Thread thief = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    int stolen = 0;
+                    while (!done.get()) {
+                        Integer element;
+                        if (!locked) {
+                            element = deque.removeFirst();
+                        } else {
+                            synchronized (lock) {
+                                element = deque.removeFirst();
+                            }
+                        }
+                        if (element != null) {
+                            stolen += 1;
+                        }
+                    }
+                    operations.addAndGet(stolen);
+                });
+                thief.start();
+                thieves.add(thief);
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            int popped = 0;
+            for (int i = 0; i < NUM_OPERATIONS; i += 1) {
+                if (!locked) {
+                    deque.addLast(i);
+                    if (i % 2 == 1 && deque.removeLast() != null) {
+                        popped += 1;
+                    }
+                } else {
+                    synchronized (lock) {
+                        deque.addLast(i);
+                    }
+                    if (i % 2 == 1) {
+                        synchronized (lock) {
+                            if (deque.removeLast() != null) {
+                                popped += 1;
+                            }
+                        }
+                    }
+                }
+            }
+            // Wait for the thieves to take the rest, checking under the lock so the locked deque's size is visible
+            while (true) {
+                synchronized (lock) {
+                    if (deque.isEmpty()) {
+                        break;
+                    }
+                }
+                Thread.onSpinWait();
+            }
+            done.set(true);
+            for (Thread thief : thieves) {
+                thief.join();
+            }
+            long elapsed = System.nanoTime() - begin;
+            return (operations.get() + popped) / (elapsed / 1e9);
+        }
+
+        /**
+         * Returns a {@link WorkQueue} view of the given deque, so that deques can be measured with the same workload.
+         *
+         * @param deque the deque
+         * @param <E>   the type of elements in the deque
+         * @return a {@link WorkQueue} view of the deque
+         */
+        private static <E> WorkQueue<E> asWorkQueue(Deque<E> deque) {
+            return new WorkQueue<>() {
+                @Override
+                public void addLast(E element) {
+                    deque.addLast(element);
+                }
+
+                @Override
+                public E removeLast() {
+                    return deque.removeLast();
+                }
+
+                @Override
+                public E removeFirst() {
+                    return deque.removeFirst();
+                }
+
+                @Override
+                public E get(int index) {
+                    return deque.get(index);
+                }
+
+                @Override
+                public int size() {
+                    return deque.size();
+                }
+            };
+        }
+    }
+}
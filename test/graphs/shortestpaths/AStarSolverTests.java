@@ -0,0 +1,188 @@
+package graphs.shortestpaths;
+
+import graphs.AStarGraph;
+import graphs.Edge;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link AStarSolver} class on grid graphs where every edge weight is at least 1, so the Manhattan
+ * distance never overestimates.
+ *
+ * @see AStarSolver
+ */
+public class AStarSolverTests {
+    /**
+     * The number of vertices along each side of the grid.
+     */
+    private static final int SIDE = 50;
+
+    @Test
+    void matchesDijkstra() {
+        Random random = new Random(373);
+        Grid grid = new Grid(SIDE, random);
+        for (int i = 0; i < 20; i += 1) {
+            int start = random.nextInt(SIDE * SIDE);
+            int goal = random.nextInt(SIDE * SIDE);
+            double expected = grid.weight(new DijkstraSolver<>(grid, start).solution(goal));
+            AStarSolver<Integer> exhaustive = new AStarSolver<>(grid, start, goal);
+            AStarSolver<Integer> exact = new AStarSolver<>(grid, start, goal, 1.0, 0.0);
+            assertEquals(expected, grid.weight(exhaustive.solution()), 1e-9);
+            assertEquals(expected, grid.weight(exact.solution()), 1e-9);
+            assertEquals(1.0, exhaustive.suboptimalityBound());
+            assertEquals(1.0, exact.suboptimalityBound());
+            // Stopping at the goal can only remove fewer vertices from the perimeter
+            assertTrue(exact.expansions() <= exhaustive.expansions());
+        }
+    }
+
+    @Test
+    void withinSuboptimalityBound() {
+        Random random = new Random(373);
+        Grid grid = new Grid(SIDE, random);
+        for (int i = 0; i < 20; i += 1) {
+            int start = random.nextInt(SIDE * SIDE);
+            int goal = random.nextInt(SIDE * SIDE);
+            double shortest = grid.weight(new DijkstraSolver<>(grid, start).solution(goal));
+            for (double weight : new double[]{1.0, 1.5, 2.0, 5.0}) {
+                for (double epsilon : new double[]{0.0, 0.1, 0.5}) {
+                    AStarSolver<Integer> solver = new AStarSolver<>(grid, start, goal, weight, epsilon);
+                    List<Integer> path = solver.solution();
+                    assertEquals(start, path.getFirst());
+                    assertEquals(goal, path.getLast());
+                    assertEquals(weight * (1 + epsilon), solver.suboptimalityBound());
+                    assertTrue(grid.weight(path) <= shortest * solver.suboptimalityBound() + 1e-9,
+                            "weight " + weight + ", epsilon " + epsilon);
+                }
+            }
+        }
+    }
+
+    @Test
+    void invalidArguments() {
+        Grid grid = new Grid(2, new Random(373));
+        assertThrows(IllegalArgumentException.class, () -> new AStarSolver<>(grid, 0, 3, 0.5, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new AStarSolver<>(grid, 0, 3, Double.NaN, 0.0));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AStarSolver<>(grid, 0, 3, Double.POSITIVE_INFINITY, 0.0));
+        assertThrows(IllegalArgumentException.class, () -> new AStarSolver<>(grid, 0, 3, 1.0, -0.1));
+        assertThrows(IllegalArgumentException.class, () -> new AStarSolver<>(grid, 0, 3, 1.0, Double.NaN));
+    }
+
+    /**
+     * Grid graph where each vertex is connected to its horizontal and vertical neighbors, and the weight of an edge is
+     * a random value between 1 and 2 for the vertex it enters.
+     */
+    private static class Grid implements AStarGraph<Integer> {
+        private final int side;
+        private final double[] weights;
+
+        Grid(int side, Random random) {
+            this.side = side;
+            weights = new double[side * side];
+            for (int i = 0; i < weights.length; i += 1) {
+                weights[i] = 1.0 + random.nextDouble();
+            }
+        }
+
+        @Override
+        public List<Edge<Integer>> neighbors(Integer vertex) {
+            int x = vertex % side;
+            int y = vertex / side;
+            List<Edge<Integer>> result = new ArrayList<>(4);
+            if (x > 0) {
+                result.add(new Edge<>(vertex, vertex - 1, weights[vertex - 1]));
+            }
+            if (x < side - 1) {
+                result.add(new Edge<>(vertex, vertex + 1, weights[vertex + 1]));
+            }
+            if (y > 0) {
+                result.add(new Edge<>(vertex, vertex - side, weights[vertex - side]));
+            }
+            if (y < side - 1) {
+                result.add(new Edge<>(vertex, vertex + side, weights[vertex + side]));
+            }
+            return result;
+        }
+
+        @Override
+        public double estimatedDistance(Integer start, Integer end) {
+            return Math.abs(start % side - end % side) + Math.abs(start / side - end / side);
+        }
+
+        /**
+         * Returns the total weight of the edges along the given path.
+         *
+         * @param path the list of vertices.
+         * @return the total weight of the edges along the path.
+         */
+        double weight(List<Integer> path) {
+            double result = 0.0;
+            for (int i = 1; i < path.size(); i += 1) {
+                result += weights[path.get(i)];
+            }
+            return result;
+        }
+    }
+
+    @Nested
+    @Disabled
+    class RuntimeExperiments {
+        /**
+         * The number of random routes per configuration.
+         */
+        private static final int NUM_ROUTES = 100;
+
+        /**
+         * Print the number of expansions and the weight relative to a shortest path for random routes on a large
+         * grid, for increasing weights and epsilon values. The output is comma-separated with columns for the
+         * weight, epsilon, average number of expansions, percent of expansions saved compared to exact A* search
+         * that stops at the goal, average runtime (nanoseconds), average ratio to the shortest path weight, and the
+         * proven suboptimality bound.
+         */
+        @Test
+        void expansionsSaved() {
+            int side = 500;
+            Grid grid = new Grid(side, new Random(373));
+            int[][] routes = new int[NUM_ROUTES][];
+            Random random = new Random(373);
+            for (int i = 0; i < NUM_ROUTES; i += 1) {
+                routes[i] = new int[]{random.nextInt(side * side), random.nextInt(side * side)};
+            }
+            long exactExpansions = 0;
+            double[] shortest = new double[NUM_ROUTES];
+            for (int i = 0; i < NUM_ROUTES; i += 1) {
+                AStarSolver<Integer> solver = new AStarSolver<>(grid, routes[i][0], routes[i][1], 1.0, 0.0);
+                exactExpansions += solver.expansions();
+                shortest[i] = grid.weight(solver.solution());
+            }
+            for (double weight : new double[]{1.0, 1.2, 1.5, 2.0, 3.0}) {
+                for (double epsilon : new double[]{0.0, 0.05, 0.2}) {
+                    long expansions = 0;
+                    long totalTime = 0;
+                    double ratio = 0.0;
+                    double bound = 0.0;
+                    for (int i = 0; i < NUM_ROUTES; i += 1) {
+                        long start = System.nanoTime();
+                        AStarSolver<Integer> solver = new AStarSolver<>(grid, routes[i][0], routes[i][1], weight,
+                                epsilon);
+                        totalTime += System.nanoTime() - start;
+                        expansions += solver.expansions();
+                        ratio += shortest[i] == 0.0 ? 1.0 : grid.weight(solver.solution()) / shortest[i];
+                        bound = solver.suboptimalityBound();
+                    }
+                    System.out.printf("%.2f,%.2f,%.0f,%.1f,%.0f,%.4f,%.2f%n", weight, epsilon,
+                            expansions / (double) NUM_ROUTES, 100.0 * (1 - expansions / (double) exactExpansions),
+                            totalTime / (double) NUM_ROUTES, ratio / NUM_ROUTES, bound);
+                }
+            }
+        }
+    }
+}
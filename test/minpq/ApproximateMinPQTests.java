@@ -0,0 +1,98 @@
+package minpq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ApproximateMinPQ} class. Since {@link ApproximateMinPQ} does not always return the exact
+ * minimum, it does not extend {@link MinPQTests} but is instead checked against the relative error bound.
+ *
+ * @see ApproximateMinPQ
+ */
+public class ApproximateMinPQTests {
+
+    @Test
+    void emptyOnConstruction() {
+        MinPQ<String> testing = new ApproximateMinPQ<>();
+        assertTrue(testing.isEmpty());
+        assertEquals(0, testing.size());
+        assertFalse(testing.contains("a"));
+        assertThrows(NoSuchElementException.class, testing::peekMin);
+        assertThrows(NoSuchElementException.class, testing::removeMin);
+        assertThrows(NoSuchElementException.class, () -> testing.getPriority("a"));
+        assertThrows(NoSuchElementException.class, () -> testing.changePriority("a", 1.0));
+    }
+
+    @Test
+    void invalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new ApproximateMinPQ<>(0.0));
+        assertThrows(IllegalArgumentException.class, () -> new ApproximateMinPQ<>(-0.1));
+        assertThrows(IllegalArgumentException.class, () -> new ApproximateMinPQ<>(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> new ApproximateMinPQ<>(Double.POSITIVE_INFINITY));
+        MinPQ<String> testing = new ApproximateMinPQ<>();
+        assertThrows(IllegalArgumentException.class, () -> testing.add(null, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> testing.add("negative", -1.0));
+        assertThrows(IllegalArgumentException.class, () -> testing.add("nan", Double.NaN));
+        testing.add("a", 1.0);
+        assertThrows(IllegalArgumentException.class, () -> testing.add("a", 2.0));
+        assertThrows(IllegalArgumentException.class, () -> testing.changePriority("a", -1.0));
+        // A rejected change leaves the element in place
+        assertEquals(1.0, testing.getPriority("a"));
+        assertEquals("a", testing.removeMin());
+        assertTrue(testing.isEmpty());
+    }
+
+    @Test
+    void fifoWithinBucket() {
+        // 1.0, 1.05, and 1.09 share a bucket for epsilon 0.1, while 0.0 and 2.0 do not
+        MinPQ<String> testing = new ApproximateMinPQ<>(0.1);
+        testing.add("b", 1.05);
+        testing.add("c", 1.0);
+        testing.add("d", 2.0);
+        testing.add("a", 1.09);
+        testing.add("zero", 0.0);
+        testing.changePriority("b", 1.05);
+        assertEquals(List.of("zero", "c", "a", "b", "d"), testing.removeMin(5));
+    }
+
+    @Test
+    void withinRelativeError() {
+        for (double epsilon : new double[]{0.01, 0.1, 1.0}) {
+            Random random = new Random(373);
+            ApproximateMinPQ<Integer> testing = new ApproximateMinPQ<>(epsilon);
+            assertEquals(epsilon, testing.epsilon());
+            Map<Integer, Double> model = new HashMap<>();
+            for (int i = 0; i < 20000; i += 1) {
+                int element = random.nextInt(1000);
+                if (random.nextInt(3) == 0 && !model.isEmpty()) {
+                    double min = Collections.min(model.values());
+                    int removed = testing.removeMin();
+                    double priority = model.remove(removed);
+                    assertTrue(priority <= min * (1 + epsilon) * (1 + 1e-12),
+                            "removed " + priority + " but minimum was " + min);
+                } else {
+                    // Priority values across several orders of magnitude, including ties and 0
+                    double priority = random.nextInt(10) == 0 ? 0.0 : Math.pow(10, random.nextDouble() * 6);
+                    model.put(element, priority);
+                    testing.addOrChangePriority(element, priority);
+                }
+                assertEquals(model.size(), testing.size());
+                assertEquals(model.containsKey(element), testing.contains(element));
+                if (model.containsKey(element)) {
+                    assertEquals(model.get(element), testing.getPriority(element));
+                }
+            }
+        }
+    }
+
+    @Test
+    void constructFromMap() {
+        Map<String, Double> elementsAndPriorities = Map.of("a", 3.0, "b", 1.0, "c", 200.0);
+        MinPQ<String> testing = new ApproximateMinPQ<>(elementsAndPriorities);
+        assertEquals(3, testing.size());
+        assertEquals(List.of("b", "a", "c"), testing.removeMin(3));
+    }
+}
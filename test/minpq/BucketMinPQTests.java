@@ -0,0 +1,87 @@
+package minpq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link BucketMinPQ} class.
+ *
+ * @see BucketMinPQ
+ */
+public class BucketMinPQTests extends MonotoneMinPQTests {
+    @Override
+    public <E> MinPQ<E> createMinPQ() {
+        // Use fractional-width buckets and few initial buckets so that tests exercise scanning and growing
+        return new BucketMinPQ<>(0.5, 4);
+    }
+
+    @Test
+    void invalidBuckets() {
+        assertThrows(IllegalArgumentException.class, () -> new BucketMinPQ<>(0.0, 4));
+        assertThrows(IllegalArgumentException.class, () -> new BucketMinPQ<>(Double.POSITIVE_INFINITY, 4));
+        assertThrows(IllegalArgumentException.class, () -> new BucketMinPQ<>(1.0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new BucketMinPQ<>(1.0, Integer.MAX_VALUE));
+    }
+
+    @Test
+    void distantPriorityValues() {
+        MinPQ<String> pq = new BucketMinPQ<>();
+        // Far more buckets apart than the circular array can hold
+        pq.add("far", 1e9);
+        pq.add("near", 1.0);
+        pq.add("farthest", 1e15);
+        pq.add("infinite", Double.POSITIVE_INFINITY);
+        pq.add("farther", 1e12);
+        assertEquals("near", pq.removeMin());
+        pq.changePriority("farthest", 2e9);
+        pq.add("next", 5e8);
+        assertEquals("next", pq.removeMin());
+        assertEquals("far", pq.removeMin());
+        assertEquals("farthest", pq.removeMin());
+        assertEquals("farther", pq.removeMin());
+        assertThrows(IllegalArgumentException.class, () -> pq.add("earlier", 1e9));
+        assertEquals("infinite", pq.removeMin());
+        assertTrue(pq.isEmpty());
+    }
+
+    @Test
+    void randomMonotoneDistantPriorityValues() {
+        MinPQ<Integer> reference = new DoubleMapMinPQ<>();
+        MinPQ<Integer> testing = createMinPQ();
+        double last = 0.0;
+        Random random = new Random(373);
+        for (int i = 0; i < 20000; i += 1) {
+            if (random.nextInt(3) == 0 && !reference.isEmpty()) {
+                last = reference.getPriority(reference.peekMin());
+                assertEquals(reference.removeMin(), testing.removeMin());
+            } else {
+                // Mostly nearby priority values with occasional ones beyond the largest circular array
+                int element = random.nextInt(1000);
+                double spread = random.nextInt(10) == 0 ? 1e6 : 10;
+                double priority = last + random.nextDouble() * spread;
+                reference.addOrChangePriority(element, priority);
+                testing.addOrChangePriority(element, priority);
+            }
+            assertEquals(reference.size(), testing.size());
+        }
+        while (!reference.isEmpty()) {
+            assertEquals(reference.removeMin(), testing.removeMin());
+        }
+    }
+
+    @Test
+    void manyEqualPriorityValues() {
+        // Every element shares one bucket, which took quadratic time when each removal scanned the whole bucket
+        MinPQ<Integer> pq = createMinPQ();
+        int size = 200000;
+        for (int i = 0; i < size; i += 1) {
+            pq.add(i, 7.0);
+        }
+        for (int i = 0; i < size; i += 1) {
+            assertEquals(i, pq.removeMin());
+        }
+    }
+}
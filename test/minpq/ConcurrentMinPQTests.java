@@ -0,0 +1,158 @@
+package minpq;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ConcurrentMinPQ} class.
+ *
+ * @see ConcurrentMinPQ
+ */
+public class ConcurrentMinPQTests extends MinPQTests {
+    @Override
+    public <E> MinPQ<E> createMinPQ() {
+        return new ConcurrentMinPQ<>();
+    }
+
+    @Test
+    void concurrentProducersAndConsumers() throws InterruptedException {
+        int numThreads = 4;
+        int perThread = 10000;
+        MinPQ<Integer> pq = createMinPQ();
+        Set<Integer> removed = ConcurrentHashMap.newKeySet();
+        AtomicInteger duplicates = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(2 * numThreads);
+        for (int t = 0; t < numThreads; t += 1) {
+            int offset = t * perThread;
+            // Each producer adds its own range of elements and raises the priority of every other element
+            executor.execute(() -> {
+                Random random = new Random(offset);
+                for (int i = offset; i < offset + perThread; i += 1) {
+                    pq.add(i, random.nextDouble());
+                    if (i % 2 == 0) {
+                        try {
+                            pq.changePriority(i, random.nextDouble());
+                        } catch (NoSuchElementException e) {
+                            // A consumer already removed the element
+                        }
+                    }
+                }
+            });
+            executor.execute(() -> {
+                for (int i = 0; i < perThread; i += 1) {
+                    try {
+                        if (!removed.add(pq.removeMin())) {
+                            duplicates.incrementAndGet();
+                        }
+                    } catch (NoSuchElementException e) {
+                        // Producers have not caught up yet
+                    }
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        while (!pq.isEmpty()) {
+            if (!removed.add(pq.removeMin())) {
+                duplicates.incrementAndGet();
+            }
+        }
+        assertEquals(0, duplicates.get());
+        assertEquals(numThreads * perThread, removed.size());
+    }
+
+    @Test
+    void equalPrioritiesInInsertionOrder() {
+        MinPQ<String> pq = createMinPQ();
+        pq.add("a", 1.0);
+        pq.add("b", 1.0);
+        pq.add("c", 1.0);
+        pq.changePriority("a", 1.0);
+        assertEquals(List.of("b", "c", "a"), pq.removeMin(3));
+    }
+
+    @Nested
+    @Disabled
+    class ContentionExperiments {
+        /**
+         * Total number of operations split across all threads.
+         */
+        private static final int NUM_OPERATIONS = 1000000;
+        /**
+         * Maximum number of threads. Making this smaller means experiments run faster.
+         */
+        private static final int MAX_THREADS = 32;
+
+        /**
+         * Print the time for an increasing number of threads to share a queue, with each thread alternating between
+         * adding an element with a random priority value and removing the minimum element. The output is
+         * comma-separated with columns for the number of threads, {@link ConcurrentMinPQ}, and an
+         * {@link OptimizedHeapMinPQ} guarded by a single lock (nanoseconds).
+         */
+        @Test
+        void addAndRemoveMin() throws InterruptedException {
+            for (int numThreads = 1; numThreads <= MAX_THREADS; numThreads *= 2) {
+                System.out.print(numThreads);
+                System.out.print(',');
+                System.out.print(time(numThreads, new ConcurrentMinPQ<>(), false));
+                System.out.print(',');
+                System.out.print(time(numThreads, new OptimizedHeapMinPQ<>(), true));
+                System.out.println();
+            }
+        }
+
+        /**
+         * Returns the time for the given number of threads to perform the workload on the priority queue.
+         *
+         * @param numThreads the number of threads.
+         * @param pq         the shared priority queue.
+         * @param locked     whether to make every operation on the queue mutually exclusive with a single lock.
+         * @return the elapsed time (nanoseconds).
+         */
+        private long time(int numThreads, MinPQ<Integer> pq, boolean locked) throws InterruptedException {
+            Object lock = new Object();
+            int perThread = NUM_OPERATIONS / numThreads / 2;
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < numThreads; t += 1) {
+                int offset = t * perThread;
+                Thread thread = new Thread(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = offset; i < offset + perThread; i += 1) {
+                        if (!locked) {
+                            pq.add(i, random.nextDouble());
+                            pq.removeMin();
+                        } else {
+                            synchronized (lock) {
+                                pq.add(i, random.nextDouble());
+                            }
+                            synchronized (lock) {
+                                pq.removeMin();
+                            }
+                        }
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            long begin = System.nanoTime();
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            return System.nanoTime() - begin;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package minpq;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for the {@link DaryHeapMinPQ} class.
+ *
+ * @see DaryHeapMinPQ
+ */
+public class DaryHeapMinPQTests {
+
+    @Test
+    void arityAtLeastTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new DaryHeapMinPQ<>(1));
+    }
+
+    /**
+     * Tests using a binary heap.
+     */
+    @Nested
+    public class Binary extends MinPQTests {
+        @Override
+        public <E> MinPQ<E> createMinPQ() {
+            return new DaryHeapMinPQ<>(2);
+        }
+    }
+
+    /**
+     * Tests using a 4-ary heap.
+     */
+    @Nested
+    public class FourAry extends MinPQTests {
+        @Override
+        public <E> MinPQ<E> createMinPQ() {
+            return new DaryHeapMinPQ<>(4);
+        }
+    }
+
+    /**
+     * Tests using an 8-ary heap.
+     */
+    @Nested
+    public class EightAry extends MinPQTests {
+        @Override
+        public <E> MinPQ<E> createMinPQ() {
+            return new DaryHeapMinPQ<>(8);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package minpq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link DoubleMapMinPQ} class. Since {@link DoubleMapMinPQ} is the reference implementation for
+ * {@link MinPQTests}, it is also checked against a simple model built from {@link TreeMap} and {@link LinkedHashSet}.
+ *
+ * @see DoubleMapMinPQ
+ */
+public class DoubleMapMinPQTests extends MinPQTests {
+    @Override
+    public <E> MinPQ<E> createMinPQ() {
+        return new DoubleMapMinPQ<>();
+    }
+
+    @Override
+    public <E> MinPQ<E> createMinPQ(Map<E, Double> elementsAndPriorities) {
+        return new DoubleMapMinPQ<>(elementsAndPriorities);
+    }
+
+    @Test
+    void matchesTreeMapModel() {
+        // Few distinct priority values so that many elements share buckets, plus values that Double.compare orders
+        // differently from the < operator
+        double[] values = {-0.0, 0.0, -1.0, 1.0, Double.NaN, Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY,
+                Double.MIN_VALUE, -Double.MAX_VALUE, 2.5, 3.5, 4.5};
+        NavigableMap<Double, Set<Integer>> priorityToElements = new TreeMap<>();
+        Map<Integer, Double> elementToPriority = new HashMap<>();
+        MinPQ<Integer> testing = createMinPQ();
+        Random random = new Random(373);
+        for (int i = 0; i < 100000; i += 1) {
+            int operation = random.nextInt(3);
+            int element = random.nextInt(2000);
+            double priority = values[random.nextInt(values.length)];
+            if (operation == 0 && !elementToPriority.isEmpty()) {
+                Set<Integer> minElements = priorityToElements.firstEntry().getValue();
+                int removed = testing.removeMin();
+                assertEquals(minElements.iterator().next(), removed);
+                minElements.remove(removed);
+                if (minElements.isEmpty()) {
+                    priorityToElements.pollFirstEntry();
+                }
+                elementToPriority.remove(removed);
+            } else if (elementToPriority.containsKey(element)) {
+                // Changing to an equal priority value still moves the element behind its ties
+                double oldPriority = elementToPriority.get(element);
+                priorityToElements.get(oldPriority).remove(element);
+                if (priorityToElements.get(oldPriority).isEmpty()) {
+                    priorityToElements.remove(oldPriority);
+                }
+                priorityToElements.computeIfAbsent(priority, p -> new LinkedHashSet<>()).add(element);
+                elementToPriority.put(element, priority);
+                testing.changePriority(element, priority);
+            } else {
+                priorityToElements.computeIfAbsent(priority, p -> new LinkedHashSet<>()).add(element);
+                elementToPriority.put(element, priority);
+                testing.add(element, priority);
+            }
+            assertEquals(elementToPriority.size(), testing.size());
+            if (!elementToPriority.isEmpty()) {
+                assertEquals(priorityToElements.firstEntry().getValue().iterator().next(), testing.peekMin());
+            }
+            assertEquals(elementToPriority.containsKey(element), testing.contains(element));
+            if (elementToPriority.containsKey(element)) {
+                assertEquals(elementToPriority.get(element), testing.getPriority(element));
+            }
+        }
+    }
+
+    @Test
+    void manyUniquePriorities() {
+        // Enough elements to split tree nodes several levels deep and then remove every node
+        MinPQ<Integer> reference = new OptimizedHeapMinPQ<>();
+        MinPQ<Integer> testing = createMinPQ();
+        Random random = new Random(373);
+        for (int i = 0; i < 200000; i += 1) {
+            double priority = random.nextDouble() * 2 - 1;
+            reference.add(i, priority);
+            testing.add(i, priority);
+        }
+        for (int i = 0; i < 200000; i += 2) {
+            double priority = random.nextDouble() * 2 - 1;
+            reference.changePriority(i, priority);
+            testing.changePriority(i, priority);
+        }
+        while (!reference.isEmpty()) {
+            assertEquals(reference.removeMin(), testing.removeMin());
+        }
+        assertTrue(testing.isEmpty());
+        testing.add(-1, 0.0);
+        assertEquals(-1, testing.removeMin());
+    }
+
+    @Test
+    void nullElements() {
+        MinPQ<String> testing = createMinPQ();
+        assertThrows(IllegalArgumentException.class, () -> testing.add(null, 1.0));
+        assertFalse(testing.contains(null));
+        assertThrows(NoSuchElementException.class, () -> testing.getPriority(null));
+        assertThrows(NoSuchElementException.class, () -> testing.changePriority(null, 1.0));
+    }
+}
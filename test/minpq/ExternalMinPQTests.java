@@ -0,0 +1,293 @@
+package minpq;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.lang.ref.WeakReference;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link ExternalMinPQ} class. The buffer capacity is small so that every test spills runs to disk.
+ * Inherited tests that rely on finding elements by value are disabled, since this class only supports add and
+ * removeMin workloads.
+ *
+ * @see ExternalMinPQ
+ */
+public class ExternalMinPQTests extends MinPQTests {
+    /**
+     * The maximum number of elements to keep in memory.
+     */
+    private static final int BUFFER_CAPACITY = 16;
+    /**
+     * The {@link ExternalMinPQ.Codec} for integers, which avoids Java serialization.
+     */
+    private static final ExternalMinPQ.Codec<Integer> INTEGER_CODEC = new ExternalMinPQ.Codec<>() {
+        @Override
+        public void write(DataOutput out, Integer element) throws IOException {
+            out.writeInt(element);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    /**
+     * The {@link ExternalMinPQ.Codec} for strings, which avoids Java serialization.
+     */
+    private static final ExternalMinPQ.Codec<String> STRING_CODEC = new ExternalMinPQ.Codec<>() {
+        @Override
+        public void write(DataOutput out, String element) throws IOException {
+            out.writeUTF(element);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            return in.readUTF();
+        }
+    };
+
+    @TempDir
+    Path directory;
+
+    @Override
+    public <E> MinPQ<E> createMinPQ() {
+        return new ExternalMinPQ<>(directory, BUFFER_CAPACITY);
+    }
+
+    @Override
+    @Test
+    public void emptyOnConstruction() {
+        // Override this inherited test since contains is unsupported
+        MinPQ<String> testing = createMinPQ();
+        assertTrue(testing.isEmpty());
+        assertEquals(0, testing.size());
+        assertThrows(NoSuchElementException.class, testing::peekMin);
+        assertThrows(NoSuchElementException.class, testing::removeMin);
+    }
+
+    @Override
+    @Test
+    @Disabled("getPriority and changePriority are unsupported")
+    public void constructFromMap() {
+        super.constructFromMap();
+    }
+
+    @Override
+    @Test
+    @Disabled("contains, getPriority, and changePriority are unsupported")
+    public void randomTestingInt() {
+        super.randomTestingInt();
+    }
+
+    @Override
+    @Test
+    @Disabled("getPriority and changePriority are unsupported")
+    public void changePrioritiesMatchesChangePriority() {
+        super.changePrioritiesMatchesChangePriority();
+    }
+
+    @Override
+    @Test
+    @Disabled("changePriority is unsupported")
+    public void fifoTieBreakingAfterChangePriority() {
+        super.fifoTieBreakingAfterChangePriority();
+    }
+
+    @Override
+    @Test
+    @Disabled("contains, getPriority, and changePriority are unsupported")
+    public void invalidBatchChangesNothing() {
+        super.invalidBatchChangesNothing();
+    }
+
+    @Test
+    public void invalidBufferCapacity() {
+        assertThrows(IllegalArgumentException.class, () -> new ExternalMinPQ<String>(directory, 0));
+    }
+
+    @Test
+    public void unsupportedOperations() {
+        MinPQ<String> testing = createMinPQ();
+        testing.add("a", 1.0);
+        assertThrows(UnsupportedOperationException.class, () -> testing.contains("a"));
+        assertThrows(UnsupportedOperationException.class, () -> testing.getPriority("a"));
+        assertThrows(UnsupportedOperationException.class, () -> testing.changePriority("a", 2.0));
+        assertThrows(IllegalArgumentException.class, () -> testing.add(null, 1.0));
+        assertEquals("a", testing.removeMin());
+    }
+
+    @Test
+    public void lazyDeletionSkipsRemovedElements() {
+        ExternalMinPQ<Integer> testing = new ExternalMinPQ<>(directory, BUFFER_CAPACITY, INTEGER_CODEC);
+        Random random = new Random(373);
+        // Like a lazy-deletion search, add each element again whenever its priority value improves
+        Map<Integer, Double> best = new HashMap<>();
+        for (int i = 0; i < 20000; i += 1) {
+            int element = random.nextInt(2000);
+            double priority = random.nextInt(1000);
+            if (priority < best.getOrDefault(element, Double.POSITIVE_INFINITY)) {
+                best.put(element, priority);
+                testing.add(element, priority);
+            }
+        }
+        List<Integer> expected = new ArrayList<>(best.keySet());
+        expected.sort(Comparator.comparingDouble(best::get));
+        // The first entry removed for each element has its best priority value, and later entries are skipped
+        Set<Integer> removed = new HashSet<>();
+        List<Integer> result = new ArrayList<>();
+        while (!testing.isEmpty()) {
+            int element = testing.removeMin();
+            if (removed.add(element)) {
+                result.add(element);
+            }
+        }
+        assertEquals(expected.size(), result.size());
+        for (int i = 0; i < result.size(); i += 1) {
+            assertEquals(best.get(expected.get(i)), best.get(result.get(i)));
+        }
+    }
+
+    @Test
+    public void memoryBoundedByBufferAndRuns() {
+        int numElements = 20000;
+        ExternalMinPQ<String> testing = new ExternalMinPQ<>(directory, BUFFER_CAPACITY, STRING_CODEC);
+        List<WeakReference<String>> references = new ArrayList<>(numElements);
+        for (int i = 0; i < numElements; i += 1) {
+            String element = "element" + i;
+            references.add(new WeakReference<>(element));
+            testing.add(element, -i);
+        }
+        // Elements that were spilled to disk are no longer reachable from the priority queue
+        long reachable = numElements;
+        for (int i = 0; i < 10 && reachable > BUFFER_CAPACITY + testing.numRuns(); i += 1) {
+            System.gc();
+            reachable = references.stream().filter(reference -> reference.get() != null).count();
+        }
+        assertTrue(reachable <= BUFFER_CAPACITY + testing.numRuns(), "reachable: " + reachable);
+        assertEquals("element" + (numElements - 1), testing.removeMin());
+        assertEquals(numElements - 1, testing.size());
+    }
+
+    @Test
+    public void spillsAndMergesRuns(@TempDir Path runDirectory) throws IOException {
+        int numElements = 20000;
+        ExternalMinPQ<Integer> testing = new ExternalMinPQ<>(runDirectory, BUFFER_CAPACITY, INTEGER_CODEC);
+        MinPQ<Integer> reference = new DoubleMapMinPQ<>();
+        Random random = new Random(373);
+        int maxRuns = 0;
+        for (int i = 0; i < numElements; i += 1) {
+            double priority = random.nextDouble();
+            reference.add(i, priority);
+            testing.add(i, priority);
+            maxRuns = Math.max(maxRuns, testing.numRuns());
+        }
+        // Far more elements than the buffer capacity, but each of the 3 levels has fewer than FAN_IN runs after merging
+        assertTrue(maxRuns > 1);
+        assertTrue(maxRuns <= 3 * (ExternalMinPQ.FAN_IN - 1));
+        assertEquals(testing.numRuns(), countRunFiles(runDirectory));
+        while (!reference.isEmpty()) {
+            assertEquals(reference.peekMin(), testing.peekMin());
+            assertEquals(reference.removeMin(), testing.removeMin());
+            assertEquals(reference.size(), testing.size());
+        }
+        assertTrue(testing.isEmpty());
+        assertEquals(0, countRunFiles(runDirectory));
+    }
+
+    @Test
+    public void mergesRewriteEachEntryOncePerLevel() {
+        int numElements = 100000;
+        AtomicLong numWrites = new AtomicLong();
+        ExternalMinPQ<Integer> testing = new ExternalMinPQ<>(directory, BUFFER_CAPACITY, new ExternalMinPQ.Codec<>() {
+            @Override
+            public void write(DataOutput out, Integer element) throws IOException {
+                numWrites.incrementAndGet();
+                INTEGER_CODEC.write(out, element);
+            }
+
+            @Override
+            public Integer read(DataInput in) throws IOException {
+                return INTEGER_CODEC.read(in);
+            }
+        });
+        Random random = new Random(373);
+        double[] priorities = new double[numElements];
+        for (int i = 0; i < numElements; i += 1) {
+            priorities[i] = random.nextDouble();
+            testing.add(i, priorities[i]);
+        }
+        // 6250 spills with a fan-in of 16 need 3 levels of merges, so each entry is written at most 4 times, whereas
+        // merging every run into one whenever there are too many writes each entry about once per merge
+        assertTrue(numWrites.get() <= 4L * numElements, "writes: " + numWrites.get());
+        double last = Double.NEGATIVE_INFINITY;
+        while (!testing.isEmpty()) {
+            double priority = priorities[testing.removeMin()];
+            assertTrue(last <= priority);
+            last = priority;
+        }
+    }
+
+    @Test
+    public void interleavedAddAndRemoveMin() {
+        ExternalMinPQ<Integer> testing = new ExternalMinPQ<>(directory, BUFFER_CAPACITY, INTEGER_CODEC);
+        MinPQ<Integer> reference = new DoubleMapMinPQ<>();
+        Random random = new Random(373);
+        int next = 0;
+        double last = 0.0;
+        for (int i = 0; i < 20000; i += 1) {
+            if (random.nextInt(3) == 0 && !reference.isEmpty()) {
+                assertEquals(reference.removeMin(), testing.removeMin());
+            } else {
+                // Like a search frontier, new elements may have lesser priority values than elements on disk
+                double priority = last + random.nextDouble() * 10 - 5;
+                last = Math.max(last, priority);
+                reference.add(next, priority);
+                testing.add(next, priority);
+                next += 1;
+            }
+            assertEquals(reference.size(), testing.size());
+        }
+        while (!reference.isEmpty()) {
+            assertEquals(reference.removeMin(), testing.removeMin());
+        }
+        assertTrue(testing.isEmpty());
+    }
+
+    @Test
+    public void closeDeletesRunFiles(@TempDir Path runDirectory) throws IOException {
+        ExternalMinPQ<String> testing = new ExternalMinPQ<>(runDirectory, BUFFER_CAPACITY);
+        for (int i = 0; i < 10 * BUFFER_CAPACITY; i += 1) {
+            testing.add("element" + i, i);
+        }
+        assertTrue(countRunFiles(runDirectory) > 0);
+        testing.close();
+        assertTrue(testing.isEmpty());
+        assertEquals(0, testing.numRuns());
+        assertEquals(0, countRunFiles(runDirectory));
+    }
+
+    /**
+     * Returns the number of run files in the given directory.
+     *
+     * @param runDirectory the directory for run files.
+     * @return the number of run files in the directory.
+     * @throws IOException if the directory could not be listed.
+     */
+    private static long countRunFiles(Path runDirectory) throws IOException {
+        try (Stream<Path> files = Files.list(runDirectory)) {
+            return files.count();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package minpq;
+
+/**
+ * Tests for the {@link FibonacciHeapMinPQ} class.
+ *
+ * @see FibonacciHeapMinPQ
+ */
+public class FibonacciHeapMinPQTests extends MinPQTests {
+    @Override
+    public <E> MinPQ<E> createMinPQ() {
+        return new FibonacciHeapMinPQ<>();
+    }
+}
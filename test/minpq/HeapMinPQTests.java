@@ -1,5 +1,12 @@
 package minpq;
 
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 /**
  * Tests for the {@link HeapMinPQ} class.
  *
@@ -10,4 +17,29 @@ public class HeapMinPQTests extends MinPQTests {
     public <E> MinPQ<E> createMinPQ() {
         return new HeapMinPQ<>();
     }
+
+    @Override
+    public <E> MinPQ<E> createMinPQ(Map<E, Double> elementsAndPriorities) {
+        return new HeapMinPQ<>(elementsAndPriorities);
+    }
+
+    @Test
+    void repeatedChangePriority() {
+        MinPQ<String> testing = createMinPQ();
+        testing.add("a", 1.0);
+        testing.add("b", 2.0);
+        // Enough changes to leave many stale nodes behind and trigger a rebuild
+        for (int i = 0; i < 1000; i += 1) {
+            testing.changePriority("a", 3.0 + i);
+            testing.changePriority("b", 2.0 + i);
+        }
+        assertEquals(2, testing.size());
+        assertEquals(1002.0, testing.getPriority("a"));
+        assertEquals("b", testing.removeMin());
+        assertThrows(NoSuchElementException.class, () -> testing.getPriority("b"));
+        testing.add("b", 0.0);
+        assertEquals("b", testing.removeMin());
+        assertEquals("a", testing.removeMin());
+        assertTrue(testing.isEmpty());
+    }
 }
@@ -0,0 +1,112 @@
+package minpq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link InstrumentedMinPQ} class.
+ *
+ * @see InstrumentedMinPQ
+ */
+public class InstrumentedMinPQTests extends MinPQTests {
+    @Override
+    public <E> MinPQ<E> createMinPQ() {
+        return new InstrumentedMinPQ<>(new OptimizedHeapMinPQ<>(), new MinPQStats());
+    }
+
+    @Override
+    public <E> MinPQ<E> createMinPQ(Map<E, Double> elementsAndPriorities) {
+        return new InstrumentedMinPQ<>(elementsAndPriorities, new MinPQStats());
+    }
+
+    @Test
+    void countsOperations() {
+        MinPQStats stats = new MinPQStats();
+        MinPQ<String> testing = new InstrumentedMinPQ<>(new OptimizedHeapMinPQ<>(), stats);
+        testing.add("a", 3.0);
+        testing.add("b", 2.0);
+        testing.addOrChangePriority("c", 1.0);
+        testing.addOrChangePriority("a", 0.5);
+        assertEquals("a", testing.peekMin());
+        assertEquals(0.5, testing.getPriority("a"));
+        assertEquals("a", testing.removeMin());
+        assertEquals("c", testing.removeMin());
+
+        assertEquals(3, stats.count(MinPQStats.Operation.ADD));
+        assertEquals(1, stats.count(MinPQStats.Operation.CHANGE_PRIORITY));
+        assertEquals(2, stats.count(MinPQStats.Operation.CONTAINS));
+        assertEquals(1, stats.count(MinPQStats.Operation.PEEK_MIN));
+        assertEquals(1, stats.count(MinPQStats.Operation.GET_PRIORITY));
+        assertEquals(2, stats.count(MinPQStats.Operation.REMOVE_MIN));
+        assertEquals(3, stats.maxSize());
+    }
+
+    @Test
+    void sharedStatistics() {
+        MinPQStats stats = new MinPQStats();
+        for (int size = 1; size <= 3; size += 1) {
+            MinPQ<Integer> testing = new InstrumentedMinPQ<>(new DoubleMapMinPQ<>(), stats);
+            for (int i = 0; i < size; i += 1) {
+                testing.add(i, i);
+            }
+        }
+        assertEquals(6, stats.count(MinPQStats.Operation.ADD));
+        assertEquals(3, stats.maxSize());
+        assertTrue(stats.latencies(MinPQStats.Operation.ADD).max() > 0);
+        String metrics = stats.metrics();
+        assertTrue(metrics.contains("minpq_operations_total{operation=\"add\"} 6\n"));
+        assertTrue(metrics.contains("minpq_latency_nanoseconds{operation=\"add\",quantile=\"0.99\"} "));
+        assertTrue(metrics.contains("minpq_latency_nanoseconds_count{operation=\"add\"} 6\n"));
+        assertTrue(metrics.contains("minpq_latency_nanoseconds_sum{operation=\"add\"} "
+                + stats.latencies(MinPQStats.Operation.ADD).sum() + "\n"));
+        assertTrue(metrics.contains("minpq_max_size 3\n"));
+    }
+
+    @Test
+    void metricsUseAsciiDigitsInAnyLocale() {
+        Locale original = Locale.getDefault();
+        try {
+            // Thai digits replace 0-9 when formatting numbers in this locale
+            Locale.setDefault(Locale.forLanguageTag("th-TH-u-nu-thai"));
+            MinPQStats stats = new MinPQStats();
+            MinPQ<Integer> testing = new InstrumentedMinPQ<>(new DoubleMapMinPQ<>(), stats);
+            for (int i = 0; i < 12; i += 1) {
+                testing.add(i, i);
+            }
+            String metrics = stats.metrics();
+            assertTrue(metrics.contains("minpq_operations_total{operation=\"add\"} 12\n"));
+            assertTrue(metrics.contains("minpq_latency_nanoseconds_count{operation=\"add\"} 12\n"));
+            assertTrue(metrics.contains("minpq_max_size 12\n"));
+            assertTrue(metrics.chars().allMatch(c -> c < 128), metrics);
+        } finally {
+            Locale.setDefault(original);
+        }
+    }
+
+    @Test
+    void forwardsBatchOperations() {
+        MinPQStats stats = new MinPQStats();
+        MinPQ<String> testing = new InstrumentedMinPQ<>(new OptimizedHeapMinPQ<>(), stats);
+        testing.addAll(Map.of("a", 3.0, "b", 2.0, "c", 1.0));
+        testing.changePriorities(Map.of("a", 0.5, "c", 4.0));
+        List<String> drained = new ArrayList<>();
+        assertEquals(2, testing.drainTo(drained, 2));
+        assertEquals(List.of("a", "b"), drained);
+
+        // Each batch is one call to the wrapped priority queue rather than one call per element
+        assertEquals(1, stats.count(MinPQStats.Operation.ADD_ALL));
+        assertEquals(1, stats.count(MinPQStats.Operation.CHANGE_PRIORITIES));
+        assertEquals(1, stats.count(MinPQStats.Operation.DRAIN_TO));
+        assertEquals(0, stats.count(MinPQStats.Operation.ADD));
+        assertEquals(0, stats.count(MinPQStats.Operation.CONTAINS));
+        assertEquals(0, stats.count(MinPQStats.Operation.CHANGE_PRIORITY));
+        assertEquals(0, stats.count(MinPQStats.Operation.REMOVE_MIN));
+        assertEquals(3, stats.maxSize());
+    }
+}
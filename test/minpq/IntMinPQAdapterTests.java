@@ -0,0 +1,58 @@
+package minpq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link IntMinPQAdapter} class.
+ *
+ * @see IntMinPQAdapter
+ * @see IntMinPQ
+ */
+public class IntMinPQAdapterTests extends MinPQTests {
+    @Override
+    public <E> MinPQ<E> createMinPQ() {
+        return new IntMinPQAdapter<>();
+    }
+
+    @Test
+    void intMinPQBounds() {
+        IntMinPQ pq = new IntMinPQ(2);
+        pq.add(1, 5.0);
+        assertThrows(IllegalArgumentException.class, () -> pq.add(1, 3.0));
+        assertThrows(IllegalArgumentException.class, () -> pq.add(2, 3.0));
+        assertThrows(IllegalArgumentException.class, () -> pq.add(-1, 3.0));
+        assertThrows(NoSuchElementException.class, () -> pq.getPriority(0));
+        assertThrows(NoSuchElementException.class, () -> pq.changePriority(0, 1.0));
+        assertFalse(pq.contains(2));
+
+        pq.ensureCapacity(10);
+        assertTrue(pq.capacity() >= 10);
+        pq.add(9, 1.0);
+        assertEquals(9, pq.peekMin());
+        assertEquals(1.0, pq.getPriority(9));
+        assertEquals(5.0, pq.getPriority(1));
+    }
+
+    @Test
+    void intMinPQReusesRemovedElements() {
+        IntMinPQ pq = new IntMinPQ(4);
+        for (int i = 0; i < 4; i += 1) {
+            pq.add(i, 4 - i);
+        }
+        pq.changePriority(0, 0.5);
+        assertEquals(0, pq.removeMin());
+        pq.add(0, 10.0);
+        pq.addOrChangePriority(1, 0.0);
+        assertEquals(1, pq.removeMin());
+        assertEquals(3, pq.removeMin());
+        assertEquals(2, pq.removeMin());
+        assertEquals(0, pq.removeMin());
+        assertTrue(pq.isEmpty());
+        assertThrows(NoSuchElementException.class, pq::removeMin);
+        assertThrows(NoSuchElementException.class, pq::peekMin);
+    }
+}
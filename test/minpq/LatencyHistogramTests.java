@@ -0,0 +1,75 @@
+package minpq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link LatencyHistogram} class.
+ *
+ * @see LatencyHistogram
+ */
+public class LatencyHistogramTests {
+
+    @Test
+    void emptyOnConstruction() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertEquals(0, histogram.count());
+        assertEquals(0, histogram.max());
+        assertEquals(0.0, histogram.mean());
+        assertEquals(0, histogram.valueAtPercentile(99.0));
+    }
+
+    @Test
+    void smallValuesAreExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int value = 0; value < 10; value += 1) {
+            histogram.record(value);
+        }
+        assertEquals(10, histogram.count());
+        assertEquals(4.5, histogram.mean());
+        assertEquals(4, histogram.valueAtPercentile(50.0));
+        assertEquals(9, histogram.valueAtPercentile(100.0));
+        assertEquals(0, histogram.valueAtPercentile(0.0));
+    }
+
+    @Test
+    void percentilesWithinRelativeError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        Random random = new Random(373);
+        long[] values = new long[100000];
+        for (int i = 0; i < values.length; i += 1) {
+            // Log-uniform values from 1 nanosecond to about 1 second
+            values[i] = (long) Math.exp(random.nextDouble() * 21);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        assertEquals(values[values.length - 1], histogram.max());
+        for (double percentile : new double[]{1.0, 50.0, 90.0, 99.0, 99.9, 100.0}) {
+            long expected = values[(int) Math.ceil(percentile / 100.0 * values.length) - 1];
+            long actual = histogram.valueAtPercentile(percentile);
+            assertTrue(actual >= expected, "percentile = " + percentile);
+            assertTrue(actual <= expected + expected / 16, "percentile = " + percentile);
+        }
+    }
+
+    @Test
+    void largestValues() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(0, histogram.valueAtPercentile(50.0));
+        assertEquals(Long.MAX_VALUE, histogram.valueAtPercentile(100.0));
+    }
+
+    @Test
+    void invalidPercentile() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        assertThrows(IllegalArgumentException.class, () -> histogram.valueAtPercentile(-1.0));
+        assertThrows(IllegalArgumentException.class, () -> histogram.valueAtPercentile(100.5));
+        assertThrows(IllegalArgumentException.class, () -> histogram.valueAtPercentile(Double.NaN));
+    }
+}
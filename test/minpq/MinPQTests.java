@@ -1,10 +1,21 @@
 package minpq;
 
+import graphs.Edge;
+import graphs.Graph;
+import graphs.shortestpaths.DijkstraSolver;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance;
+import seamfinding.AdjacencyListSeamFinder;
+import seamfinding.Picture;
+import seamfinding.SeamFinder;
+import seamfinding.energy.DualGradientEnergyFunction;
+import seamfinding.energy.EnergyFunction;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.lang.management.ManagementFactory;
 import java.util.*;
 import java.util.Random;
 import java.util.Scanner;
@@ -25,6 +36,56 @@ public abstract class MinPQTests {
      */
     public abstract <E> MinPQ<E> createMinPQ();
 
+    /**
+     * Returns a {@link MinPQ} containing all the given elements and their priority values. Override this method to
+     * test an implementation's map constructor.
+     *
+     * @param elementsAndPriorities each element and its corresponding priority.
+     * @return a {@link MinPQ} containing all the given elements and their priority values.
+     */
+    public <E> MinPQ<E> createMinPQ(Map<E, Double> elementsAndPriorities) {
+        MinPQ<E> result = createMinPQ();
+        for (Map.Entry<E, Double> entry : elementsAndPriorities.entrySet()) {
+            result.add(entry.getKey(), entry.getValue());
+        }
+        return result;
+    }
+
+    @Test
+    public void emptyOnConstruction() {
+        MinPQ<String> testing = createMinPQ();
+        assertTrue(testing.isEmpty());
+        assertEquals(0, testing.size());
+        assertFalse(testing.contains("a"));
+        assertThrows(NoSuchElementException.class, testing::peekMin);
+        assertThrows(NoSuchElementException.class, testing::removeMin);
+    }
+
+    @Test
+    public void constructFromMap() {
+        Map<Integer, Double> elementsAndPriorities = new HashMap<>();
+        Random random = new Random(373);
+        for (int i = 0; i < 1000; i += 1) {
+            elementsAndPriorities.put(i, random.nextDouble());
+        }
+        MinPQ<Integer> reference = new DoubleMapMinPQ<>(elementsAndPriorities);
+        MinPQ<Integer> testing = createMinPQ(elementsAndPriorities);
+        assertEquals(reference.size(), testing.size());
+        for (int i = 0; i < 1000; i += 1) {
+            assertEquals(reference.getPriority(i), testing.getPriority(i));
+        }
+        // Change some priority values to check that the constructed instance also supports later operations
+        for (int i = 0; i < 1000; i += 10) {
+            double priority = random.nextDouble();
+            reference.changePriority(i, priority);
+            testing.changePriority(i, priority);
+        }
+        while (!reference.isEmpty()) {
+            assertEquals(reference.removeMin(), testing.removeMin());
+        }
+        assertTrue(testing.isEmpty());
+    }
+
     @Test
     public void wcagIndexAsPriority() throws FileNotFoundException {
         File inputFile = new File("data/wcag.tsv");
@@ -126,6 +187,145 @@ public abstract class MinPQTests {
         }
     }
 
+    @Test
+    public void addAllMatchesAdd() {
+        Random random = new Random(373);
+        // Batches smaller and larger than the existing elements, so that implementations can use different strategies
+        for (int batchSize : new int[]{0, 1, 10, 1000, 5000}) {
+            MinPQ<Integer> reference = new DoubleMapMinPQ<>();
+            MinPQ<Integer> testing = createMinPQ();
+            for (int i = 0; i < 1000; i += 1) {
+                double priority = random.nextDouble();
+                reference.add(i, priority);
+                testing.add(i, priority);
+            }
+            Map<Integer, Double> batch = new HashMap<>();
+            for (int i = 1000; i < 1000 + batchSize; i += 1) {
+                batch.put(i, random.nextDouble());
+            }
+            reference.addAll(batch);
+            testing.addAll(batch);
+            assertEquals(reference.size(), testing.size(), "batchSize = " + batchSize);
+            while (!reference.isEmpty()) {
+                assertEquals(reference.removeMin(), testing.removeMin(), "batchSize = " + batchSize);
+            }
+            assertTrue(testing.isEmpty());
+        }
+    }
+
+    @Test
+    public void changePrioritiesMatchesChangePriority() {
+        Random random = new Random(373);
+        for (int batchSize : new int[]{0, 1, 10, 500, 1000}) {
+            MinPQ<Integer> reference = new DoubleMapMinPQ<>();
+            MinPQ<Integer> testing = createMinPQ();
+            for (int i = 0; i < 1000; i += 1) {
+                double priority = random.nextDouble();
+                reference.add(i, priority);
+                testing.add(i, priority);
+            }
+            Map<Integer, Double> batch = new HashMap<>();
+            while (batch.size() < batchSize) {
+                batch.put(random.nextInt(1000), random.nextDouble());
+            }
+            reference.changePriorities(batch);
+            testing.changePriorities(batch);
+            for (Map.Entry<Integer, Double> entry : batch.entrySet()) {
+                assertEquals(entry.getValue(), testing.getPriority(entry.getKey()));
+            }
+            while (!reference.isEmpty()) {
+                assertEquals(reference.removeMin(), testing.removeMin(), "batchSize = " + batchSize);
+            }
+            assertTrue(testing.isEmpty());
+        }
+    }
+
+    @Test
+    public void invalidBatchChangesNothing() {
+        for (int batchSize : new int[]{1, 10, 1000}) {
+            MinPQ<Integer> testing = createMinPQ();
+            testing.add(-1, 0.5);
+            Map<Integer, Double> batch = new HashMap<>();
+            for (int i = 0; i < batchSize; i += 1) {
+                batch.put(i, 1.0);
+            }
+            // The last element in the batch is not present, so no priority values change
+            assertThrows(NoSuchElementException.class, () -> testing.changePriorities(batch));
+            assertEquals(0.5, testing.getPriority(-1));
+            // The first element in the batch is already present, so no elements are added
+            batch.put(-1, 2.0);
+            assertThrows(IllegalArgumentException.class, () -> testing.addAll(batch));
+            assertEquals(1, testing.size());
+            assertFalse(testing.contains(0));
+            assertEquals(0.5, testing.getPriority(-1));
+        }
+    }
+
+    @Test
+    public void drainTo() {
+        MinPQ<Integer> reference = new DoubleMapMinPQ<>();
+        MinPQ<Integer> testing = createMinPQ();
+        Random random = new Random(373);
+        for (int i = 0; i < 100; i += 1) {
+            double priority = random.nextDouble();
+            reference.add(i, priority);
+            testing.add(i, priority);
+        }
+        List<Integer> drained = new ArrayList<>();
+        assertEquals(0, testing.drainTo(drained, 0));
+        assertEquals(10, testing.drainTo(drained, 10));
+        assertEquals(reference.removeMin(10), drained);
+        assertEquals(90, testing.size());
+        assertEquals(90, testing.drainTo(drained, 1000));
+        assertEquals(100, drained.size());
+        assertEquals(reference.removeMin(90), drained.subList(10, 100));
+        assertTrue(testing.isEmpty());
+        assertEquals(0, testing.drainTo(drained, 10));
+    }
+
+    @Test
+    public void fifoTieBreaking() {
+        // Few distinct non-negative priority values so that most elements are tied, valid for monotone workloads too
+        Random random = new Random(373);
+        MinPQ<Integer> testing = createMinPQ();
+        List<Integer> expected = new ArrayList<>();
+        double[] priorities = new double[1000];
+        for (int i = 0; i < priorities.length; i += 1) {
+            priorities[i] = random.nextInt(5);
+            testing.add(i, priorities[i]);
+            expected.add(i);
+        }
+        // A stable sort keeps tied elements in the order they were added
+        expected.sort(Comparator.comparingDouble(i -> priorities[i]));
+        assertEquals(expected, testing.removeMin(priorities.length));
+        assertTrue(testing.isEmpty());
+    }
+
+    @Test
+    public void fifoTieBreakingAfterChangePriority() {
+        Random random = new Random(373);
+        MinPQ<Integer> testing = createMinPQ();
+        // Model of the current priority value of each element, in the order they were added or last changed
+        Map<Integer, Double> model = new LinkedHashMap<>();
+        for (int i = 0; i < 1000; i += 1) {
+            double priority = random.nextInt(5);
+            testing.add(i, priority);
+            model.put(i, priority);
+        }
+        for (int i = 0; i < 1000; i += 1) {
+            int element = random.nextInt(1000);
+            // Include unchanged priority values, which still move the element behind its ties
+            double priority = random.nextInt(5);
+            testing.changePriority(element, priority);
+            model.remove(element);
+            model.put(element, priority);
+        }
+        List<Integer> expected = new ArrayList<>(model.keySet());
+        expected.sort(Comparator.comparingDouble(model::get));
+        assertEquals(expected, testing.removeMin(expected.size()));
+        assertTrue(testing.isEmpty());
+    }
+
     // Random Testing
     @Test
     public void randomTest() throws FileNotFoundException {
@@ -201,4 +401,403 @@ public abstract class MinPQTests {
         }
     }
 
+    @Nested
+    @Disabled
+    class RuntimeExperiments {
+        /**
+         * Maximum grid and image dimensions. Making this smaller means experiments run faster.
+         */
+        private static final int MAX_SIZE = 500;
+        /**
+         * Step size increment. Making this smaller means experiments run slower.
+         */
+        private static final int STEP = 50;
+        /**
+         * Number of trials per size. Making this smaller means experiments run faster.
+         */
+        private static final int NUM_TRIALS = 10;
+
+        /**
+         * Print the average time for {@link DijkstraSolver} to find all shortest paths from the corner of a square grid
+         * graph with random edge weights, standing in for a road network. The output is comma-separated with columns
+         * for the grid side length and the average runtime (nanoseconds).
+         */
+        @Test
+        void gridDijkstra() {
+            Random random = new Random(373);
+            for (int size = STEP; size <= MAX_SIZE; size += STEP) {
+                Graph<Integer> graph = randomGrid(size, random);
+                long totalTime = 0;
+                for (int i = 0; i < NUM_TRIALS; i += 1) {
+                    long start = System.nanoTime();
+                    new DijkstraSolver<>(graph, 0, createMinPQ());
+                    totalTime += System.nanoTime() - start;
+                }
+                System.out.print(size);
+                System.out.print(',');
+                System.out.printf("%.0f", totalTime / (double) NUM_TRIALS);
+                System.out.println();
+            }
+        }
+
+        /**
+         * Print the average time to add elements with random priority values, decrease the priority values of random
+         * elements, and remove them all, for an increasing number of decrease-key operations per element. The output
+         * is comma-separated with columns for the number of decrease-key operations per element and the average
+         * runtime (nanoseconds).
+         */
+        @Test
+        void decreaseKeyHeavy() {
+            int size = 100000;
+            for (int changes = 0; changes <= 32; changes = Math.max(1, changes * 2)) {
+                long totalTime = 0;
+                for (int i = 0; i < NUM_TRIALS; i += 1) {
+                    Random random = new Random(373);
+                    MinPQ<Integer> pq = createMinPQ();
+                    long start = System.nanoTime();
+                    for (int e = 0; e < size; e += 1) {
+                        pq.add(e, random.nextDouble());
+                    }
+                    for (int j = 0; j < changes * size; j += 1) {
+                        int e = random.nextInt(size);
+                        pq.changePriority(e, pq.getPriority(e) * random.nextDouble());
+                    }
+                    while (!pq.isEmpty()) {
+                        pq.removeMin();
+                    }
+                    totalTime += System.nanoTime() - start;
+                }
+                System.out.print(changes);
+                System.out.print(',');
+                System.out.printf("%.0f", totalTime / (double) NUM_TRIALS);
+                System.out.println();
+            }
+        }
+
+        /**
+         * Print the average time for an {@link AdjacencyListSeamFinder} using {@link DijkstraSolver} to find a
+         * horizontal seam in a square picture filled with random colors. The output is comma-separated with columns for
+         * the picture side length and the average runtime (nanoseconds).
+         */
+        @Test
+        void seamCarving() {
+            SeamFinder seamFinder = new AdjacencyListSeamFinder((graph, start) ->
+                    new DijkstraSolver<>(graph, start, createMinPQ()));
+            EnergyFunction f = new DualGradientEnergyFunction();
+            Random random = new Random(373);
+            for (int size = STEP; size <= MAX_SIZE; size += STEP) {
+                Picture picture = new Picture(size, size);
+                for (int x = 0; x < size; x += 1) {
+                    for (int y = 0; y < size; y += 1) {
+                        picture.set(x, y, random.nextInt(1 << 24));
+                    }
+                }
+                long totalTime = 0;
+                for (int i = 0; i < NUM_TRIALS; i += 1) {
+                    long start = System.nanoTime();
+                    seamFinder.findHorizontal(picture, f);
+                    totalTime += System.nanoTime() - start;
+                }
+                System.out.print(size);
+                System.out.print(',');
+                System.out.printf("%.0f", totalTime / (double) NUM_TRIALS);
+                System.out.println();
+            }
+        }
+
+        /**
+         * Maximum number of elements for the workload experiments, which start at 1000 and grow by a factor of 10.
+         * Raise this to 10000000 when running with a large enough heap.
+         */
+        private static final int MAX_ELEMENTS = 1000000;
+        /**
+         * Number of elements removed by each call to {@link MinPQ#removeMin(int)} in the removeMin(k) experiment.
+         */
+        private static final int K = 10;
+
+        /**
+         * Print throughput, allocation rate, and p99 latency for adding elements with random priority values and then
+         * removing them all.
+         *
+         * @see #printWorkload(int, Trace)
+         */
+        @Test
+        void addHeavy() {
+            for (int size = 1000; size <= MAX_ELEMENTS; size *= 10) {
+                Random random = new Random(373);
+                Trace trace = new Trace();
+                for (int e = 0; e < size; e += 1) {
+                    trace.add(e, random.nextDouble());
+                }
+                for (int e = 0; e < size; e += 1) {
+                    trace.removeMin();
+                }
+                printWorkload(size, trace);
+            }
+        }
+
+        /**
+         * Print throughput, allocation rate, and p99 latency for replaying the priority queue operations recorded from
+         * a {@link DijkstraSolver} run on a random grid graph with about the given number of vertices, a decrease-key
+         * heavy workload.
+         *
+         * @see #printWorkload(int, Trace)
+         */
+        @Test
+        void dijkstraTrace() {
+            for (int size = 1000; size <= MAX_ELEMENTS; size *= 10) {
+                Random random = new Random(373);
+                int side = (int) Math.sqrt(size);
+                Trace trace = new Trace();
+                new DijkstraSolver<>(randomGrid(side, random), 0, trace.recorder());
+                printWorkload(side * side, trace);
+            }
+        }
+
+        /**
+         * Print throughput, allocation rate, and p99 latency for adding elements whose priority values are drawn from
+         * only 16 distinct values and then removing them all.
+         *
+         * @see #printWorkload(int, Trace)
+         */
+        @Test
+        void duplicatePriorities() {
+            for (int size = 1000; size <= MAX_ELEMENTS; size *= 10) {
+                Random random = new Random(373);
+                Trace trace = new Trace();
+                for (int e = 0; e < size; e += 1) {
+                    trace.add(e, random.nextInt(16));
+                }
+                for (int e = 0; e < size; e += 1) {
+                    trace.removeMin();
+                }
+                printWorkload(size, trace);
+            }
+        }
+
+        /**
+         * Print throughput, allocation rate, and p99 latency for adding elements with random priority values and then
+         * removing them {@link #K} at a time with {@link MinPQ#removeMin(int)}. Each removeMin(k) counts as one
+         * operation.
+         *
+         * @see #printWorkload(int, Trace)
+         */
+        @Test
+        void removeMinK() {
+            for (int size = 1000; size <= MAX_ELEMENTS; size *= 10) {
+                Random random = new Random(373);
+                Trace trace = new Trace();
+                for (int e = 0; e < size; e += 1) {
+                    trace.add(e, random.nextDouble());
+                }
+                for (int e = 0; e < size; e += K) {
+                    trace.removeMin(K);
+                }
+                printWorkload(size, trace);
+            }
+        }
+
+        /**
+         * Replays the trace on a new {@link MinPQ} for each trial and prints the results. The output is
+         * comma-separated with columns for the number of elements, the average throughput (operations per second),
+         * the average allocation rate (bytes per operation), and the average p99 operation latency (nanoseconds).
+         * Throughput and allocation are measured without timing individual operations, and latency is measured in a
+         * separate replay since calling {@link System#nanoTime()} around every operation adds its own overhead.
+         *
+         * @param size  the number of elements.
+         * @param trace the operations to replay.
+         */
+        private void printWorkload(int size, Trace trace) {
+            com.sun.management.ThreadMXBean threads =
+                    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            long[] latencies = new long[trace.size()];
+            long totalTime = 0;
+            long totalBytes = 0;
+            long totalP99 = 0;
+            for (int i = 0; i < NUM_TRIALS; i += 1) {
+                MinPQ<Integer> pq = createMinPQ();
+                long bytes = threads.getCurrentThreadAllocatedBytes();
+                long start = System.nanoTime();
+                trace.replay(pq, null);
+                totalTime += System.nanoTime() - start;
+                totalBytes += threads.getCurrentThreadAllocatedBytes() - bytes;
+
+                trace.replay(createMinPQ(), latencies);
+                Arrays.sort(latencies);
+                totalP99 += latencies[(int) (0.99 * (latencies.length - 1))];
+            }
+            double operations = (double) trace.size() * NUM_TRIALS;
+            System.out.print(size);
+            System.out.print(',');
+            System.out.printf("%.0f", operations / (totalTime / 1e9));
+            System.out.print(',');
+            System.out.printf("%.1f", totalBytes / operations);
+            System.out.print(',');
+            System.out.printf("%.0f", totalP99 / (double) NUM_TRIALS);
+            System.out.println();
+        }
+
+        /**
+         * Returns a square grid graph where each vertex is connected to its horizontal and vertical neighbors, and the
+         * weight of each edge is a random weight assigned to the vertex it enters.
+         *
+         * @param size   the side length of the grid.
+         * @param random the source of randomness.
+         * @return a square grid graph with vertices numbered 0 (inclusive) to size * size (exclusive) by row.
+         */
+        private Graph<Integer> randomGrid(int size, Random random) {
+            double[] weights = new double[size * size];
+            for (int i = 0; i < weights.length; i += 1) {
+                weights[i] = 1.0 + random.nextDouble();
+            }
+            return vertex -> {
+                int x = vertex % size;
+                int y = vertex / size;
+                List<Edge<Integer>> result = new ArrayList<>(4);
+                if (x > 0) {
+                    result.add(new Edge<>(vertex, vertex - 1, weights[vertex - 1]));
+                }
+                if (x < size - 1) {
+                    result.add(new Edge<>(vertex, vertex + 1, weights[vertex + 1]));
+                }
+                if (y > 0) {
+                    result.add(new Edge<>(vertex, vertex - size, weights[vertex - size]));
+                }
+                if (y < size - 1) {
+                    result.add(new Edge<>(vertex, vertex + size, weights[vertex + size]));
+                }
+                return result;
+            };
+        }
+    }
+
+    /**
+     * Sequence of {@link MinPQ} operations on integer elements stored in parallel arrays, so that the same workload
+     * can be replayed on each implementation without generating it again.
+     */
+    static class Trace {
+        private static final byte ADD = 0;
+        private static final byte CHANGE_PRIORITY = 1;
+        private static final byte REMOVE_MIN = 2;
+        private static final byte REMOVE_MIN_K = 3;
+        /**
+         * The kind of each operation.
+         */
+        private byte[] kinds = new byte[16];
+        /**
+         * The element of each operation, or the number of elements for removeMin(k).
+         */
+        private int[] elements = new int[16];
+        /**
+         * The priority value of each operation.
+         */
+        private double[] priorities = new double[16];
+        /**
+         * The number of operations.
+         */
+        private int size = 0;
+
+        int size() {
+            return size;
+        }
+
+        void add(int element, double priority) {
+            append(ADD, element, priority);
+        }
+
+        void changePriority(int element, double priority) {
+            append(CHANGE_PRIORITY, element, priority);
+        }
+
+        void removeMin() {
+            append(REMOVE_MIN, 0, 0.0);
+        }
+
+        void removeMin(int numElements) {
+            append(REMOVE_MIN_K, numElements, 0.0);
+        }
+
+        /**
+         * Returns an empty {@link MinPQ} that records each add, changePriority, and removeMin to this trace. Queries
+         * are answered but not recorded, so addOrChangePriority is recorded as whichever operation it resolves to.
+         *
+         * @return an empty {@link MinPQ} that records its operations to this trace.
+         */
+        MinPQ<Integer> recorder() {
+            MinPQ<Integer> pq = new OptimizedHeapMinPQ<>();
+            return new MinPQ<>() {
+                @Override
+                public void add(Integer element, double priority) {
+                    pq.add(element, priority);
+                    Trace.this.add(element, priority);
+                }
+
+                @Override
+                public boolean contains(Integer element) {
+                    return pq.contains(element);
+                }
+
+                @Override
+                public double getPriority(Integer element) {
+                    return pq.getPriority(element);
+                }
+
+                @Override
+                public Integer peekMin() {
+                    return pq.peekMin();
+                }
+
+                @Override
+                public Integer removeMin() {
+                    Trace.this.removeMin();
+                    return pq.removeMin();
+                }
+
+                @Override
+                public void changePriority(Integer element, double priority) {
+                    pq.changePriority(element, priority);
+                    Trace.this.changePriority(element, priority);
+                }
+
+                @Override
+                public int size() {
+                    return pq.size();
+                }
+            };
+        }
+
+        /**
+         * Replays every operation on the given priority queue.
+         *
+         * @param pq        the priority queue.
+         * @param latencies the array to fill with the runtime of each operation (nanoseconds), or null to skip
+         *                  timing individual operations.
+         */
+        void replay(MinPQ<Integer> pq, long[] latencies) {
+            for (int i = 0; i < size; i += 1) {
+                long start = latencies == null ? 0 : System.nanoTime();
+                switch (kinds[i]) {
+                    case ADD -> pq.add(elements[i], priorities[i]);
+                    case CHANGE_PRIORITY -> pq.changePriority(elements[i], priorities[i]);
+                    case REMOVE_MIN -> pq.removeMin();
+                    default -> pq.removeMin(elements[i]);
+                }
+                if (latencies != null) {
+                    latencies[i] = System.nanoTime() - start;
+                }
+            }
+        }
+
+        private void append(byte kind, int element, double priority) {
+            if (size == kinds.length) {
+                kinds = Arrays.copyOf(kinds, size * 2);
+                elements = Arrays.copyOf(elements, size * 2);
+                priorities = Arrays.copyOf(priorities, size * 2);
+            }
+            kinds[size] = kind;
+            elements[size] = element;
+            priorities[size] = priority;
+            size += 1;
+        }
+    }
 }
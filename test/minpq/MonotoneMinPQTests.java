@@ -0,0 +1,67 @@
+package minpq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Abstract class providing test cases for {@link MinPQ} implementations that only support monotone workloads, where
+ * priority values are non-negative and never less than the priority value of the last removed element.
+ *
+ * @see RadixHeapMinPQ
+ * @see BucketMinPQ
+ */
+public abstract class MonotoneMinPQTests extends MinPQTests {
+
+    @Override
+    public void randomTestingInt() {
+        // Disable this inherited test since it changes priority values below the last removed priority value
+    }
+
+    @Test
+    public void randomMonotone() {
+        MinPQ<Integer> reference = new DoubleMapMinPQ<>();
+        MinPQ<Integer> testing = createMinPQ();
+
+        int iterations = 20000;
+        int maxElement = 1000;
+        double last = 0.0;
+        Random random = new Random(373);
+        for (int i = 0; i < iterations; i += 1) {
+            if (random.nextInt(3) == 0 && !reference.isEmpty()) {
+                last = reference.getPriority(reference.peekMin());
+                assertEquals(last, testing.getPriority(testing.peekMin()));
+                assertEquals(reference.removeMin(), testing.removeMin());
+            } else {
+                // Like Dijkstra's algorithm, only assign priority values at or above the last removed priority value
+                int element = random.nextInt(maxElement);
+                double priority = last + random.nextDouble() * 10;
+                reference.addOrChangePriority(element, priority);
+                testing.addOrChangePriority(element, priority);
+            }
+            assertEquals(reference.size(), testing.size());
+        }
+        while (!reference.isEmpty()) {
+            assertEquals(reference.removeMin(), testing.removeMin());
+        }
+        assertTrue(testing.isEmpty());
+    }
+
+    @Test
+    public void rejectsNonMonotonePriorities() {
+        MinPQ<String> testing = createMinPQ();
+        assertThrows(IllegalArgumentException.class, () -> testing.add("negative", -1.0));
+        assertThrows(IllegalArgumentException.class, () -> testing.add("nan", Double.NaN));
+        testing.add("a", 10.0);
+        testing.add("b", 20.0);
+        assertEquals("a", testing.removeMin());
+        assertThrows(IllegalArgumentException.class, () -> testing.add("c", 5.0));
+        assertThrows(IllegalArgumentException.class, () -> testing.changePriority("b", 5.0));
+        assertFalse(testing.contains("c"));
+        assertEquals(20.0, testing.getPriority("b"));
+        testing.changePriority("b", 10.0);
+        assertEquals("b", testing.removeMin());
+    }
+}
@@ -1,5 +1,7 @@
 package minpq;
 
+import java.util.Map;
+
 /**
  * Tests for the {@link OptimizedHeapMinPQ} class.
  *
@@ -11,4 +13,8 @@ public class OptimizedHeapMinPQTests extends MinPQTests {
         return new OptimizedHeapMinPQ<>();
     }
 
+    @Override
+    public <E> MinPQ<E> createMinPQ(Map<E, Double> elementsAndPriorities) {
+        return new OptimizedHeapMinPQ<>(elementsAndPriorities);
+    }
 }
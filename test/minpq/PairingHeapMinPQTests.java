@@ -0,0 +1,13 @@
+package minpq;
+
+/**
+ * Tests for the {@link PairingHeapMinPQ} class.
+ *
+ * @see PairingHeapMinPQ
+ */
+public class PairingHeapMinPQTests extends MinPQTests {
+    @Override
+    public <E> MinPQ<E> createMinPQ() {
+        return new PairingHeapMinPQ<>();
+    }
+}
@@ -0,0 +1,23 @@
+package minpq;
+
+/**
+ * Tests for the {@link RadixHeapMinPQ} class.
+ *
+ * @see RadixHeapMinPQ
+ */
+public class RadixHeapMinPQTests extends MonotoneMinPQTests {
+    @Override
+    public <E> MinPQ<E> createMinPQ() {
+        return new RadixHeapMinPQ<>();
+    }
+
+    @Override
+    public void fifoTieBreaking() {
+        // Disable this inherited test since RadixHeapMinPQ does not break ties in first-in-first-out order
+    }
+
+    @Override
+    public void fifoTieBreakingAfterChangePriority() {
+        // Disable this inherited test since RadixHeapMinPQ does not break ties in first-in-first-out order
+    }
+}
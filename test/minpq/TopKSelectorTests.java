@@ -0,0 +1,88 @@
+package minpq;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the {@link TopKSelector} class.
+ *
+ * @see TopKSelector
+ */
+public class TopKSelectorTests {
+
+    @Test
+    void sameAsRemoveMin() {
+        Map<Integer, Double> elementsAndPriorities = new HashMap<>();
+        Random random = new Random(373);
+        for (int i = 0; i < 1000; i += 1) {
+            elementsAndPriorities.put(i, random.nextDouble());
+        }
+        for (int k : new int[]{0, 1, 2, 10, 999, 1000, 1005}) {
+            List<Integer> expected = new DoubleMapMinPQ<>(elementsAndPriorities).removeMin(k);
+            assertEquals(expected, TopKSelector.select(elementsAndPriorities, k), "k = " + k);
+        }
+    }
+
+    @Test
+    void sameAsRemoveMinWithTies() {
+        // Few distinct priority values, so ties straddle the boundary of every k
+        Map<Integer, Double> elementsAndPriorities = new LinkedHashMap<>();
+        Random random = new Random(373);
+        for (int i = 0; i < 1000; i += 1) {
+            elementsAndPriorities.put(random.nextInt(100000), (double) random.nextInt(10));
+        }
+        for (int k : new int[]{1, 5, 10, 99, 100, 101, 500, 1000}) {
+            List<Integer> expected = new DoubleMapMinPQ<>(elementsAndPriorities).removeMin(k);
+            assertEquals(expected, TopKSelector.select(elementsAndPriorities, k), "k = " + k);
+        }
+    }
+
+    @Test
+    void tiesInOfferedOrder() {
+        TopKSelector<String> selector = new TopKSelector<>(3);
+        for (String element : new String[]{"a", "b", "c", "d", "e"}) {
+            selector.offer(element, 1.0);
+        }
+        // Equal priority values keep the earliest offered elements, so consecutive pages never overlap
+        assertEquals(List.of("a", "b", "c"), selector.toSortedList());
+        assertTrue(selector.offer("f", 0.5));
+        assertEquals(List.of("f", "a", "b"), selector.toSortedList());
+    }
+
+    @Test
+    void largeKGrowsAsNeeded() {
+        TopKSelector<Integer> selector = new TopKSelector<>(Integer.MAX_VALUE);
+        for (int i = 100; i > 0; i -= 1) {
+            assertTrue(selector.offer(i, i));
+        }
+        assertEquals(100, selector.size());
+        assertEquals(1, selector.toSortedList().getFirst());
+        assertEquals(100, selector.toSortedList().getLast());
+    }
+
+    @Test
+    void offerKeepsLowestPriorities() {
+        TopKSelector<String> selector = new TopKSelector<>(2);
+        assertTrue(selector.offer("c", 3.0));
+        assertTrue(selector.offer("d", 4.0));
+        assertFalse(selector.offer("e", 5.0));
+        assertTrue(selector.offer("a", 1.0));
+        assertTrue(selector.offer("b", 2.0));
+        assertFalse(selector.offer("f", 2.0));
+        assertEquals(2, selector.size());
+        assertEquals(List.of("a", "b"), selector.toSortedList());
+        // Returning the results does not remove them
+        assertEquals(List.of("a", "b"), selector.toSortedList());
+    }
+
+    @Test
+    void zeroOrNegativeK() {
+        TopKSelector<String> selector = new TopKSelector<>(0);
+        assertFalse(selector.offer("a", 1.0));
+        assertEquals(List.of(), selector.toSortedList());
+        assertThrows(IllegalArgumentException.class, () -> new TopKSelector<>(-1));
+    }
+}
@@ -1,8 +1,19 @@
 package seamfinding;
 
+import graphs.Edge;
+import graphs.Graph;
 import graphs.shortestpaths.DijkstraSolver;
+import graphs.shortestpaths.LazyDijkstraSolver;
 import graphs.shortestpaths.ToposortDAGSolver;
+import minpq.IntMinPQAdapter;
+import minpq.RadixHeapMinPQ;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 /**
  * Tests for the {@link AdjacencyListSeamFinder} class.
@@ -22,6 +33,57 @@ public class AdjacencyListSeamFinderTests {
         }
     }
 
+    /**
+     * Tests using the {@link DijkstraSolver} implementation with an {@link IntMinPQAdapter} perimeter.
+     */
+    @Nested
+    public class UsingDijkstraSolverWithIntMinPQ extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new AdjacencyListSeamFinder((graph, start) ->
+                    new DijkstraSolver<>(graph, start, new IntMinPQAdapter<>()));
+        }
+    }
+
+    /**
+     * Tests using the {@link DijkstraSolver} implementation with a monotone {@link RadixHeapMinPQ} perimeter.
+     */
+    @Nested
+    public class UsingDijkstraSolverWithRadixHeapMinPQ extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new AdjacencyListSeamFinder((graph, start) ->
+                    new DijkstraSolver<>(graph, start, new RadixHeapMinPQ<>()));
+        }
+    }
+
+    /**
+     * Tests using the {@link LazyDijkstraSolver} implementation.
+     */
+    @Nested
+    public class UsingLazyDijkstraSolver extends SeamFinderTests {
+        @Override
+        public SeamFinder createSeamFinder() {
+            return new AdjacencyListSeamFinder(LazyDijkstraSolver::new);
+        }
+
+        @Test
+        void staleEntryStatistics() {
+            // The direct edge to "a" is pushed first, then superseded by the shorter path through "b"
+            Map<String, List<Edge<String>>> edges = Map.of(
+                    "s", List.of(new Edge<>("s", "a", 5.0), new Edge<>("s", "b", 1.0)),
+                    "b", List.of(new Edge<>("b", "a", 1.0)),
+                    "a", List.of()
+            );
+            Graph<String> graph = edges::get;
+            LazyDijkstraSolver<String> solver = new LazyDijkstraSolver<>(graph, "s");
+            assertEquals(List.of("s", "b", "a"), solver.solution("a"));
+            assertEquals(4, solver.pushes());
+            assertEquals(1, solver.stalePops());
+            assertEquals(2, solver.maxHeapSize());
+        }
+    }
+
     /**
      * Tests using the {@link ToposortDAGSolver} implementation.
      */